@@ -14,16 +14,24 @@ package org.assertj.assertions.generator;
 
 import static com.google.common.collect.Sets.newHashSet;
 import static java.lang.String.format;
+import static java.util.stream.Collectors.toMap;
 import static org.apache.commons.lang3.StringUtils.capitalize;
 import static org.apache.commons.lang3.StringUtils.containsWhitespace;
 import static org.apache.commons.lang3.StringUtils.isEmpty;
 import static org.apache.commons.lang3.StringUtils.isNotBlank;
 import static org.apache.commons.lang3.StringUtils.remove;
+import static org.apache.commons.lang3.StringUtils.removeEnd;
 import static org.apache.commons.lang3.StringUtils.replace;
+import static org.apache.commons.lang3.StringUtils.substringBeforeLast;
 import static org.assertj.assertions.generator.Template.Type.ABSTRACT_ASSERT_CLASS;
 import static org.assertj.assertions.generator.Template.Type.ASSERT_CLASS;
+import static org.assertj.assertions.generator.Template.Type.FIELD_BY_FIELD_COMPARISON;
+import static org.assertj.assertions.generator.Template.Type.HAS_FOR_LIST;
 import static org.assertj.assertions.generator.Template.Type.HIERARCHICAL_ASSERT_CLASS;
-import static org.assertj.assertions.generator.util.ClassUtil.getTypeDeclaration;
+import static org.assertj.assertions.generator.Template.Type.IS_FOR_LIST;
+import static org.assertj.assertions.generator.Template.Type.LIST_ASSERT_CLASS;
+import static org.assertj.assertions.generator.Template.Type.SNAPSHOT;
+import static org.assertj.assertions.generator.util.ClassUtil.getPredicatePrefix;
 import static org.assertj.assertions.generator.util.ClassUtil.getTypeNameWithoutDots;
 import static org.assertj.assertions.generator.util.ClassUtil.isJavaLangType;
 import static org.assertj.assertions.generator.util.ClassUtil.packageOf;
@@ -31,29 +39,65 @@ import static org.assertj.assertions.generator.util.ClassUtil.packageOf;
 import java.io.File;
 import java.io.FileWriter;
 import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.lang.reflect.Field;
+import java.lang.reflect.Method;
+import java.net.URISyntaxException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
 import java.nio.file.Paths;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
 import java.util.Comparator;
+import java.util.Deque;
+import java.util.EnumMap;
+import java.util.EnumSet;
+import java.util.HashMap;
 import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
 import java.util.Objects;
 import java.util.Set;
 import java.util.SortedSet;
+import java.util.TreeMap;
 import java.util.TreeSet;
 import java.util.regex.Matcher;
 import java.util.regex.Pattern;
 
+import jdk.jfr.Event;
+
 import org.apache.commons.lang3.StringUtils;
 import org.apache.commons.lang3.Validate;
 import org.assertj.assertions.generator.Template.Type;
 import org.assertj.assertions.generator.description.ClassDescription;
+import org.assertj.assertions.generator.description.CompactClassDescription;
+import org.assertj.assertions.generator.description.CompactDataDescription;
 import org.assertj.assertions.generator.description.DataDescription;
 import org.assertj.assertions.generator.description.FieldDescription;
 import org.assertj.assertions.generator.description.GetterDescription;
+import org.assertj.assertions.generator.description.converter.ClassToClassDescriptionConverter;
+import org.assertj.assertions.generator.jfr.FileWriteEvent;
+import org.assertj.assertions.generator.jfr.TemplateRenderingEvent;
 
+import com.google.common.io.BaseEncoding;
+import com.google.common.io.ByteStreams;
+import com.google.common.primitives.Ints;
 import com.google.common.reflect.TypeToken;
 
 public class BaseAssertionGenerator implements AssertionGenerator, AssertionsEntryPointGenerator {
 
-  static final String TEMPLATES_DIR = "templates" + File.separator;
+  /**
+   * The directory of the default templates, relative to the working directory or to the classpath.
+   */
+  public static final String TEMPLATES_DIR = "templates" + File.separator;
   private static final String IMPORT_LINE = "import %s;%s";
   private static final String PREDICATE = "${predicate}";
   private static final String PREDICATE_NEG = "${neg_predicate}";
@@ -78,11 +122,38 @@ public class BaseAssertionGenerator implements AssertionGenerator, AssertionsEnt
   private static final String MYSELF = "${myself}";
   private static final String ELEMENT_TYPE = "${elementType}";
   private static final String ELEMENT_ASSERT_TYPE = "${elementAssertType}";
+  private static final String KEY_TYPE = "${keyType}";
+  private static final String VALUE_TYPE = "${valueType}";
   private static final String ALL_ASSERTIONS_ENTRY_POINTS = "${all_assertions_entry_points}";
   private static final String IMPORTS = "${imports}";
   private static final String THROWS = "${throws}";
   private static final String THROWS_JAVADOC = "${throws_javadoc}";
+  private static final String FIELD_BY_FIELD_COMPARISONS = "${field_by_field_comparisons}";
+  private static final String CUSTOM_LIST_ASSERTION_CLASS = "${custom_list_assertion_class}";
+  private static final String LIST_NAME = "${list_name}";
+  private static final String PREDICATE_WITH_UPPERCASE_FIRST_CHAR = "${Predicate}";
+  private static final String PREDICATE_FOR_ALL = "${Predicate_for_all}";
+  private static final String PREDICATE_FOR_COUNT = "${Predicate_for_count}";
+  private static final String ELEMENT_PROPERTY_EQUALS = "${element_property_equals}";
+  private static final String ALL_REGISTRATIONS = "${all_registrations}";
+  private static final String ASSERTIONS_REGISTRY_CLASS = "${assertions_registry_class}";
+  private static final String DEFAULT_ASSERTIONS_REGISTRY_CLASS_NAME = "AssertionsRegistry";
+  private static final String SNAPSHOT_VALUES = "${snapshot_values}";
+  private static final String SNAPSHOT_FIELDS = "${snapshot_fields}";
+  private static final String SNAPSHOT_PARAMETERS = "${snapshot_parameters}";
+  private static final String SNAPSHOT_ASSIGNMENTS = "${snapshot_assignments}";
+  private static final String SNAPSHOT_ACCESSORS = "${snapshot_accessors}";
+  private static final String SNAPSHOT_EQUALS = "${snapshot_equals}";
+  private static final String SNAPSHOT_HASH_CODE_VALUES = "${snapshot_hash_code_values}";
+  private static final String SNAPSHOT_TO_STRING = "${snapshot_to_string}";
   private static final String LINE_SEPARATOR = "\n";
+  // predicate prefixes of the collection assertions: allAreRookie, haveRookieCount
+  private static final Map<String, String> PLURAL_PREDICATE_PREFIXES = Map.of("is", "are", "isNot", "areNot",
+                                                                              "was", "were", "wasNot", "wereNot",
+                                                                              "has", "have", "doesNotHave", "doNotHave");
+  private static final Map<String, String> COUNTED_PREDICATE_PREFIXES = Map.of("is", "", "isNot", "Not",
+                                                                               "was", "Been", "wasNot", "NotBeen",
+                                                                               "has", "", "doesNotHave", "No");
 
   private static final Comparator<String> ORDER_BY_INCREASING_LENGTH = Comparator.comparingInt(String::length);
 
@@ -164,7 +235,21 @@ public class BaseAssertionGenerator implements AssertionGenerator, AssertionsEnt
    * @see Character#isJavaIdentifierPart
    */
   private static final Pattern CLASS_NAME_PATTERN = Pattern
-                                                           .compile("(?m)^public class[\\s]+(?<CLASSNAME>\\p{javaJavaIdentifierStart}\\p{javaJavaIdentifierPart}*)\\b");
+                                                           .compile("(?m)^public (?:final )?class[\\s]+(?<CLASSNAME>\\p{javaJavaIdentifierStart}\\p{javaJavaIdentifierPart}*)\\b");
+
+  /**
+   * Matches the declaration of a java class inside an user template up to its opening brace, capturing its extends and
+   * implements clauses, it is used to make entry point delegate classes extend each other.
+   */
+  private static final Pattern CLASS_DECLARATION_PATTERN = Pattern
+                                                                 .compile("(?m)^public (?<FINAL>final )?class[\\s]+(?<CLASSNAME>\\p{javaJavaIdentifierStart}\\p{javaJavaIdentifierPart}*)(?<EXTENDS>\\s+extends\\s+[^{]+?)?(?<IMPLEMENTS>\\s+implements\\s+[^{]+?)?\\s*\\{");
+
+  /**
+   * Matches the declaration of an entry point method rendered from an user template up to its opening brace, capturing
+   * its name and parameters, it is used to make the entry point class call the entry points of its delegate classes.
+   */
+  private static final Pattern ENTRY_POINT_METHOD_DECLARATION_PATTERN = Pattern
+                                                                          .compile("(?m)^\\s*public\\s+(?<STATIC>static\\s+)?[^(;=]*?(?<NAME>\\p{javaJavaIdentifierStart}\\p{javaJavaIdentifierPart}*)\\s*\\((?<PARAMETERS>[^)]*)\\)[^{;]*\\{");
 
   private static final Set<TypeToken<?>> EMPTY_HIERARCHY = new HashSet<>();
 
@@ -178,6 +263,18 @@ public class BaseAssertionGenerator implements AssertionGenerator, AssertionsEnt
   private TemplateRegistry templateRegistry;// the pattern to search for
   private boolean generateAssertionsForAllFields = false;
   private String generatedAssertionsPackage = null;
+  // names of the types for which isEqualFieldByFieldTo assertions are generated, null if disabled
+  private Set<String> fieldByFieldComparisonTypeNames = null;
+  // the descriptions of the compared types, by name, to know the exceptions of the comparators delegated to
+  private Map<String, CompactClassDescription> fieldByFieldComparisonDescriptions = new HashMap<>();
+  private boolean generateListAssertions = false;
+  private boolean generateAssertThatAny = false;
+  private boolean generateSnapshots = false;
+  // entry points split in independent delegate classes, disabled by default
+  private boolean splitEntryPointsByPackage = false;
+  private int maxEntryPointClassesPerDelegate = 0;
+  private GenerationListener generationListener = GenerationListener.NO_OP;
+  private GenerationCache generationCache = null;
 
   /**
    * Creates a new <code>{@link BaseAssertionGenerator}</code> with default templates directory.
@@ -197,6 +294,20 @@ public class BaseAssertionGenerator implements AssertionGenerator, AssertionsEnt
     templateRegistry = DefaultTemplateRegistryProducer.create(templatesDirectory);
   }
 
+  /**
+   * Creates a new <code>{@link BaseAssertionGenerator}</code> with the given templates, this avoids reading again the
+   * templates files when several generators are created, for example one per generation request.
+   * <p>
+   * The given templates are copied so that templates registered with {@link #register(Template)} are only used by this
+   * generator.
+   *
+   * @param templateRegistry the templates to use
+   */
+  public BaseAssertionGenerator(TemplateRegistry templateRegistry) {
+    this.templateRegistry = new TemplateRegistry();
+    this.templateRegistry.putAll(templateRegistry);
+  }
+
   public void setDirectoryWhereAssertionFilesAreGenerated(File targetBaseDirectory) {
     this.targetBaseDirectory = targetBaseDirectory;
   }
@@ -210,6 +321,312 @@ public class BaseAssertionGenerator implements AssertionGenerator, AssertionsEnt
     this.generatedAssertionsPackage = generatedAssertionsPackage;
   }
 
+  /**
+   * Enables the generation of <code>isEqualFieldByFieldTo</code> assertions and their field by field comparator for the
+   * given types.
+   * <p>
+   * The generated comparator reads properties with direct calls, properties whose type belongs to the given types are
+   * compared with the comparator generated for their type, the other properties with <code>Objects.deepEquals</code>.
+   * Non public fields are not compared as they would require reflection. Each pair of compared objects is compared
+   * once so that cyclic object graphs are supported.
+   * <p>
+   * The given types are described with the default {@link ClassToClassDescriptionConverter} so that a comparator also
+   * declares the exceptions of the comparators it delegates to.
+   *
+   * @param types the types to generate field by field comparison for, null or empty to disable it (the default).
+   */
+  public void setGenerateFieldByFieldComparisonFor(Set<TypeToken<?>> types) {
+    if (types == null || types.isEmpty()) {
+      setGenerateFieldByFieldComparisonForDescriptions(null);
+      return;
+    }
+    ClassToClassDescriptionConverter converter = new ClassToClassDescriptionConverter();
+    List<CompactClassDescription> classDescriptions = new ArrayList<>();
+    for (TypeToken<?> type : types) {
+      classDescriptions.add(CompactClassDescription.of(converter.convertToClassDescription(type)));
+    }
+    setGenerateFieldByFieldComparisonForDescriptions(classDescriptions);
+  }
+
+  /**
+   * Same as {@link #setGenerateFieldByFieldComparisonFor(Set)} from the descriptions of the types, e.g. the ones of a
+   * {@link GenerationSession} or decoded ones, a comparator then also declares the exceptions of the comparators it
+   * delegates to, they are resolved from the given descriptions when the comparator is generated.
+   *
+   * @param classDescriptions the descriptions of the types to generate field by field comparison for, null or empty to
+   *          disable it (the default).
+   */
+  public void setGenerateFieldByFieldComparisonForDescriptions(Collection<CompactClassDescription> classDescriptions) {
+    if (classDescriptions == null || classDescriptions.isEmpty()) {
+      fieldByFieldComparisonTypeNames = null;
+      fieldByFieldComparisonDescriptions = new HashMap<>();
+      return;
+    }
+    // compared by name to render decoded class descriptions too
+    fieldByFieldComparisonDescriptions = classDescriptions.stream()
+                                                          .collect(toMap(CompactClassDescription::getTypeName,
+                                                                         classDescription -> classDescription,
+                                                                         (first, second) -> first));
+    fieldByFieldComparisonTypeNames = new HashSet<>(fieldByFieldComparisonDescriptions.keySet());
+  }
+
+  /**
+   * Enables the generation of collection assertion classes like <code>PlayerListAssert</code> in the assertions entry
+   * points, an <code>assertThatPlayerList(Iterable&lt;? extends Player&gt;)</code> method is then added for each class.
+   * <p>
+   * The collection assertion classes are generated with {@link #generateListAssertionFor(ClassDescription)}.
+   *
+   * @param generateListAssertions true to reference collection assertion classes from the entry points, false by default.
+   */
+  public void setGenerateListAssertions(boolean generateListAssertions) {
+    this.generateListAssertions = generateListAssertions;
+  }
+
+  /**
+   * Enables the generation of an <code>assertThatAny(Object)</code> method (<code>thenAny(Object)</code> for BDD) in the
+   * assertions entry points, it creates the custom assertions of the given object runtime class.
+   * <p>
+   * It relies on the assertions registry class to generate with
+   * {@link #generateAssertionsRegistryClassFor(Set, String)} in the same package as the entry points.
+   *
+   * @param generateAssertThatAny true to generate <code>assertThatAny(Object)</code> methods, false by default.
+   */
+  public void setGenerateAssertThatAny(boolean generateAssertThatAny) {
+    this.generateAssertThatAny = generateAssertThatAny;
+  }
+
+  /**
+   * Enables the generation of a <code>snapshot()</code> method in the concrete assertion classes, it reads once all the
+   * properties of the actual object and returns them in an immutable <code>Snapshot</code> holder with the same
+   * accessor names as the actual object, repeated assertions on the snapshot do not evaluate again the getters.
+   *
+   * @param generateSnapshots true to generate <code>snapshot()</code> methods, false by default.
+   */
+  public void setGenerateSnapshots(boolean generateSnapshots) {
+    this.generateSnapshots = generateSnapshots;
+  }
+
+  /**
+   * Splits the assertions entry points of {@link #generateAssertionsEntryPointClassesFor(Set, AssertionsEntryPointType,
+   * String)} into one delegate class per package of the asserted classes, e.g. <code>Assertions_com_nba</code>.
+   * <p>
+   * Delegate classes are generated from the entry point class template and don't depend on each other, the entry point
+   * class calling their entry points, so that each delegate class compiles on its own. Changing the classes of a package
+   * only changes its delegate class and the entry point class.
+   *
+   * @param splitEntryPointsByPackage true to generate a delegate class per package, false by default.
+   */
+  public void setSplitEntryPointsByPackage(boolean splitEntryPointsByPackage) {
+    this.splitEntryPointsByPackage = splitEntryPointsByPackage;
+  }
+
+  /**
+   * Limits the number of classes having entry points in each entry point delegate class, the delegate classes being
+   * numbered, e.g. <code>Assertions_1</code>, <code>Assertions_2</code>, ... (per package if
+   * {@link #setSplitEntryPointsByPackage(boolean)} is enabled).
+   *
+   * @param maxEntryPointClassesPerDelegate the maximum number of classes per delegate class, 0 for no limit (the
+   *          default).
+   * @see #setSplitEntryPointsByPackage(boolean)
+   */
+  public void setMaxEntryPointClassesPerDelegate(int maxEntryPointClassesPerDelegate) {
+    Validate.isTrue(maxEntryPointClassesPerDelegate >= 0, "The maximum number of classes per delegate '%s' must not be negative",
+                    maxEntryPointClassesPerDelegate);
+    this.maxEntryPointClassesPerDelegate = maxEntryPointClassesPerDelegate;
+  }
+
+  /**
+   * Sets the listener notified of the time spent rendering templates, resolving imports and writing files.
+   *
+   * @param generationListener the listener to notify, must be thread safe if assertions are generated by several threads.
+   */
+  public void setGenerationListener(GenerationListener generationListener) {
+    this.generationListener = generationListener;
+  }
+
+  /**
+   * Sets the cache of the assertion files generated by
+   * {@link #generateCustomAssertionsFor(TypeToken, Set, boolean, GenerationSession)}, cached assertion files being
+   * copied instead of describing the class and rendering its assertions again.
+   *
+   * @param generationCache the cache to use, null (the default) to disable caching.
+   */
+  public void setGenerationCache(GenerationCache generationCache) {
+    this.generationCache = generationCache;
+  }
+
+  /**
+   * Generates all the assertion files of the given type: the abstract assertions in hierarchical mode, the concrete
+   * ones and the list ones if {@link #setGenerateListAssertions(boolean) enabled}.
+   * <p>
+   * If a {@link #setGenerationCache(GenerationCache) generation cache} is set, the files cached with the
+   * {@link #cacheKeyFor(TypeToken, Set, boolean, ClassToClassDescriptionConverter) key} of the given type are restored
+   * without describing it, otherwise the type is described by the given session and its generated files are cached.
+   *
+   * @param type the type to generate assertions for.
+   * @param allClasses all the classes assertions are generated for, used in hierarchical mode.
+   * @param hierarchical whether hierarchical assertions are generated.
+   * @param session the session describing the given type.
+   * @return the generated or restored files, in their generation order.
+   * @throws IOException if something went wrong when creating or caching the assertion files.
+   */
+  public File[] generateCustomAssertionsFor(TypeToken<?> type, Set<TypeToken<?>> allClasses, boolean hierarchical,
+                                            GenerationSession session) throws IOException {
+    GenerationCache cache = generationCache;
+    String cacheKey = null;
+    if (cache != null) {
+      cacheKey = cacheKeyFor(type, allClasses, hierarchical, session.getConverter());
+      // cached assertions don't need the class to be described, only its package
+      File directory = getDirectoryWhereAssertionFilesAreGeneratedFor(new ClassDescription(type));
+      List<File> cachedFiles = cache.restore(cacheKey, directory);
+      if (cachedFiles != null) return cachedFiles.toArray(new File[0]);
+    }
+    long start = System.nanoTime();
+    CompactClassDescription classDescription = session.describe(type);
+    generationListener.phaseCompleted(GenerationPhase.CLASS_DESCRIPTION, null,
+                                      classDescription.getFullyQualifiedClassName(), System.nanoTime() - start);
+    List<File> generatedFiles = new ArrayList<>();
+    if (hierarchical) {
+      generatedFiles.addAll(Arrays.asList(generateHierarchicalCustomAssertionFor(classDescription, allClasses)));
+    } else {
+      generatedFiles.add(generateCustomAssertionFor(classDescription));
+    }
+    if (generateListAssertions) generatedFiles.add(generateListAssertionFor(classDescription));
+    if (cache != null) cache.store(cacheKey, generatedFiles);
+    return generatedFiles.toArray(new File[0]);
+  }
+
+  /**
+   * Returns the key of the assertion files generated for the given type in a {@link GenerationCache}, that is the
+   * digest of everything they are generated from: this generator class, version and options, the templates, the class
+   * files of the type and its supertypes and the supertypes of its properties types (e.g. to know whether they are
+   * iterable), the exceptions of the field by field comparators it delegates to and the converter configuration.
+   * <p>
+   * Computing the key does not describe the given type, which is what the cache saves along with the rendering.
+   *
+   * @param type the type to generate assertions for.
+   * @param allClasses all the classes assertions are generated for, used in hierarchical mode to know which
+   *          supertypes have assertions.
+   * @param hierarchical whether hierarchical assertions are generated.
+   * @param converter the converter describing the given type.
+   * @return the cache key, an hexadecimal SHA-256 digest.
+   */
+  public String cacheKeyFor(TypeToken<?> type, Set<TypeToken<?>> allClasses, boolean hierarchical,
+                            ClassToClassDescriptionConverter converter) {
+    MessageDigest digest = sha256();
+    update(digest, getClass().getName(), GeneratorFingerprint.VALUE, System.getProperty("java.specification.version"),
+           String.valueOf(hierarchical), String.valueOf(generatedAssertionsPackage),
+           String.valueOf(generateAssertionsForAllFields), String.valueOf(generateListAssertions),
+           String.valueOf(generateSnapshots), String.valueOf(fieldByFieldComparisonTypeNames == null ? null
+               : new TreeSet<>(fieldByFieldComparisonTypeNames)));
+    // the annotations select the getters of the described classes
+    update(digest, converter.getClass().getName());
+    Set<Class<?>> includedAnnotations = converter.getAnnotationConfiguration().includedAnnotations();
+    update(digest, includedAnnotations.stream().map(Class::getName).sorted().toArray(String[]::new));
+    for (Template template : new TreeMap<>(templateRegistry).values()) {
+      update(digest, template.getType().name(), template.getContent());
+    }
+    if (fieldByFieldComparisonTypeNames != null && fieldByFieldComparisonTypeNames.contains(type.toString())) {
+      // the comparator declares the exceptions of the comparators it delegates to
+      for (CompactClassDescription comparedType : new TreeMap<>(fieldByFieldComparisonDescriptions).values()) {
+        update(digest, comparedType.getTypeName());
+        for (CompactDataDescription getter : comparedType.getGettersDescriptions()) {
+          update(digest, getter.getExceptions().toArray(new String[0]));
+        }
+      }
+    }
+    update(digest, type.toString());
+    // supertypes order is not deterministic, they are sorted by name
+    for (Class<?> superType : sortedRawTypesOf(type)) {
+      update(digest, superType.getName(), String.valueOf(hierarchical && allClasses.contains(TypeToken.of(superType))));
+      digest.update(classFileOf(superType));
+      // properties whose type becomes iterable, comparable ... get different assertions
+      Set<String> propertyTypes = new TreeSet<>();
+      for (Method method : superType.getDeclaredMethods()) {
+        propertyTypes.add(superTypesOf(method.getGenericReturnType()));
+      }
+      for (Field field : superType.getDeclaredFields()) {
+        propertyTypes.add(superTypesOf(field.getGenericType()));
+      }
+      update(digest, propertyTypes.toArray(new String[0]));
+    }
+    return BaseEncoding.base16().lowerCase().encode(digest.digest());
+  }
+
+  /**
+   * Same as {@link #cacheKeyFor(TypeToken, Set, boolean, ClassToClassDescriptionConverter)} for types described by the
+   * default converter.
+   *
+   * @param type the type to generate assertions for.
+   * @param allClasses all the classes assertions are generated for, used in hierarchical mode to know which
+   *          supertypes have assertions.
+   * @param hierarchical whether hierarchical assertions are generated.
+   * @return the cache key, an hexadecimal SHA-256 digest.
+   */
+  public String cacheKeyFor(TypeToken<?> type, Set<TypeToken<?>> allClasses, boolean hierarchical) {
+    return cacheKeyFor(type, allClasses, hierarchical, new ClassToClassDescriptionConverter());
+  }
+
+  private static String superTypesOf(java.lang.reflect.Type type) {
+    return type.getTypeName() + sortedRawTypesOf(TypeToken.of(type));
+  }
+
+  private static List<Class<?>> sortedRawTypesOf(TypeToken<?> type) {
+    List<Class<?>> rawTypes = new ArrayList<>(type.getTypes().rawTypes());
+    rawTypes.sort(Comparator.comparing(Class::getName));
+    return rawTypes;
+  }
+
+  private static byte[] classFileOf(Class<?> clazz) {
+    // JDK classes are identified by the java version
+    if (clazz.getClassLoader() == null || clazz.isArray()) return new byte[0];
+    String className = clazz.getName();
+    try (InputStream classFile = clazz.getResourceAsStream(className.substring(className.lastIndexOf('.') + 1) + ".class")) {
+      return classFile == null ? new byte[0] : ByteStreams.toByteArray(classFile);
+    } catch (IOException e) {
+      throw new UncheckedIOException("Failed to read the class file of " + className, e);
+    }
+  }
+
+  private static void update(MessageDigest digest, String... values) {
+    for (String value : values) {
+      // length prefixed to avoid ambiguities between ("ab", "c") and ("a", "bc")
+      digest.update(Ints.toByteArray(value.length()));
+      digest.update(value.getBytes(StandardCharsets.UTF_8));
+    }
+  }
+
+  private static MessageDigest sha256() {
+    try {
+      return MessageDigest.getInstance("SHA-256");
+    } catch (NoSuchAlgorithmException e) {
+      // every JDK supports SHA-256
+      throw new IllegalStateException(e);
+    }
+  }
+
+  /**
+   * Identifies the generator code: its implementation version if known, the digest of its jar otherwise, e.g. for
+   * snapshot builds.
+   */
+  private static final class GeneratorFingerprint {
+
+    private static final String VALUE = fingerprint();
+
+    private static String fingerprint() {
+      String version = BaseAssertionGenerator.class.getPackage().getImplementationVersion();
+      if (version != null && !version.endsWith("-SNAPSHOT")) return version;
+      try {
+        Path codeSource = Paths.get(BaseAssertionGenerator.class.getProtectionDomain().getCodeSource().getLocation().toURI());
+        byte[] code = Files.isRegularFile(codeSource) ? Files.readAllBytes(codeSource)
+            : classFileOf(BaseAssertionGenerator.class);
+        return BaseEncoding.base16().lowerCase().encode(sha256().digest(code));
+      } catch (IOException | URISyntaxException | RuntimeException e) {
+        return String.valueOf(version);
+      }
+    }
+  }
+
   private void checkGivenPackageIsValid(String generatedAssertionsPackage) {
     Validate.isTrue(isNotBlank(generatedAssertionsPackage), "The given package '%s' must not be blank",
                     generatedAssertionsPackage);
@@ -219,21 +636,61 @@ public class BaseAssertionGenerator implements AssertionGenerator, AssertionsEnt
 
   @Override
   public File generateCustomAssertionFor(ClassDescription classDescription) throws IOException {
+    return generateCustomAssertionFor(CompactClassDescription.of(classDescription));
+  }
+
+  /**
+   * Same as {@link #generateCustomAssertionFor(ClassDescription)} from a compact class description.
+   *
+   * @param classDescription the {@link CompactClassDescription} used to generate the assertions class.
+   * @return the custom assertion java file for the given class
+   * @throws IOException if something went wrong when creating the assertion file.
+   */
+  public File generateCustomAssertionFor(CompactClassDescription classDescription) throws IOException {
     // Assertion content
     String assertionFileContent = generateCustomAssertionContentFor(classDescription);
     // Create the assertion file in targetBaseDirectory + either the given package or in the class to assert package
     String directoryWhereToCreateAssertFiles = getDirectoryWhereToCreateAssertFilesFor(classDescription);
     buildDirectory(directoryWhereToCreateAssertFiles);
-    return createFile(assertionFileContent, classDescription.getAssertClassFilename(), directoryWhereToCreateAssertFiles);
+    return createFile(assertionFileContent, classDescription.getAssertClassFilename(), directoryWhereToCreateAssertFiles,
+                      classDescription.getFullyQualifiedClassName());
+  }
+
+  /**
+   * Returns the directory where the assertion classes of the given class are generated, taking into account the
+   * generated assertions package if one was given.
+   *
+   * @param classDescription the description of the class to generate assertions for.
+   * @return the directory where the assertion classes of the given class are generated.
+   */
+  public File getDirectoryWhereAssertionFilesAreGeneratedFor(ClassDescription classDescription) {
+    return new File(getDirectoryWhereToCreateAssertFilesFor(classDescription));
   }
 
   private String getDirectoryWhereToCreateAssertFilesFor(ClassDescription classDescription) {
     return getDirectoryPathCorrespondingToPackage(determinePackageName(classDescription));
   }
 
+  private String getDirectoryWhereToCreateAssertFilesFor(CompactClassDescription classDescription) {
+    return getDirectoryPathCorrespondingToPackage(determinePackageName(classDescription));
+  }
+
   @Override
   public File[] generateHierarchicalCustomAssertionFor(ClassDescription classDescription,
                                                        Set<TypeToken<?>> allClasses) throws IOException {
+    return generateHierarchicalCustomAssertionFor(CompactClassDescription.of(classDescription), allClasses);
+  }
+
+  /**
+   * Same as {@link #generateHierarchicalCustomAssertionFor(ClassDescription, Set)} from a compact class description.
+   *
+   * @param classDescription the {@link CompactClassDescription} used to generate the assertions class.
+   * @param allClasses set of all classes that we are currently generating assertions for.
+   * @return the files of the abstract base assertion and of the concrete final assertion.
+   * @throws IOException if something went wrong when creating the assertion files.
+   */
+  public File[] generateHierarchicalCustomAssertionFor(CompactClassDescription classDescription,
+                                                       Set<TypeToken<?>> allClasses) throws IOException {
     // Assertion content
     String[] assertionFileContent = generateHierarchicalCustomAssertionContentFor(classDescription, allClasses);
     // Create the assertion file in targetBaseDirectory + either the given package or in the class to assert package
@@ -243,14 +700,33 @@ public class BaseAssertionGenerator implements AssertionGenerator, AssertionsEnt
     File[] assertionClassFiles = new File[2];
     final String concreteAssertClassFileName = classDescription.getAssertClassFilename();
     final String abstractAssertClassFileName = classDescription.getAbstractAssertClassFilename();
-    assertionClassFiles[0] = createFile(assertionFileContent[0], abstractAssertClassFileName, directoryWhereToCreateAssertFiles);
-    assertionClassFiles[1] = createFile(assertionFileContent[1], concreteAssertClassFileName, directoryWhereToCreateAssertFiles);
+    final String subject = classDescription.getFullyQualifiedClassName();
+    assertionClassFiles[0] = createFile(assertionFileContent[0], abstractAssertClassFileName, directoryWhereToCreateAssertFiles,
+                                        subject);
+    assertionClassFiles[1] = createFile(assertionFileContent[1], concreteAssertClassFileName, directoryWhereToCreateAssertFiles,
+                                        subject);
     return assertionClassFiles;
   }
 
   @Override
   public String[] generateHierarchicalCustomAssertionContentFor(ClassDescription classDescription,
                                                                 Set<TypeToken<?>> classes) {
+    return generateHierarchicalCustomAssertionContentFor(CompactClassDescription.of(classDescription), classes);
+  }
+
+  /**
+   * Same as {@link #generateHierarchicalCustomAssertionContentFor(ClassDescription, Set)} from a compact class
+   * description.
+   *
+   * @param classDescription the {@link CompactClassDescription} used to generate the assertions class.
+   * @param classes set of all classes that we are currently generating assertions for.
+   * @return the contents of the abstract base assertion and of the concrete final assertion.
+   */
+  public String[] generateHierarchicalCustomAssertionContentFor(CompactClassDescription classDescription,
+                                                                Set<TypeToken<?>> classes) {
+    final String subject = classDescription.getFullyQualifiedClassName();
+    long start = System.nanoTime();
+    TemplateRenderingEvent renderingEvent = begin(new TemplateRenderingEvent());
     // use abstract class template first
     String abstractAssertClassContent = templateRegistry.getTemplate(ABSTRACT_ASSERT_CLASS).getContent();
     StringBuilder abstractAssertClassContentBuilder = new StringBuilder(abstractAssertClassContent);
@@ -258,33 +734,55 @@ public class BaseAssertionGenerator implements AssertionGenerator, AssertionsEnt
     // generate assertion method for each property with a public getter or field
     generateAssertionsForDeclaredGettersOf(abstractAssertClassContentBuilder, classDescription);
     generateAssertionsForDeclaredFieldsOf(abstractAssertClassContentBuilder, classDescription);
+    generateFieldByFieldComparisonFor(abstractAssertClassContentBuilder, classDescription);
 
     // close class with }
     abstractAssertClassContentBuilder.append(LINE_SEPARATOR).append("}").append(LINE_SEPARATOR);
+    String abstractAssertClassFileContent = fillAbstractAssertClassTemplate(abstractAssertClassContentBuilder.toString(),
+                                                                            classDescription, classes);
+    templateRendered(ABSTRACT_ASSERT_CLASS, subject, abstractAssertClassFileContent, start, renderingEvent);
 
+    start = System.nanoTime();
+    renderingEvent = begin(new TemplateRenderingEvent());
     // use concrete class template for the subclass of the generated abstract assert
     String concreteAssertClassContent = templateRegistry.getTemplate(HIERARCHICAL_ASSERT_CLASS).getContent();
+    if (generateSnapshots) {
+      // the snapshot is only generated in the concrete class as each class of the hierarchy would need its own Snapshot type
+      StringBuilder concreteAssertClassContentBuilder = new StringBuilder(substringBeforeLast(concreteAssertClassContent, "}"));
+      generateSnapshotFor(concreteAssertClassContentBuilder, classDescription);
+      concreteAssertClassContent = concreteAssertClassContentBuilder.append(LINE_SEPARATOR).append("}")
+                                                                    .append(LINE_SEPARATOR).toString();
+    }
 
     // return a String array with the actual generated content of the assertion class hierarchy
     String[] assertionClassesContent = new String[2];
-    assertionClassesContent[0] = fillAbstractAssertClassTemplate(abstractAssertClassContentBuilder.toString(), classDescription,
-                                                                 classes);
+    assertionClassesContent[0] = abstractAssertClassFileContent;
     assertionClassesContent[1] = fillConcreteAssertClassTemplate(concreteAssertClassContent, classDescription);
+    templateRendered(HIERARCHICAL_ASSERT_CLASS, subject, assertionClassesContent[1], start, renderingEvent);
     return assertionClassesContent;
   }
 
-  private String switchToComparableAssertIfPossible(String content, ClassDescription classDescription) {
+  private String switchToComparableAssertIfPossible(String content, CompactClassDescription classDescription) {
     return classDescription.implementsComparable()
         ? replace(content, "AbstractObjectAssert", "AbstractComparableAssert")
         : content;
   }
 
-  private String fillAbstractAssertClassTemplate(String abstractAssertClassTemplate, ClassDescription classDescription,
+  private String fillAbstractAssertClassTemplate(String abstractAssertClassTemplate,
+                                                 CompactClassDescription classDescription,
                                                  Set<TypeToken<?>> classes) {
     return fillAssertClassTemplate(abstractAssertClassTemplate, classDescription, classes, false);
   }
 
-  private String fillAssertClassTemplate(String template, ClassDescription classDescription,
+  private boolean isSuperTypeIn(Set<TypeToken<?>> classesHierarchy, CompactClassDescription classDescription) {
+    if (classDescription.getSuperTypeName() == null || classesHierarchy.isEmpty()) return false;
+    if (classDescription.getSuperType() != null) return classesHierarchy.contains(classDescription.getSuperType());
+    // decoded descriptions have no types, compare their super type name to the names of the classes of the hierarchy
+    String superTypeName = classDescription.getSuperTypeName();
+    return classesHierarchy.stream().anyMatch(type -> type.toString().equals(superTypeName));
+  }
+
+  private String fillAssertClassTemplate(String template, CompactClassDescription classDescription,
                                          Set<TypeToken<?>> classesHierarchy, boolean concrete) {
     // Add any AssertJ needed imports only, other types are used with their fully qualified names to avoid a compilation
     // error when two types have the same name.
@@ -313,10 +811,11 @@ public class BaseAssertionGenerator implements AssertionGenerator, AssertionsEnt
 
     // Add assertion supertype to imports if needed (for abstract assertions hierarchy)
     // we need a FQN if the parent class is in a different package than the child class, if not listNeededImports will optimize it
-    final String parentAssertClassName = classesHierarchy.contains(classDescription.getSuperType())
+    final boolean superTypeInHierarchy = isSuperTypeIn(classesHierarchy, classDescription);
+    final String parentAssertClassName = superTypeInHierarchy
         ? classDescription.getFullyQualifiedParentAssertClassName()
         : "org.assertj.core.api.AbstractObjectAssert";
-    if (classesHierarchy.contains(classDescription.getSuperType())) {
+    if (superTypeInHierarchy) {
       classesToImport.add(parentAssertClassName);
     }
 
@@ -335,7 +834,7 @@ public class BaseAssertionGenerator implements AssertionGenerator, AssertionsEnt
     template = replace(template, CLASS_TO_ASSERT, classDescription.getClassNameWithOuterClass());
     template = replace(template, SELF_TYPE, selfType);
     template = replace(template, MYSELF, myself);
-    String neededImports = listNeededImports(classesToImport, determinePackageName(classDescription));
+    String neededImports = listNeededImports(classesToImport, classDescription);
     template = replace(template, IMPORTS, neededImports.isEmpty() ? "" : LINE_SEPARATOR + neededImports);
 
     // in case the domain class is Comparable we want the assert class to inherit from AbstractComparableAssert
@@ -348,12 +847,33 @@ public class BaseAssertionGenerator implements AssertionGenerator, AssertionsEnt
     return generatedAssertionsPackage == null ? classDescription.getPackageName() : generatedAssertionsPackage;
   }
 
-  private String fillConcreteAssertClassTemplate(String template, ClassDescription classDescription) {
+  private String determinePackageName(CompactClassDescription classDescription) {
+    return generatedAssertionsPackage == null ? classDescription.getPackageName() : generatedAssertionsPackage;
+  }
+
+  // assertion classes are generated in the given package if any, entry points must reference them there
+  private String fullyQualifiedAssertClassNameOf(ClassDescription classDescription, String assertClassName) {
+    return determinePackageName(classDescription) + "." + assertClassName;
+  }
+
+  private String fillConcreteAssertClassTemplate(String template, CompactClassDescription classDescription) {
     return fillAssertClassTemplate(template, classDescription, EMPTY_HIERARCHY, true);
   }
 
   @Override
   public String generateCustomAssertionContentFor(ClassDescription classDescription) {
+    return generateCustomAssertionContentFor(CompactClassDescription.of(classDescription));
+  }
+
+  /**
+   * Same as {@link #generateCustomAssertionContentFor(ClassDescription)} from a compact class description.
+   *
+   * @param classDescription the {@link CompactClassDescription} used to generate the assertions class.
+   * @return the custom assertion content.
+   */
+  public String generateCustomAssertionContentFor(CompactClassDescription classDescription) {
+    long start = System.nanoTime();
+    TemplateRenderingEvent renderingEvent = begin(new TemplateRenderingEvent());
 
     // use class template first
     String classTemplateContent = templateRegistry.getTemplate(ASSERT_CLASS).getContent();
@@ -362,11 +882,190 @@ public class BaseAssertionGenerator implements AssertionGenerator, AssertionsEnt
     // generate assertion method for each property with a public getter
     generateAssertionsForGettersOf(assertionFileContentBuilder, classDescription);
     generateAssertionsForFieldsOf(assertionFileContentBuilder, classDescription);
+    generateFieldByFieldComparisonFor(assertionFileContentBuilder, classDescription);
+    if (generateSnapshots) generateSnapshotFor(assertionFileContentBuilder, classDescription);
 
     // close class with }
     assertionFileContentBuilder.append(LINE_SEPARATOR).append("}").append(LINE_SEPARATOR);
 
-    return fillConcreteAssertClassTemplate(assertionFileContentBuilder.toString(), classDescription);
+    String assertionFileContent = fillConcreteAssertClassTemplate(assertionFileContentBuilder.toString(), classDescription);
+    templateRendered(ASSERT_CLASS, classDescription.getFullyQualifiedClassName(), assertionFileContent,
+                     start, renderingEvent);
+    return assertionFileContent;
+  }
+
+  private void templateRendered(Type templateType, String subject, String content, long start,
+                                TemplateRenderingEvent renderingEvent) {
+    generationListener.phaseCompleted(GenerationPhase.TEMPLATE_RENDERING, templateType, subject, System.nanoTime() - start);
+    // only compute the event fields when it is recorded
+    if (renderingEvent.shouldCommit()) {
+      renderingEvent.className = subject;
+      renderingEvent.templateType = templateType.name();
+      renderingEvent.bytes = content.getBytes(StandardCharsets.UTF_8).length;
+      renderingEvent.commit();
+    }
+  }
+
+  private static <E extends Event> E begin(E event) {
+    event.begin();
+    return event;
+  }
+
+  /**
+   * Builds and returns the collection assertion java file for the given {@link ClassDescription}, for example
+   * <code>PlayerListAssert</code> for <code>Player</code>.
+   * <p>
+   * For each property, it provides <code>allHaveX</code>, <code>anyHaveX</code>, <code>noneHaveX</code> and
+   * <code>haveXCount</code> assertions (<code>allAreX</code>, <code>anyIsX</code>, <code>noneIsX</code> and
+   * <code>haveXCount</code> for an <code>isX</code> predicate) evaluated in a single pass over the actual elements.
+   *
+   * @param classDescription the {@link ClassDescription} used to generate the collection assertions class.
+   * @return the collection assertion java file for the given class
+   * @throws IOException if something went wrong when creating the assertion file.
+   */
+  public File generateListAssertionFor(ClassDescription classDescription) throws IOException {
+    return generateListAssertionFor(CompactClassDescription.of(classDescription));
+  }
+
+  /**
+   * Same as {@link #generateListAssertionFor(ClassDescription)} from a compact class description.
+   *
+   * @param classDescription the {@link CompactClassDescription} used to generate the collection assertions class.
+   * @return the collection assertion java file for the given class
+   * @throws IOException if something went wrong when creating the assertion file.
+   */
+  public File generateListAssertionFor(CompactClassDescription classDescription) throws IOException {
+    String listAssertionFileContent = generateListAssertionContentFor(classDescription);
+    String directoryWhereToCreateAssertFiles = getDirectoryWhereToCreateAssertFilesFor(classDescription);
+    buildDirectory(directoryWhereToCreateAssertFiles);
+    return createFile(listAssertionFileContent, classDescription.getListAssertClassFilename(),
+                      directoryWhereToCreateAssertFiles, classDescription.getFullyQualifiedClassName());
+  }
+
+  /**
+   * Builds and returns the collection assertion java file content for the given {@link ClassDescription}.
+   *
+   * @param classDescription the {@link ClassDescription} used to generate the collection assertions class.
+   * @return the collection assertion content.
+   * @see #generateListAssertionFor(ClassDescription)
+   */
+  public String generateListAssertionContentFor(ClassDescription classDescription) {
+    return generateListAssertionContentFor(CompactClassDescription.of(classDescription));
+  }
+
+  /**
+   * Same as {@link #generateListAssertionContentFor(ClassDescription)} from a compact class description.
+   *
+   * @param classDescription the {@link CompactClassDescription} used to generate the collection assertions class.
+   * @return the collection assertion content.
+   */
+  public String generateListAssertionContentFor(CompactClassDescription classDescription) {
+    long start = System.nanoTime();
+    TemplateRenderingEvent renderingEvent = begin(new TemplateRenderingEvent());
+    StringBuilder listAssertionContentBuilder = new StringBuilder(templateRegistry.getTemplate(LIST_ASSERT_CLASS)
+                                                                                  .getContent());
+    Set<String> countedPredicates = new HashSet<>();
+    for (CompactDataDescription getter : classDescription.getGettersDescriptions()) {
+      String assertionContent = declareExceptions(getter.getExceptions(), "element.${getter}() throws one.",
+                                                  listAssertionContentFor(getter, countedPredicates));
+      if (getter.isPredicate()) {
+        assertionContent = replace(assertionContent, PREDICATE, getter.getMemberName());
+      }
+      assertionContent = replace(assertionContent, PROPERTY_GETTER_CALL, getter.getMemberName());
+      assertionContent = replace(assertionContent, PROPERTY_WITH_UPPERCASE_FIRST_CHAR, capitalize(getter.getName()));
+      assertionContent = replace(assertionContent, PROPERTY_TYPE, listPropertyTypeOf(getter));
+      assertionContent = replace(assertionContent, PROPERTY_WITH_LOWERCASE_FIRST_CHAR, getter.getName());
+      assertionContent = replace(assertionContent, PROPERTY_WITH_SAFE, unclashName(getter.getName()));
+      listAssertionContentBuilder.append(assertionContent).append(LINE_SEPARATOR);
+    }
+    for (CompactDataDescription field : classDescription.getFieldsDescriptions()) {
+      // non public fields would need reflection to be read
+      if (!field.isPublic() || field.isReadByGetter()) continue;
+      String assertionContent = listAssertionContentFor(field, countedPredicates);
+      assertionContent = remove(assertionContent, THROWS);
+      assertionContent = remove(assertionContent, THROWS_JAVADOC);
+      String fieldName = field.getMemberName();
+      assertionContent = assertionContent.replace("element." + PROPERTY_GETTER_CALL + "()", "element." + fieldName);
+      assertionContent = assertionContent.replace("element." + PREDICATE + "()", "element." + fieldName);
+      if (field.isPredicate()) assertionContent = replace(assertionContent, PREDICATE, field.getPredicate());
+      assertionContent = replace(assertionContent, PROPERTY_WITH_UPPERCASE_FIRST_CHAR, capitalize(field.getName()));
+      assertionContent = replace(assertionContent, PROPERTY_TYPE, listPropertyTypeOf(field));
+      assertionContent = replace(assertionContent, PROPERTY_WITH_LOWERCASE_FIRST_CHAR, field.getName());
+      assertionContent = replace(assertionContent, PROPERTY_WITH_SAFE, unclashName(field.getName()));
+      listAssertionContentBuilder.append(assertionContent).append(LINE_SEPARATOR);
+    }
+    // close class with }
+    listAssertionContentBuilder.append(LINE_SEPARATOR).append("}").append(LINE_SEPARATOR);
+    String listAssertionContent = fillListAssertClassTemplate(listAssertionContentBuilder.toString(), classDescription);
+    templateRendered(LIST_ASSERT_CLASS, classDescription.getFullyQualifiedClassName(), listAssertionContent,
+                     start, renderingEvent);
+    return listAssertionContent;
+  }
+
+  private String listAssertionContentFor(CompactDataDescription fieldOrProperty, Set<String> countedPredicates) {
+    if (!fieldOrProperty.isPredicate()) {
+      return replace(templateRegistry.getTemplate(HAS_FOR_LIST).getContent(), ELEMENT_PROPERTY_EQUALS,
+                     elementPropertyEquals(fieldOrProperty));
+    }
+    String assertionContent = templateRegistry.getTemplate(IS_FOR_LIST).getContent();
+    String predicate = fieldOrProperty.getPredicate();
+    assertionContent = replace(assertionContent, PREDICATE_FOR_ALL, predicateForAll(predicate));
+    // hasGood and isGood would both count with haveGoodCount, the second one keeps its predicate: haveIsGoodCount
+    String predicateForCount = predicateForCount(predicate);
+    if (!countedPredicates.add(predicateForCount)) predicateForCount = capitalize(predicate);
+    assertionContent = replace(assertionContent, PREDICATE_FOR_COUNT, predicateForCount);
+    assertionContent = replace(assertionContent, PREDICATE_WITH_UPPERCASE_FIRST_CHAR, capitalize(predicate));
+    assertionContent = replace(assertionContent, PREDICATE_FOR_JAVADOC, fieldOrProperty.getPredicateForJavadoc());
+    assertionContent = replace(assertionContent, NEGATIVE_PREDICATE_FOR_JAVADOC,
+                               fieldOrProperty.getNegativePredicateForJavadoc());
+    assertionContent = replace(assertionContent, PREDICATE_FOR_FOR_ERROR_MESSAGE_PART1,
+                               fieldOrProperty.getPredicateForErrorMessagePart1());
+    return replace(assertionContent, PREDICATE_FOR_FOR_ERROR_MESSAGE_PART2,
+                   fieldOrProperty.getPredicateForErrorMessagePart2());
+  }
+
+  // isRookie -> allAreRookie, hasLid -> allHaveLid, canBeStacked -> allCanBeStacked
+  private static String predicateForAll(String predicate) {
+    String prefix = getPredicatePrefix(predicate);
+    if (prefix == null || !PLURAL_PREDICATE_PREFIXES.containsKey(prefix)) return capitalize(predicate);
+    return capitalize(PLURAL_PREDICATE_PREFIXES.get(prefix)) + predicate.substring(prefix.length());
+  }
+
+  // isRookie -> haveRookieCount, doesNotHaveLid -> haveNoLidCount, canBeStacked -> haveCanBeStackedCount
+  private static String predicateForCount(String predicate) {
+    String prefix = getPredicatePrefix(predicate);
+    if (prefix == null || !COUNTED_PREDICATE_PREFIXES.containsKey(prefix)) return capitalize(predicate);
+    return COUNTED_PREDICATE_PREFIXES.get(prefix) + predicate.substring(prefix.length());
+  }
+
+  // the list assertion class is not generic, the elements type variables are erased
+  private String listPropertyTypeOf(CompactDataDescription fieldOrProperty) {
+    return fieldOrProperty.refersToTypeVariable() ? "Object" : getTypeName(fieldOrProperty);
+  }
+
+  private static String elementPropertyEquals(CompactDataDescription fieldOrProperty) {
+    String elementValue = "element." + PROPERTY_GETTER_CALL + "()";
+    if (fieldOrProperty.isPrimitiveType() && fieldOrProperty.isRealNumberType()) {
+      return format("Double.compare(%s, %s) == 0", elementValue, PROPERTY_WITH_SAFE);
+    }
+    if (fieldOrProperty.isPrimitiveType()) return elementValue + " == " + PROPERTY_WITH_SAFE;
+    return format("Objects.deepEquals(%s, %s)", elementValue, PROPERTY_WITH_SAFE);
+  }
+
+  private String fillListAssertClassTemplate(String template, CompactClassDescription classDescription) {
+    TreeSet<String> classesToImport = new TreeSet<>();
+    // in case of nested class, we must only import the outer class !
+    classesToImport.add(classDescription.getFullyQualifiedOuterClassName());
+    classesToImport.add("org.assertj.core.api.AbstractObjectAssert");
+    if (template.contains("Objects.deepEquals")) classesToImport.add("java.util.Objects");
+
+    template = replace(template, PACKAGE, determinePackageName(classDescription));
+    template = replace(template, CUSTOM_LIST_ASSERTION_CLASS, classDescription.getListAssertClassName());
+    template = replace(template, CLASS_TO_ASSERT, classDescription.getClassNameWithOuterClass());
+    template = replace(template, SELF_TYPE, classDescription.getListAssertClassName());
+    template = replace(template, MYSELF, "this");
+    String neededImports = listNeededImports(classesToImport, classDescription);
+    return replace(template, IMPORTS, neededImports.isEmpty() ? "" : LINE_SEPARATOR + neededImports);
   }
 
   @Override
@@ -374,10 +1073,62 @@ public class BaseAssertionGenerator implements AssertionGenerator, AssertionsEnt
                                                             AssertionsEntryPointType assertionsEntryPointType,
                                                             String entryPointClassPackage) {
     if (noClassDescriptionsGiven(classDescriptionSet)) return "";
+    long start = System.nanoTime();
+    TemplateRenderingEvent renderingEvent = begin(new TemplateRenderingEvent());
     Template assertionEntryPointMethodTemplate = chooseAssertionEntryPointMethodTemplate(assertionsEntryPointType);
     Template assertionsEntryPointClassTemplate = chooseAssertionEntryPointClassTemplate(assertionsEntryPointType);
-    return generateAssertionsEntryPointClassContent(classDescriptionSet, assertionsEntryPointClassTemplate,
-                                                    assertionEntryPointMethodTemplate, entryPointClassPackage);
+    Template listAssertionEntryPointMethodTemplate = generateListAssertions
+        ? chooseListAssertionEntryPointMethodTemplate(assertionsEntryPointType)
+        : null;
+    Template anyAssertionEntryPointMethodTemplate = generateAssertThatAny
+        ? chooseAnyAssertionEntryPointMethodTemplate(assertionsEntryPointType)
+        : null;
+    String entryPointMethodsContent = generateAssertionEntryPointMethodsFor(entryPointsOf(classDescriptionSet),
+                                                                            assertionEntryPointMethodTemplate,
+                                                                            listAssertionEntryPointMethodTemplate);
+    String entryPointClassContent = generateAssertionsEntryPointClassContent(entryPointMethodsContent,
+                                                                             assertionsEntryPointClassTemplate,
+                                                                             anyAssertionEntryPointMethodTemplate,
+                                                                             entryPointClassPackageOf(classDescriptionSet,
+                                                                                                      entryPointClassPackage));
+    templateRendered(assertionsEntryPointClassTemplate.getType(),
+                     determineFileName(entryPointClassContent, assertionsEntryPointType), entryPointClassContent, start,
+                     renderingEvent);
+    return entryPointClassContent;
+  }
+
+  private Template chooseAnyAssertionEntryPointMethodTemplate(final AssertionsEntryPointType assertionsEntryPointType) {
+    switch (assertionsEntryPointType) {
+    case SOFT:
+    case JUNIT_SOFT:
+    case AUTO_CLOSEABLE_SOFT:
+      return templateRegistry.getTemplate(Type.SOFT_ANY_ENTRY_POINT_METHOD_ASSERTION);
+    case BDD:
+      return templateRegistry.getTemplate(Type.BDD_ANY_ENTRY_POINT_METHOD_ASSERTION);
+    case BDD_SOFT:
+    case JUNIT_BDD_SOFT:
+    case AUTO_CLOSEABLE_BDD_SOFT:
+      return templateRegistry.getTemplate(Type.BDD_SOFT_ANY_ENTRY_POINT_METHOD_ASSERTION);
+    default:
+      return templateRegistry.getTemplate(Type.ANY_ASSERTION_ENTRY_POINT);
+    }
+  }
+
+  private Template chooseListAssertionEntryPointMethodTemplate(final AssertionsEntryPointType assertionsEntryPointType) {
+    switch (assertionsEntryPointType) {
+    case SOFT:
+    case JUNIT_SOFT:
+    case AUTO_CLOSEABLE_SOFT:
+      return templateRegistry.getTemplate(Type.SOFT_LIST_ENTRY_POINT_METHOD_ASSERTION);
+    case BDD:
+      return templateRegistry.getTemplate(Type.BDD_LIST_ENTRY_POINT_METHOD_ASSERTION);
+    case BDD_SOFT:
+    case JUNIT_BDD_SOFT:
+    case AUTO_CLOSEABLE_BDD_SOFT:
+      return templateRegistry.getTemplate(Type.BDD_SOFT_LIST_ENTRY_POINT_METHOD_ASSERTION);
+    default:
+      return templateRegistry.getTemplate(Type.LIST_ASSERTION_ENTRY_POINT);
+    }
   }
 
   private Template chooseAssertionEntryPointMethodTemplate(final AssertionsEntryPointType assertionsEntryPointType) {
@@ -431,6 +1182,193 @@ public class BaseAssertionGenerator implements AssertionGenerator, AssertionsEnt
                                    entryPointClassPackage);
   }
 
+  /**
+   * Same as {@link #generateAssertionsEntryPointClassFor(Set, AssertionsEntryPointType, String)} but the entry points
+   * are split in delegate classes if {@link #setSplitEntryPointsByPackage(boolean)} or
+   * {@link #setMaxEntryPointClassesPerDelegate(int)} are enabled, the entry point class only calling them.
+   * <p>
+   * The delegate classes are generated from the entry point class template, named after the entry point class and
+   * generated in its package, they keep the template super class and don't depend on each other, e.g. for the standard
+   * entry point split by package:
+   *
+   * <pre>
+   * public class Assertions_com_nba {
+   *   public static com.nba.PlayerAssert assertThat(com.nba.Player actual) { ... }
+   * }
+   *
+   * public class Assertions_com_nba_team {
+   *   public static com.nba.team.TeamAssert assertThat(com.nba.team.Team actual) { ... }
+   * }
+   *
+   * public class Assertions {
+   *   public static com.nba.PlayerAssert assertThat(com.nba.Player actual) {
+   *     return Assertions_com_nba.assertThat(actual);
+   *   }
+   *   public static com.nba.team.TeamAssert assertThat(com.nba.team.Team actual) {
+   *     return Assertions_com_nba_team.assertThat(actual);
+   *   }
+   * }
+   * </pre>
+   *
+   * Soft assertions entry points are called on delegate instances created by the entry point class, which collects their
+   * errors. The <code>assertThatAny(Object)</code> entry point is generated in the entry point class.
+   *
+   * @param classDescriptionSet class descriptions
+   * @param assertionsEntryPointType entry point type
+   * @param entryPointClassPackage entry point class package name, determined from the given classes if null
+   * @return the generated delegate classes files followed by the entry point class file, empty if no classes are given.
+   * @throws IOException if a file can't be created.
+   */
+  public List<File> generateAssertionsEntryPointClassesFor(final Set<ClassDescription> classDescriptionSet,
+                                                           AssertionsEntryPointType assertionsEntryPointType,
+                                                           String entryPointClassPackage) throws IOException {
+    Map<AssertionsEntryPointType, List<File>> entryPointFiles = generateAssertionsEntryPointClassesFor(classDescriptionSet,
+                                                                                                     EnumSet.of(assertionsEntryPointType),
+                                                                                                     entryPointClassPackage);
+    return entryPointFiles.getOrDefault(assertionsEntryPointType, new ArrayList<>());
+  }
+
+  /**
+   * Same as {@link #generateAssertionsEntryPointClassesFor(Set, AssertionsEntryPointType, String)} for several entry
+   * point types at once, e.g. standard, BDD and soft assertions.
+   * <p>
+   * The given classes are sorted and their entry point names are resolved once for all the types, the entry point
+   * classes of each type are then rendered concurrently and written in the types order.
+   *
+   * @param classDescriptionSet class descriptions
+   * @param assertionsEntryPointTypes the entry point types to generate
+   * @param entryPointClassPackage entry point class package name, determined from the given classes if null
+   * @return the generated files of each type in the types order, the delegate classes files being followed by the entry
+   *         point class file, empty if no classes are given.
+   * @throws IOException if a file can't be created.
+   */
+  public Map<AssertionsEntryPointType, List<File>> generateAssertionsEntryPointClassesFor(final Set<ClassDescription> classDescriptionSet,
+                                                                                          Set<AssertionsEntryPointType> assertionsEntryPointTypes,
+                                                                                          String entryPointClassPackage) throws IOException {
+    Map<AssertionsEntryPointType, List<File>> entryPointFiles = new EnumMap<>(AssertionsEntryPointType.class);
+    if (noClassDescriptionsGiven(classDescriptionSet) || assertionsEntryPointTypes.isEmpty()) return entryPointFiles;
+    List<EntryPoint> entryPoints = entryPointsOf(classDescriptionSet);
+    String classPackage = entryPointClassPackageOf(classDescriptionSet, entryPointClassPackage);
+    // rendering only depends on the templates, files are written afterwards to keep a deterministic order
+    Map<AssertionsEntryPointType, Map<String, String>> entryPointContents;
+    entryPointContents = assertionsEntryPointTypes.parallelStream()
+                                                  .collect(toMap(type -> type,
+                                                                 type -> renderAssertionsEntryPointClasses(entryPoints, type,
+                                                                                                           classPackage)));
+    for (AssertionsEntryPointType assertionsEntryPointType : EnumSet.copyOf(assertionsEntryPointTypes)) {
+      List<File> files = new ArrayList<>();
+      for (Map.Entry<String, String> entryPointContent : entryPointContents.get(assertionsEntryPointType).entrySet()) {
+        files.add(createAssertionsFileFor(classDescriptionSet, entryPointContent.getValue(), entryPointContent.getKey(),
+                                          classPackage));
+      }
+      entryPointFiles.put(assertionsEntryPointType, files);
+    }
+    return entryPointFiles;
+  }
+
+  // file name -> content of the delegate classes if entry points are split, followed by the entry point class
+  private Map<String, String> renderAssertionsEntryPointClasses(List<EntryPoint> entryPoints,
+                                                                AssertionsEntryPointType assertionsEntryPointType,
+                                                                String classPackage) {
+    Template assertionEntryPointMethodTemplate = chooseAssertionEntryPointMethodTemplate(assertionsEntryPointType);
+    Template assertionsEntryPointClassTemplate = chooseAssertionEntryPointClassTemplate(assertionsEntryPointType);
+    Template listAssertionEntryPointMethodTemplate = generateListAssertions
+        ? chooseListAssertionEntryPointMethodTemplate(assertionsEntryPointType)
+        : null;
+    Template anyAssertionEntryPointMethodTemplate = generateAssertThatAny
+        ? chooseAnyAssertionEntryPointMethodTemplate(assertionsEntryPointType)
+        : null;
+    // the class name is not a template marker, looking for it in the template is enough
+    String entryPointClassName = removeEnd(determineFileName(assertionsEntryPointClassTemplate.getContent(),
+                                                             assertionsEntryPointType),
+                                           ".java");
+    Map<String, String> entryPointContents = new LinkedHashMap<>();
+    // delegate class name -> entry points of the delegate class
+    Map<String, List<EntryPoint>> delegates = new LinkedHashMap<>();
+    if (splitEntryPointsByPackage || maxEntryPointClassesPerDelegate > 0) {
+      for (Map.Entry<String, List<EntryPoint>> delegate : splitEntryPoints(entryPoints).entrySet()) {
+        String delegateClassName = entryPointClassName + "_" + delegate.getKey();
+        long start = System.nanoTime();
+        TemplateRenderingEvent renderingEvent = begin(new TemplateRenderingEvent());
+        String delegateMethodsContent = generateAssertionEntryPointMethodsFor(delegate.getValue(),
+                                                                              assertionEntryPointMethodTemplate,
+                                                                              listAssertionEntryPointMethodTemplate);
+        String delegateClassContent = generateAssertionsEntryPointClassContent(delegateMethodsContent,
+                                                                               assertionsEntryPointClassTemplate,
+                                                                               null, classPackage);
+        // delegates keep the template super class, e.g. SoftAssertions, none depends on another one
+        delegateClassContent = renameClass(delegateClassContent, entryPointClassName, delegateClassName);
+        delegateClassContent = extendClass(delegateClassContent, null, false);
+        templateRendered(assertionsEntryPointClassTemplate.getType(), delegateClassName + ".java", delegateClassContent,
+                         start, renderingEvent);
+        entryPointContents.put(delegateClassName + ".java", delegateClassContent);
+        delegates.put(delegateClassName, delegate.getValue());
+      }
+    }
+    // the entry point class calls the delegate classes entry points
+    long start = System.nanoTime();
+    TemplateRenderingEvent renderingEvent = begin(new TemplateRenderingEvent());
+    String entryPointMethodsContent = delegates.isEmpty()
+        ? generateAssertionEntryPointMethodsFor(entryPoints, assertionEntryPointMethodTemplate,
+                                                listAssertionEntryPointMethodTemplate)
+        : generateDelegatingEntryPointMethodsFor(delegates, assertionEntryPointMethodTemplate,
+                                                 listAssertionEntryPointMethodTemplate);
+    String entryPointClassContent = generateAssertionsEntryPointClassContent(entryPointMethodsContent,
+                                                                             assertionsEntryPointClassTemplate,
+                                                                             anyAssertionEntryPointMethodTemplate,
+                                                                             classPackage);
+    templateRendered(assertionsEntryPointClassTemplate.getType(), entryPointClassName + ".java", entryPointClassContent,
+                     start, renderingEvent);
+    entryPointContents.put(entryPointClassName + ".java", entryPointClassContent);
+    return entryPointContents;
+  }
+
+  // delegate class name suffix -> entry points of the delegate class, sorted by package
+  private Map<String, List<EntryPoint>> splitEntryPoints(List<EntryPoint> entryPoints) {
+    Map<String, List<EntryPoint>> entryPointsByPackage = new TreeMap<>();
+    for (EntryPoint entryPoint : entryPoints) {
+      String key = splitEntryPointsByPackage ? entryPoint.packageName.replace('.', '_') : "";
+      entryPointsByPackage.computeIfAbsent(key, k -> new ArrayList<>()).add(entryPoint);
+    }
+    Map<String, List<EntryPoint>> delegates = new LinkedHashMap<>();
+    for (Map.Entry<String, List<EntryPoint>> packageEntryPoints : entryPointsByPackage.entrySet()) {
+      int maxClasses = maxEntryPointClassesPerDelegate == 0 ? Integer.MAX_VALUE : maxEntryPointClassesPerDelegate;
+      int delegateNumber = 0;
+      List<EntryPoint> delegateEntryPoints = null;
+      for (EntryPoint entryPoint : packageEntryPoints.getValue()) {
+        if (delegateEntryPoints == null || delegateEntryPoints.size() == maxClasses) {
+          delegateNumber++;
+          delegateEntryPoints = new ArrayList<>();
+          String suffix = maxEntryPointClassesPerDelegate == 0 ? packageEntryPoints.getKey()
+              : packageEntryPoints.getKey().isEmpty() ? String.valueOf(delegateNumber)
+              : packageEntryPoints.getKey() + "_" + delegateNumber;
+          delegates.put(suffix, delegateEntryPoints);
+        }
+        delegateEntryPoints.add(entryPoint);
+      }
+    }
+    return delegates;
+  }
+
+  // renames the class and its constructors, references to classes with the same simple name in other packages are kept
+  private static String renameClass(String classContent, String className, String newClassName) {
+    return classContent.replaceAll("(?<![.\\p{javaJavaIdentifierPart}])" + Pattern.quote(className)
+                                   + "(?!\\p{javaJavaIdentifierPart})", Matcher.quoteReplacement(newClassName));
+  }
+
+  // replaces the extends clause of the class by the given super class if any, a delegate class can't be final
+  private static String extendClass(String classContent, String superClassName, boolean keepFinal) {
+    Matcher declaration = CLASS_DECLARATION_PATTERN.matcher(classContent);
+    if (!declaration.find()) return classContent;
+    String finalModifier = keepFinal && declaration.group("FINAL") != null ? "final " : "";
+    String extendsClause = superClassName != null ? " extends " + superClassName
+        : declaration.group("EXTENDS") != null ? declaration.group("EXTENDS") : "";
+    String implementsClause = declaration.group("IMPLEMENTS") != null ? declaration.group("IMPLEMENTS") : "";
+    String newDeclaration = "public " + finalModifier + "class " + declaration.group("CLASSNAME") + extendsClause
+                            + implementsClause + " {";
+    return classContent.substring(0, declaration.start()) + newDeclaration + classContent.substring(declaration.end());
+  }
+
   private String determineFileName(String assertionsEntryPointFileContent,
                                    AssertionsEntryPointType assertionsEntryPointType) {
     // expecting the class name to be here : "class <class name> "
@@ -441,24 +1379,85 @@ public class BaseAssertionGenerator implements AssertionGenerator, AssertionsEnt
     return assertionsEntryPointType.getFileName();
   }
 
-  private String generateAssertionsEntryPointClassContent(final Set<ClassDescription> classDescriptionSet,
+  private String generateAssertionsEntryPointClassContent(final String entryPointMethodsContent,
                                                           final Template entryPointAssertionsClassTemplate,
-                                                          final Template entryPointAssertionMethodTemplate,
-                                                          String entryPointClassPackage) {
+                                                          final Template anyEntryPointAssertionMethodTemplate,
+                                                          String classPackage) {
     String entryPointAssertionsClassContent = entryPointAssertionsClassTemplate.getContent();
     // resolve template markers
-    String classPackage = isEmpty(entryPointClassPackage)
-        ? determineBestEntryPointsAssertionsClassPackage(classDescriptionSet)
-        : entryPointClassPackage;
     entryPointAssertionsClassContent = replace(entryPointAssertionsClassContent, PACKAGE, classPackage);
 
-    String allEntryPointsAssertionContent = generateAssertionEntryPointMethodsFor(classDescriptionSet,
-                                                                                  entryPointAssertionMethodTemplate);
+    String allEntryPointsAssertionContent = entryPointMethodsContent;
+    if (anyEntryPointAssertionMethodTemplate != null) {
+      String assertionsRegistryClass = classPackage + "." + determineAssertionsRegistryClassName();
+      allEntryPointsAssertionContent += System.lineSeparator()
+                                        + replace(anyEntryPointAssertionMethodTemplate.getContent(),
+                                                  ASSERTIONS_REGISTRY_CLASS, assertionsRegistryClass);
+    }
     entryPointAssertionsClassContent = replace(entryPointAssertionsClassContent, ALL_ASSERTIONS_ENTRY_POINTS,
                                                allEntryPointsAssertionContent);
     return entryPointAssertionsClassContent;
   }
 
+  /**
+   * Generates the assertions registry class used by the <code>assertThatAny(Object)</code> entry points, it registers
+   * the custom assertions factory of each given class.
+   *
+   * @param classDescriptionSet the classes having custom assertions.
+   * @param entryPointClassPackage the registry class package, the same as the entry points one, determined from the
+   *          given classes if null.
+   * @return the assertions registry class file, null if no classes are given.
+   * @throws IOException if the file can't be created.
+   * @see #setGenerateAssertThatAny(boolean)
+   */
+  public File generateAssertionsRegistryClassFor(final Set<ClassDescription> classDescriptionSet,
+                                                 String entryPointClassPackage) throws IOException {
+    if (noClassDescriptionsGiven(classDescriptionSet)) return null;
+    String assertionsRegistryClassContent = generateAssertionsRegistryClassContentFor(classDescriptionSet,
+                                                                                      entryPointClassPackage);
+    return createAssertionsFileFor(classDescriptionSet, assertionsRegistryClassContent,
+                                   determineAssertionsRegistryClassName() + ".java", entryPointClassPackage);
+  }
+
+  /**
+   * Returns the content of the assertions registry class.
+   *
+   * @param classDescriptionSet the classes having custom assertions.
+   * @param entryPointClassPackage the registry class package, determined from the given classes if null.
+   * @return the assertions registry class content, empty if no classes are given.
+   * @see #generateAssertionsRegistryClassFor(Set, String)
+   */
+  public String generateAssertionsRegistryClassContentFor(final Set<ClassDescription> classDescriptionSet,
+                                                          String entryPointClassPackage) {
+    if (noClassDescriptionsGiven(classDescriptionSet)) return "";
+    long start = System.nanoTime();
+    TemplateRenderingEvent renderingEvent = begin(new TemplateRenderingEvent());
+    String classPackage = isEmpty(entryPointClassPackage)
+        ? determineBestEntryPointsAssertionsClassPackage(classDescriptionSet)
+        : entryPointClassPackage;
+    StringBuilder registrations = new StringBuilder();
+    for (ClassDescription classDescription : new TreeSet<>(classDescriptionSet)) {
+      String actualClass = classDescription.getFullyQualifiedClassNameWithoutGenerics();
+      String assertClass = fullyQualifiedAssertClassNameOf(classDescription, classDescription.getAssertClassName());
+      registrations.append(format("    register(%s.class, %s.class, actual -> new %s((%s) actual));%s", actualClass,
+                                  assertClass, assertClass, actualClass, LINE_SEPARATOR));
+    }
+    String content = templateRegistry.getTemplate(Type.ASSERTIONS_REGISTRY_CLASS).getContent();
+    content = replace(content, PACKAGE, classPackage);
+    // registrations end with a line separator already
+    content = replace(content, ALL_REGISTRATIONS + LINE_SEPARATOR, registrations.toString());
+    templateRendered(Type.ASSERTIONS_REGISTRY_CLASS, determineAssertionsRegistryClassName() + ".java", content, start,
+                     renderingEvent);
+    return content;
+  }
+
+  private String determineAssertionsRegistryClassName() {
+    // the registry class name can be changed by overriding its template
+    Matcher classNameMatcher = CLASS_NAME_PATTERN.matcher(templateRegistry.getTemplate(Type.ASSERTIONS_REGISTRY_CLASS)
+                                                                          .getContent());
+    return classNameMatcher.find() ? classNameMatcher.group("CLASSNAME") : DEFAULT_ASSERTIONS_REGISTRY_CLASS_NAME;
+  }
+
   /**
    * create the assertions entry point file, located in its package directory starting from targetBaseDirectory.
    * <p>
@@ -481,30 +1480,153 @@ public class BaseAssertionGenerator implements AssertionGenerator, AssertionsEnt
     String assertionsDirectory = getDirectoryPathCorrespondingToPackage(classPackage);
     // build any needed directories
     buildDirectory(assertionsDirectory);
-    return createFile(fileContent, fileName, assertionsDirectory);
+    return createFile(fileContent, fileName, assertionsDirectory, fileName);
   }
 
-  private String generateAssertionEntryPointMethodsFor(final Set<ClassDescription> classDescriptionSet,
-                                                       Template assertionEntryPointMethodTemplate) {
-    // sort ClassDescription according to their class name.
-    SortedSet<ClassDescription> sortedClassDescriptionSet = new TreeSet<>(classDescriptionSet);
-    // generate for each classDescription the entry point method, e.g. assertThat(MyClass) or then(MyClass)
+  private String generateAssertionEntryPointMethodsFor(final List<EntryPoint> entryPoints,
+                                                       Template assertionEntryPointMethodTemplate,
+                                                       Template listAssertionEntryPointMethodTemplate) {
     StringBuilder allAssertThatsContentBuilder = new StringBuilder();
     final String lineSeparator = System.lineSeparator();
-    for (ClassDescription classDescription : sortedClassDescriptionSet) {
+    for (String entryPointMethodContent : renderEntryPointMethods(entryPoints, assertionEntryPointMethodTemplate,
+                                                                  listAssertionEntryPointMethodTemplate)) {
+      allAssertThatsContentBuilder.append(lineSeparator).append(entryPointMethodContent);
+    }
+    return allAssertThatsContentBuilder.toString();
+  }
+
+  // same as generateAssertionEntryPointMethodsFor but each entry point calls the same entry point of its delegate class,
+  // static ones on the delegate class, soft ones on a delegate instance collecting its errors in the entry point class
+  private String generateDelegatingEntryPointMethodsFor(final Map<String, List<EntryPoint>> delegates,
+                                                        Template assertionEntryPointMethodTemplate,
+                                                        Template listAssertionEntryPointMethodTemplate) {
+    StringBuilder allAssertThatsContentBuilder = new StringBuilder();
+    final String lineSeparator = System.lineSeparator();
+    Set<String> delegateInstances = new LinkedHashSet<>();
+    for (Map.Entry<String, List<EntryPoint>> delegate : delegates.entrySet()) {
+      String delegateClassName = delegate.getKey();
+      for (String entryPointMethodContent : renderEntryPointMethods(delegate.getValue(), assertionEntryPointMethodTemplate,
+                                                                    listAssertionEntryPointMethodTemplate)) {
+        Matcher declaration = ENTRY_POINT_METHOD_DECLARATION_PATTERN.matcher(entryPointMethodContent);
+        int bodyEnd = entryPointMethodContent.lastIndexOf('}');
+        if (!declaration.find() || bodyEnd < declaration.end()) {
+          // not a method we can call, e.g. a custom template helper, it is kept as is
+          allAssertThatsContentBuilder.append(lineSeparator).append(entryPointMethodContent);
+          continue;
+        }
+        String delegateInstance = StringUtils.uncapitalize(delegateClassName);
+        boolean staticEntryPoint = declaration.group("STATIC") != null;
+        if (!staticEntryPoint) delegateInstances.add(delegateClassName);
+        allAssertThatsContentBuilder.append(lineSeparator)
+                                    .append(entryPointMethodContent, 0, declaration.end()).append(lineSeparator)
+                                    .append("    return ").append(staticEntryPoint ? delegateClassName : delegateInstance)
+                                    .append('.').append(declaration.group("NAME"))
+                                    .append('(').append(argumentsOf(declaration.group("PARAMETERS"))).append(");")
+                                    .append(lineSeparator).append("  ")
+                                    .append(entryPointMethodContent, bodyEnd, entryPointMethodContent.length());
+      }
+    }
+    if (delegateInstances.isEmpty()) return allAssertThatsContentBuilder.toString();
+    // the soft assertions proxies created by the delegates report their errors to this instance
+    StringBuilder delegateInstancesContentBuilder = new StringBuilder();
+    StringBuilder initializerContentBuilder = new StringBuilder();
+    for (String delegateClassName : delegateInstances) {
+      String delegateInstance = StringUtils.uncapitalize(delegateClassName);
+      delegateInstancesContentBuilder.append(lineSeparator)
+                                     .append(format("  private final %s %s = new %s();", delegateClassName,
+                                                    delegateInstance, delegateClassName));
+      initializerContentBuilder.append(format("    %s.setDelegate(this);", delegateInstance)).append(lineSeparator);
+    }
+    return delegateInstancesContentBuilder.append(lineSeparator)
+                                          .append("  {").append(lineSeparator)
+                                          .append(initializerContentBuilder)
+                                          .append("  }").append(lineSeparator)
+                                          .append(allAssertThatsContentBuilder).toString();
+  }
+
+  // generates for each class the entry point method, e.g. assertThat(MyClass) or then(MyClass), followed by its
+  // collection entry point method if any
+  private List<String> renderEntryPointMethods(final List<EntryPoint> entryPoints,
+                                               Template assertionEntryPointMethodTemplate,
+                                               Template listAssertionEntryPointMethodTemplate) {
+    List<String> entryPointMethodContents = new ArrayList<>();
+    for (EntryPoint entryPoint : entryPoints) {
       String assertionEntryPointMethodContent = assertionEntryPointMethodTemplate.getContent();
+      assertionEntryPointMethodContent = replace(assertionEntryPointMethodContent, CUSTOM_ASSERTION_CLASS,
+                                                 entryPoint.assertClass);
+      assertionEntryPointMethodContent = replace(assertionEntryPointMethodContent, CLASS_TO_ASSERT,
+                                                 entryPoint.classToAssert);
+      entryPointMethodContents.add(assertionEntryPointMethodContent);
+      if (listAssertionEntryPointMethodTemplate != null) {
+        String listEntryPointMethodContent = listAssertionEntryPointMethodTemplate.getContent();
+        listEntryPointMethodContent = replace(listEntryPointMethodContent, CUSTOM_LIST_ASSERTION_CLASS,
+                                              entryPoint.listAssertClass);
+        listEntryPointMethodContent = replace(listEntryPointMethodContent, LIST_NAME, entryPoint.listName);
+        listEntryPointMethodContent = replace(listEntryPointMethodContent, CLASS_TO_ASSERT, entryPoint.classToAssert);
+        entryPointMethodContents.add(listEntryPointMethodContent);
+      }
+    }
+    return entryPointMethodContents;
+  }
+
+  // the names of the given method parameters, e.g. "actual" for "java.util.Map<K, V> actual"
+  private static String argumentsOf(String parameters) {
+    List<String> arguments = new ArrayList<>();
+    int typeArgumentsDepth = 0;
+    int parameterStart = 0;
+    for (int i = 0; i <= parameters.length(); i++) {
+      char c = i < parameters.length() ? parameters.charAt(i) : ',';
+      if (c == '<') typeArgumentsDepth++;
+      else if (c == '>') typeArgumentsDepth--;
+      else if (c == ',' && typeArgumentsDepth == 0) {
+        String[] parameterTokens = parameters.substring(parameterStart, i).trim().split("[\\s.]+");
+        if (!parameterTokens[0].isEmpty()) arguments.add(parameterTokens[parameterTokens.length - 1]);
+        parameterStart = i + 1;
+      }
+    }
+    return String.join(", ", arguments);
+  }
+
+  private List<EntryPoint> entryPointsOf(final Set<ClassDescription> classDescriptionSet) {
+    // sort ClassDescription according to their class name.
+    List<EntryPoint> entryPoints = new ArrayList<>(classDescriptionSet.size());
+    for (ClassDescription classDescription : new TreeSet<>(classDescriptionSet)) {
+      entryPoints.add(new EntryPoint(classDescription));
+    }
+    return entryPoints;
+  }
+
+  private String entryPointClassPackageOf(final Set<ClassDescription> classDescriptionSet,
+                                          String entryPointClassPackage) {
+    return isEmpty(entryPointClassPackage)
+        ? determineBestEntryPointsAssertionsClassPackage(classDescriptionSet)
+        : entryPointClassPackage;
+  }
+
+  /**
+   * The names used by the entry point methods of a class, resolved once for all the entry point types.
+   */
+  private final class EntryPoint {
+
+    private final String packageName;
+    private final String assertClass;
+    private final String classToAssert;
+    private final String listAssertClass;
+    private final String listName;
+
+    private EntryPoint(ClassDescription classDescription) {
+      packageName = classDescription.getPackageName();
       // resolve class assert (ex: PlayerAssert)
       // in case of inner classes like Movie.PublicCategory, class assert will be MoviePublicCategoryAssert
-      assertionEntryPointMethodContent = replace(assertionEntryPointMethodContent, CUSTOM_ASSERTION_CLASS,
-                                                 classDescription.getFullyQualifiedAssertClassName());
+      assertClass = fullyQualifiedAssertClassNameOf(classDescription, classDescription.getAssertClassName());
       // resolve class (ex: Player)
       // in case of inner classes like Movie.PublicCategory use class name with outer class i.e. Movie.PublicCategory.
-      assertionEntryPointMethodContent = replace(assertionEntryPointMethodContent, CLASS_TO_ASSERT,
-                                                 classDescription.getFullyQualifiedClassName());
-
-      allAssertThatsContentBuilder.append(lineSeparator).append(assertionEntryPointMethodContent);
+      classToAssert = classDescription.getFullyQualifiedClassName();
+      // collection entry points need a distinct name, assertThat(Iterable<? extends X>) would clash for each X.
+      String listAssertClassName = classDescription.getListAssertClassName();
+      listAssertClass = fullyQualifiedAssertClassNameOf(classDescription, listAssertClassName);
+      listName = removeEnd(listAssertClassName, "Assert");
     }
-    return allAssertThatsContentBuilder.toString();
   }
 
   private String determineBestEntryPointsAssertionsClassPackage(final Set<ClassDescription> classDescriptionSet) {
@@ -531,13 +1653,18 @@ public class BaseAssertionGenerator implements AssertionGenerator, AssertionsEnt
     return targetBaseDirectory + File.separator + packageName.replace('.', File.separatorChar);
   }
 
-  private static String listNeededImports(Set<String> typesToImport, String classPackage) {
+  private String listNeededImports(Set<String> typesToImport, CompactClassDescription classDescription) {
+    long start = System.nanoTime();
+    String classPackage = determinePackageName(classDescription);
     StringBuilder imports = new StringBuilder();
     for (String type : typesToImport) {
       if (isImportNeeded(type, classPackage)) {
         imports.append(format(IMPORT_LINE, type, LINE_SEPARATOR));
       }
     }
+    generationListener.phaseCompleted(GenerationPhase.IMPORT_RESOLUTION, null,
+                                      classDescription.getFullyQualifiedClassName(),
+                                      System.nanoTime() - start);
     return imports.toString();
   }
 
@@ -554,36 +1681,82 @@ public class BaseAssertionGenerator implements AssertionGenerator, AssertionsEnt
     }
   }
 
-  protected void generateAssertionsForGettersOf(StringBuilder contentBuilder, ClassDescription classDescription) {
+  protected void generateAssertionsForGettersOf(StringBuilder contentBuilder,
+                                                CompactClassDescription classDescription) {
     generateAssertionsForGetters(contentBuilder, classDescription.getGettersDescriptions(), classDescription);
   }
 
+  /**
+   * @deprecated use {@link #generateAssertionsForGettersOf(StringBuilder, CompactClassDescription)} instead.
+   */
+  @Deprecated
+  protected void generateAssertionsForGettersOf(StringBuilder contentBuilder, ClassDescription classDescription) {
+    generateAssertionsForGettersOf(contentBuilder, CompactClassDescription.of(classDescription));
+  }
+
   protected void generateAssertionsForDeclaredGettersOf(StringBuilder contentBuilder,
-                                                        ClassDescription classDescription) {
+                                                        CompactClassDescription classDescription) {
     generateAssertionsForGetters(contentBuilder, classDescription.getDeclaredGettersDescriptions(), classDescription);
   }
 
-  protected void generateAssertionsForGetters(StringBuilder assertionsForGetters, Set<GetterDescription> getters,
-                                              ClassDescription classDescription) {
-    for (GetterDescription getter : getters) {
+  /**
+   * @deprecated use {@link #generateAssertionsForDeclaredGettersOf(StringBuilder, CompactClassDescription)} instead.
+   */
+  @Deprecated
+  protected void generateAssertionsForDeclaredGettersOf(StringBuilder contentBuilder,
+                                                        ClassDescription classDescription) {
+    generateAssertionsForDeclaredGettersOf(contentBuilder, CompactClassDescription.of(classDescription));
+  }
+
+  protected void generateAssertionsForGetters(StringBuilder assertionsForGetters, List<CompactDataDescription> getters,
+                                              CompactClassDescription classDescription) {
+    for (CompactDataDescription getter : getters) {
       String assertionContent = assertionContentForProperty(getter, classDescription);
       assertionsForGetters.append(assertionContent).append(LINE_SEPARATOR);
     }
   }
 
-  protected void generateAssertionsForFieldsOf(StringBuilder contentBuilder, ClassDescription classDescription) {
+  /**
+   * @deprecated use {@link #generateAssertionsForGetters(StringBuilder, List, CompactClassDescription)} instead.
+   */
+  @Deprecated
+  protected void generateAssertionsForGetters(StringBuilder assertionsForGetters, Set<GetterDescription> getters,
+                                              ClassDescription classDescription) {
+    generateAssertionsForGetters(assertionsForGetters, compact(getters, classDescription),
+                                 CompactClassDescription.of(classDescription));
+  }
+
+  protected void generateAssertionsForFieldsOf(StringBuilder contentBuilder, CompactClassDescription classDescription) {
     generateAssertionsForFields(contentBuilder, classDescription.getFieldsDescriptions(), classDescription);
   }
 
+  /**
+   * @deprecated use {@link #generateAssertionsForFieldsOf(StringBuilder, CompactClassDescription)} instead.
+   */
+  @Deprecated
+  protected void generateAssertionsForFieldsOf(StringBuilder contentBuilder, ClassDescription classDescription) {
+    generateAssertionsForFieldsOf(contentBuilder, CompactClassDescription.of(classDescription));
+  }
+
   protected void generateAssertionsForDeclaredFieldsOf(StringBuilder contentBuilder,
-                                                       ClassDescription classDescription) {
+                                                       CompactClassDescription classDescription) {
     generateAssertionsForFields(contentBuilder, classDescription.getDeclaredFieldsDescriptions(),
                                 classDescription);
   }
 
+  /**
+   * @deprecated use {@link #generateAssertionsForDeclaredFieldsOf(StringBuilder, CompactClassDescription)} instead.
+   */
+  @Deprecated
+  protected void generateAssertionsForDeclaredFieldsOf(StringBuilder contentBuilder,
+                                                       ClassDescription classDescription) {
+    generateAssertionsForDeclaredFieldsOf(contentBuilder, CompactClassDescription.of(classDescription));
+  }
+
   protected void generateAssertionsForFields(StringBuilder assertionsForPublicFields,
-                                             Set<FieldDescription> fields, ClassDescription classDescription) {
-    for (FieldDescription field : fields) {
+                                             List<CompactDataDescription> fields,
+                                             CompactClassDescription classDescription) {
+    for (CompactDataDescription field : fields) {
       if (generateAssertionsForAllFields || field.isPublic()) {
         String assertionContent = assertionContentForField(field, classDescription);
         // assertion can be empty if we have a getter for the field
@@ -594,15 +1767,175 @@ public class BaseAssertionGenerator implements AssertionGenerator, AssertionsEnt
     }
   }
 
-  private String assertionContentForField(FieldDescription field, ClassDescription classDescription) {
+  /**
+   * @deprecated use {@link #generateAssertionsForFields(StringBuilder, List, CompactClassDescription)} instead.
+   */
+  @Deprecated
+  protected void generateAssertionsForFields(StringBuilder assertionsForPublicFields,
+                                             Set<FieldDescription> fields, ClassDescription classDescription) {
+    generateAssertionsForFields(assertionsForPublicFields, compact(fields, classDescription),
+                                CompactClassDescription.of(classDescription));
+  }
+
+  // the compact descriptions of the given properties of the given class, for the deprecated hooks
+  private static List<CompactDataDescription> compact(Set<? extends DataDescription> properties,
+                                                      ClassDescription classDescription) {
+    List<CompactDataDescription> compactProperties = new ArrayList<>(properties.size());
+    for (DataDescription property : properties) {
+      compactProperties.add(CompactDataDescription.of(property, classDescription));
+    }
+    return compactProperties;
+  }
+
+  protected void generateFieldByFieldComparisonFor(StringBuilder contentBuilder,
+                                                   CompactClassDescription classDescription) {
+    if (fieldByFieldComparisonTypeNames == null
+        || !fieldByFieldComparisonTypeNames.contains(classDescription.getTypeName())) return;
+    StringBuilder comparisons = new StringBuilder();
+    Set<String> exceptions = new LinkedHashSet<>();
+    for (CompactDataDescription getter : classDescription.getGettersDescriptions()) {
+      comparisons.append(fieldByFieldComparisonOf(getter, getter.getMemberName() + "()", classDescription));
+      exceptions.addAll(getter.getExceptions());
+    }
+    for (CompactDataDescription field : classDescription.getFieldsDescriptions()) {
+      // non public fields would need reflection to be read
+      if (!field.isPublic() || field.isReadByGetter()) continue;
+      comparisons.append(fieldByFieldComparisonOf(field, field.getMemberName(), classDescription));
+    }
+    // the comparators delegated to are called by this one
+    exceptions.addAll(delegatedFieldByFieldComparatorsExceptionsOf(classDescription));
+    String comparisonContent = templateRegistry.getTemplate(FIELD_BY_FIELD_COMPARISON).getContent();
+    comparisonContent = replace(comparisonContent, FIELD_BY_FIELD_COMPARISONS, comparisons.toString());
+    comparisonContent = declareExceptions(exceptions, "one of the compared properties throws it.", comparisonContent);
+    contentBuilder.append(comparisonContent).append(LINE_SEPARATOR);
+  }
+
+  // the exceptions of the comparators the comparator of the given class delegates to, directly or not
+  private Set<String> delegatedFieldByFieldComparatorsExceptionsOf(CompactClassDescription classDescription) {
+    Set<String> exceptions = new LinkedHashSet<>();
+    Set<String> visitedTypeNames = new HashSet<>();
+    visitedTypeNames.add(classDescription.getTypeName());
+    Deque<CompactClassDescription> comparedTypes = new ArrayDeque<>();
+    comparedTypes.add(classDescription);
+    while (!comparedTypes.isEmpty()) {
+      CompactClassDescription comparedType = comparedTypes.remove();
+      List<CompactDataDescription> comparedProperties = new ArrayList<>(comparedType.getGettersDescriptions());
+      for (CompactDataDescription field : comparedType.getFieldsDescriptions()) {
+        if (field.isPublic() && !field.isReadByGetter()) comparedProperties.add(field);
+      }
+      for (CompactDataDescription comparedProperty : comparedProperties) {
+        String valueTypeName = comparedProperty.getValueTypeName();
+        if (!fieldByFieldComparisonTypeNames.contains(valueTypeName) || !visitedTypeNames.add(valueTypeName)) continue;
+        CompactClassDescription delegate = fieldByFieldComparisonDescriptions.get(valueTypeName);
+        for (CompactDataDescription getter : delegate.getGettersDescriptions()) {
+          exceptions.addAll(getter.getExceptions());
+        }
+        comparedTypes.add(delegate);
+      }
+    }
+    return exceptions;
+  }
+
+  protected void generateSnapshotFor(StringBuilder contentBuilder, CompactClassDescription classDescription) {
+    // snapshot value names are the getters/fields names: isRookie and wasRookie must be told apart
+    Map<String, CompactDataDescription> snapshotValues = new LinkedHashMap<>();
+    Set<String> exceptions = new LinkedHashSet<>();
+    for (CompactDataDescription getter : classDescription.getGettersDescriptions()) {
+      snapshotValues.put(getter.getMemberName(), getter);
+      exceptions.addAll(getter.getExceptions());
+    }
+    for (CompactDataDescription field : classDescription.getFieldsDescriptions()) {
+      // non public fields would need reflection to be read
+      if (!field.isPublic() || field.isReadByGetter()) continue;
+      snapshotValues.put(field.getMemberName(), field);
+    }
+    List<String> values = new ArrayList<>();
+    List<String> parameters = new ArrayList<>();
+    List<String> equals = new ArrayList<>();
+    List<String> toString = new ArrayList<>();
+    StringBuilder fields = new StringBuilder();
+    StringBuilder assignments = new StringBuilder();
+    StringBuilder accessors = new StringBuilder();
+    boolean first = true;
+    for (Map.Entry<String, CompactDataDescription> snapshotValue : snapshotValues.entrySet()) {
+      String name = snapshotValue.getKey();
+      String type = getTypeName(snapshotValue.getValue());
+      values.add(snapshotValue.getValue().isGetter() ? "actual." + name + "()" : "actual." + name);
+      parameters.add(type + " " + name);
+      equals.add(format("Objects.deepEquals(this.%s, that.%s)", name, name));
+      toString.add(format("\"%s%s=\" + toStringOf(%s)", first ? "" : ", ", name, name));
+      fields.append(format("    private final %s %s;\n", type, name));
+      assignments.append(format("      this.%s = %s;\n", name, name));
+      accessors.append(format("\n    public %s %s() {\n      return %s;\n    }\n", type, name, name));
+      first = false;
+    }
+    String snapshotContent = templateRegistry.getTemplate(SNAPSHOT).getContent();
+    snapshotContent = replace(snapshotContent, SNAPSHOT_VALUES, String.join(", ", values));
+    snapshotContent = replace(snapshotContent, SNAPSHOT_FIELDS, fields.toString());
+    snapshotContent = replace(snapshotContent, SNAPSHOT_PARAMETERS, String.join(", ", parameters));
+    snapshotContent = replace(snapshotContent, SNAPSHOT_ASSIGNMENTS, assignments.toString());
+    snapshotContent = replace(snapshotContent, SNAPSHOT_ACCESSORS, accessors.toString());
+    snapshotContent = replace(snapshotContent, SNAPSHOT_EQUALS,
+                              equals.isEmpty() ? "true" : String.join(LINE_SEPARATOR + "          && ", equals));
+    snapshotContent = replace(snapshotContent, SNAPSHOT_HASH_CODE_VALUES, String.join(", ", snapshotValues.keySet()));
+    snapshotContent = replace(snapshotContent, SNAPSHOT_TO_STRING,
+                              toString.isEmpty() ? "" : " + " + String.join(LINE_SEPARATOR + "             + ", toString));
+    snapshotContent = declareExceptions(exceptions, "one of the snapshot properties throws it.", snapshotContent);
+    contentBuilder.append(snapshotContent).append(LINE_SEPARATOR);
+  }
 
-    if (classDescription.hasGetterForField(field)) {
+  private String fieldByFieldComparisonOf(CompactDataDescription fieldOrProperty, String access,
+                                          CompactClassDescription classDescription) {
+    String actualValue = "actual." + access;
+    String expectedValue = "expected." + access;
+    // predicates like isRookie and wasRookie share the same property name, use their own name to tell them apart
+    String propertyPath = fieldOrProperty.isPredicate() ? fieldOrProperty.getPredicate() : fieldOrProperty.getName();
+    String path = format("fieldByFieldPath(path, \"%s\")", propertyPath);
+    if (fieldByFieldComparisonTypeNames.contains(fieldOrProperty.getValueTypeName())) {
+      // delegate to the comparator generated for the property type
+      return format("    %s.collectFieldByFieldDifferences(%s, %s, %s, differences, visited);",
+                    fieldByFieldComparatorOf(fieldOrProperty, classDescription), actualValue,
+                    expectedValue, path) + LINE_SEPARATOR;
+    }
+    // the values are read once in locals used by the comparison and the difference, the comparator being static the
+    // type variables are erased
+    String type = fieldOrProperty.refersToTypeVariable() ? "Object" : getTypeName(fieldOrProperty);
+    String actualLocal = "actual" + capitalize(propertyPath);
+    String expectedLocal = "expected" + capitalize(propertyPath);
+    String differs;
+    if (fieldOrProperty.isPrimitiveType() && fieldOrProperty.isRealNumberType()) {
+      differs = format("Double.compare(%s, %s) != 0", actualLocal, expectedLocal);
+    } else if (fieldOrProperty.isPrimitiveType()) {
+      differs = format("%s != %s", actualLocal, expectedLocal);
+    } else {
+      differs = format("!Objects.deepEquals(%s, %s)", actualLocal, expectedLocal);
+    }
+    return format("    %s %s = %s;", type, actualLocal, actualValue) + LINE_SEPARATOR
+           + format("    %s %s = %s;", type, expectedLocal, expectedValue) + LINE_SEPARATOR
+           + "    if (" + differs + ") {" + LINE_SEPARATOR
+           + "      differences.add(fieldByFieldDifference(" + path + ", " + expectedLocal + ", " + actualLocal + "));"
+           + LINE_SEPARATOR + "    }" + LINE_SEPARATOR;
+  }
+
+  private String fieldByFieldComparatorOf(CompactDataDescription fieldOrProperty,
+                                          CompactClassDescription classDescription) {
+    String assertClassPackage = generatedAssertionsPackage == null ? fieldOrProperty.getValueTypePackageName()
+        : generatedAssertionsPackage;
+    // no need of a fully qualified name if the comparator is in the same package than the generated class
+    return Objects.equals(assertClassPackage, determinePackageName(classDescription))
+        ? fieldOrProperty.getValueTypeAssertClassName()
+        : assertClassPackage + "." + fieldOrProperty.getValueTypeAssertClassName();
+  }
+
+  private String assertionContentForField(CompactDataDescription field, CompactClassDescription classDescription) {
+
+    if (field.isReadByGetter()) {
       // the assertion has already been generated using the getter to read the field
       return "";
     }
 
     final String fieldName = field.getName();
-    String assertionContent = baseAssertionContentFor(field, classDescription);
+    String assertionContent = baseAssertionContentFor(field);
 
     // we reuse template for properties to have consistent assertions for property and field but change the way we get
     // the value since it's a field and not a property:
@@ -632,7 +1965,7 @@ public class BaseAssertionGenerator implements AssertionGenerator, AssertionsEnt
     return assertionContent;
   }
 
-  private String getTypeName(DataDescription fieldOrGetter) {
+  private String getTypeName(CompactDataDescription fieldOrGetter) {
     if (generatedAssertionsPackage != null) {
       // if the user has chosen to generate assertions in a given package we assume that
       return fieldOrGetter.getFullyQualifiedTypeName();
@@ -643,16 +1976,16 @@ public class BaseAssertionGenerator implements AssertionGenerator, AssertionsEnt
     return fieldOrGetter.getTypeName();
   }
 
-  private String fillAssertionContentForPredicateField(FieldDescription field, String assertionContent) {
+  private String fillAssertionContentForPredicateField(CompactDataDescription field, String assertionContent) {
     if (field.isPublic()) {
       assertionContent = assertionContent.replace("actual." + PREDICATE + "()",
-                                                  "actual." + field.getOriginalMember().getName());
+                                                  "actual." + field.getMemberName());
     } else {
       // if field is not public, we need to use reflection to get its value, ex :
       // org.assertj.core.util.introspection.FieldSupport.EXTRACTION.fieldValue("active", Boolean.class, actual);
       assertionContent = assertionContent.replace("actual." + PREDICATE + "()",
                                                   format(NON_PUBLIC_FIELD_VALUE_EXTRACTION,
-                                                         field.getOriginalMember().getName(), "Boolean"));
+                                                         field.getMemberName(), "Boolean"));
     }
     assertionContent = assertionContent.replace(PREDICATE_FOR_JAVADOC,
                                                 field.getPredicateForJavadoc());
@@ -675,8 +2008,8 @@ public class BaseAssertionGenerator implements AssertionGenerator, AssertionsEnt
     return JAVA_KEYWORDS.contains(unsafe) || "actual".equals(unsafe) ? "expected" + capitalize(unsafe) : unsafe;
   }
 
-  private String assertionContentForProperty(GetterDescription getter, ClassDescription classDescription) {
-    String assertionContent = baseAssertionContentFor(getter, classDescription);
+  private String assertionContentForProperty(CompactDataDescription getter, CompactClassDescription classDescription) {
+    String assertionContent = baseAssertionContentFor(getter);
 
     assertionContent = declareExceptions(getter, assertionContent);
 
@@ -694,10 +2027,10 @@ public class BaseAssertionGenerator implements AssertionGenerator, AssertionsEnt
                                                   getter.getNegativePredicateForErrorMessagePart1());
       assertionContent = assertionContent.replace(NEGATIVE_PREDICATE_FOR_FOR_ERROR_MESSAGE_PART2,
                                                   getter.getNegativePredicateForErrorMessagePart2());
-      assertionContent = replace(assertionContent, PREDICATE, getter.getOriginalMember().getName());
+      assertionContent = replace(assertionContent, PREDICATE, getter.getMemberName());
       assertionContent = replace(assertionContent, PREDICATE_NEG, getter.getNegativePredicate());
     }
-    assertionContent = replace(assertionContent, PROPERTY_GETTER_CALL, getter.getOriginalMember().getName());
+    assertionContent = replace(assertionContent, PROPERTY_GETTER_CALL, getter.getMemberName());
     assertionContent = replace(assertionContent, PROPERTY_WITH_UPPERCASE_FIRST_CHAR, capitalize(propertyName));
     assertionContent = replace(assertionContent, PROPERTY_SIMPLE_TYPE, getTypeName(getter));
     assertionContent = replace(assertionContent, PROPERTY_ASSERT_TYPE,
@@ -715,16 +2048,20 @@ public class BaseAssertionGenerator implements AssertionGenerator, AssertionsEnt
    * @param fieldOrProperty field or property
    * @return the base assertion content
    */
-  private String baseAssertionContentFor(DataDescription fieldOrProperty, ClassDescription classDescription) {
+  private String baseAssertionContentFor(CompactDataDescription fieldOrProperty) {
     String assertionContent = templateRegistry.getTemplate(Type.HAS).getContent();
     if (fieldOrProperty.isPredicate()) {
-      Type type = determinePredicateType(fieldOrProperty, classDescription);
+      Type type = determinePredicateType(fieldOrProperty);
       assertionContent = templateRegistry.getTemplate(type).getContent();
     } else if (fieldOrProperty.isIterableType()) {
       assertionContent = replace(templateRegistry.getTemplate(Type.HAS_FOR_ITERABLE).getContent(), ELEMENT_TYPE,
                                  fieldOrProperty.getElementTypeName());
       assertionContent = replace(assertionContent, ELEMENT_ASSERT_TYPE,
                                  fieldOrProperty.getElementAssertTypeName());
+    } else if (fieldOrProperty.isMapType()) {
+      assertionContent = replace(templateRegistry.getTemplate(Type.HAS_FOR_MAP).getContent(), KEY_TYPE,
+                                 fieldOrProperty.getMapKeyTypeName());
+      assertionContent = replace(assertionContent, VALUE_TYPE, fieldOrProperty.getMapValueTypeName());
     } else if (fieldOrProperty.isArrayType()) {
       assertionContent = replace(templateRegistry.getTemplate(Type.HAS_FOR_ARRAY).getContent(), ELEMENT_TYPE,
                                  fieldOrProperty.getElementTypeName());
@@ -754,21 +2091,13 @@ public class BaseAssertionGenerator implements AssertionGenerator, AssertionsEnt
    * isNotValid methods, we must not generate the negative assertion for isValid as it will be done when generating
    * assertions for isNotValid
    */
-  private Type determinePredicateType(final DataDescription fieldOrProperty, final ClassDescription classDescription) {
-    if (hasAlreadyNegativePredicate(fieldOrProperty, classDescription)) {
+  private Type determinePredicateType(final CompactDataDescription fieldOrProperty) {
+    if (fieldOrProperty.hasNegativePredicateGetter()) {
       return fieldOrProperty.isPrimitiveWrapperType() ? Type.IS_WRAPPER_WITHOUT_NEGATION : Type.IS_WITHOUT_NEGATION;
     }
     return fieldOrProperty.isPrimitiveWrapperType() ? Type.IS_WRAPPER : Type.IS;
   }
 
-  private boolean hasAlreadyNegativePredicate(final DataDescription fieldOrProperty,
-                                              final ClassDescription classDescription) {
-    for (final GetterDescription getterDescription : classDescription.getGettersDescriptions()) {
-      if (getterDescription.getOriginalMember().getName().equals(fieldOrProperty.getNegativePredicate())) return true;
-    }
-    return false;
-  }
-
   /**
    * Handle case where getter throws an exception.
    *
@@ -776,20 +2105,24 @@ public class BaseAssertionGenerator implements AssertionGenerator, AssertionsEnt
    * @param assertionContent the assertion content to enrich
    * @return assertion content with thrown exceptions
    */
-  private String declareExceptions(GetterDescription getter, String assertionContent) {
+  private String declareExceptions(CompactDataDescription getter, String assertionContent) {
+    return declareExceptions(getter.getExceptions(), "actual.${getter}() throws one.", assertionContent);
+  }
+
+  private static String declareExceptions(Collection<String> exceptions, String javadocCondition,
+                                          String assertionContent) {
     StringBuilder throwsClause = new StringBuilder();
     StringBuilder throwsJavaDoc = new StringBuilder();
     boolean first = true;
-    for (TypeToken<?> exception : getter.getExceptions()) {
+    for (String exceptionName : exceptions) {
       if (first) throwsClause.append("throws ");
       else throwsClause.append(", ");
       first = false;
-      String exceptionName = getTypeDeclaration(exception);
       throwsClause.append(exceptionName);
       throwsJavaDoc.append(LINE_SEPARATOR).append("   * @throws ").append(exceptionName);
-      throwsJavaDoc.append(" if actual.").append("${getter}() throws one.");
+      throwsJavaDoc.append(" if ").append(javadocCondition);
     }
-    if (!getter.getExceptions().isEmpty()) throwsClause.append(' ');
+    if (!exceptions.isEmpty()) throwsClause.append(' ');
 
     assertionContent = assertionContent.replace(THROWS_JAVADOC, throwsJavaDoc.toString());
     assertionContent = assertionContent.replace(THROWS, throwsClause.toString());
@@ -802,13 +2135,22 @@ public class BaseAssertionGenerator implements AssertionGenerator, AssertionsEnt
     }
   }
 
-  private File createFile(String fileContent, String fileName, String targetDirectory) throws IOException {
+  private File createFile(String fileContent, String fileName, String targetDirectory, String subject) throws IOException {
+    long start = System.nanoTime();
+    FileWriteEvent fileWriteEvent = begin(new FileWriteEvent());
     File file = new File(targetDirectory, fileName);
 
     // Ignore the result as it only returns false when the file existed previously which is not wrong.
     // noinspection ResultOfMethodCallIgnored
     file.createNewFile();
     fillFile(fileContent, file);
+    generationListener.phaseCompleted(GenerationPhase.FILE_WRITE, null, subject, System.nanoTime() - start);
+    if (fileWriteEvent.shouldCommit()) {
+      fileWriteEvent.className = subject;
+      fileWriteEvent.path = file.getPath();
+      fileWriteEvent.bytes = file.length();
+      fileWriteEvent.commit();
+    }
     return file;
   }
 
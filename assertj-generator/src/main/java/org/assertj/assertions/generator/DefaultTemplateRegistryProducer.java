@@ -24,6 +24,7 @@ public class DefaultTemplateRegistryProducer {
   static final String DEFAULT_HAS_ELEMENTS_ASSERTION_TEMPLATE_FOR_ARRAY = "has_elements_assertion_template_for_array.txt";
   static final String DEFAULT_HAS_ELEMENTS_ASSERTION_TEMPLATE_FOR_ITERABLE = "has_elements_assertion_template_for_iterable.txt";
   static final String DEFAULT_HAS_ASSERTION_TEMPLATE = "has_assertion_template.txt";
+  static final String DEFAULT_HAS_ASSERTION_TEMPLATE_FOR_MAP = "has_assertion_template_for_map.txt";
   static final String DEFAULT_HAS_ASSERTION_TEMPLATE_FOR_PRIMITIVE = "has_assertion_template_for_primitive.txt";
   static final String DEFAULT_HAS_ASSERTION_TEMPLATE_FOR_PRIMITIVE_WRAPPER = "has_assertion_template_for_primitive_wrapper.txt";
   static final String DEFAULT_HAS_ASSERTION_TEMPLATE_FOR_CHAR = "has_assertion_template_for_char.txt";
@@ -47,6 +48,20 @@ public class DefaultTemplateRegistryProducer {
   static final String DEFAULT_JUNIT_BDD_SOFT_ENTRY_POINT_ASSERTIONS_CLASS_TEMPLATE = "junit_bdd_soft_assertions_entry_point_class_template.txt";
   static final String DEFAULT_AUTO_CLOSEABLE_SOFT_ENTRY_POINT_ASSERTIONS_CLASS_TEMPLATE = "auto_closeable_soft_assertions_entry_point_class_template.txt";
   static final String DEFAULT_AUTO_CLOSEABLE_BDD_SOFT_ENTRY_POINT_ASSERTIONS_CLASS_TEMPLATE = "auto_closeable_bdd_soft_assertions_entry_point_class_template.txt";
+  static final String DEFAULT_FIELD_BY_FIELD_COMPARISON_ASSERTION_TEMPLATE = "field_by_field_comparison_assertion_template.txt";
+  static final String DEFAULT_CUSTOM_LIST_ASSERTION_CLASS_TEMPLATE = "custom_list_assertion_class_template.txt";
+  static final String DEFAULT_HAS_ASSERTION_TEMPLATE_FOR_LIST = "has_assertion_template_for_list.txt";
+  static final String DEFAULT_IS_ASSERTION_TEMPLATE_FOR_LIST = "is_assertion_template_for_list.txt";
+  static final String DEFAULT_LIST_ASSERTION_ENTRY_POINT_METHOD_TEMPLATE = "standard_list_assertion_entry_point_method_template.txt";
+  static final String DEFAULT_SOFT_LIST_ENTRY_POINT_ASSERTION_METHOD_TEMPLATE = "soft_list_assertion_entry_point_method_template.txt";
+  static final String DEFAULT_BDD_LIST_ENTRY_POINT_ASSERTION_METHOD_TEMPLATE = "bdd_list_assertion_entry_point_method_template.txt";
+  static final String DEFAULT_BDD_SOFT_LIST_ENTRY_POINT_ASSERTION_METHOD_TEMPLATE = "bdd_soft_list_assertion_entry_point_method_template.txt";
+  static final String DEFAULT_ASSERTIONS_REGISTRY_CLASS_TEMPLATE = "assertions_registry_class_template.txt";
+  static final String DEFAULT_ANY_ASSERTION_ENTRY_POINT_METHOD_TEMPLATE = "standard_any_assertion_entry_point_method_template.txt";
+  static final String DEFAULT_SOFT_ANY_ENTRY_POINT_ASSERTION_METHOD_TEMPLATE = "soft_any_assertion_entry_point_method_template.txt";
+  static final String DEFAULT_BDD_ANY_ENTRY_POINT_ASSERTION_METHOD_TEMPLATE = "bdd_any_assertion_entry_point_method_template.txt";
+  static final String DEFAULT_BDD_SOFT_ANY_ENTRY_POINT_ASSERTION_METHOD_TEMPLATE = "bdd_soft_any_assertion_entry_point_method_template.txt";
+  static final String DEFAULT_SNAPSHOT_TEMPLATE = "snapshot_template.txt";
 
   public static TemplateRegistry create(String templateDirectory) {
     TemplateRegistry templateRegistry = new TemplateRegistry();
@@ -87,6 +102,9 @@ public class DefaultTemplateRegistryProducer {
     templateRegistry.register(new Template(Template.Type.HAS_FOR_ITERABLE,
                                            new File(templateDirectory,
                                                     DEFAULT_HAS_ELEMENTS_ASSERTION_TEMPLATE_FOR_ITERABLE)));
+    templateRegistry.register(new Template(Template.Type.HAS_FOR_MAP,
+                                           new File(templateDirectory,
+                                                    DEFAULT_HAS_ASSERTION_TEMPLATE_FOR_MAP)));
     templateRegistry.register(new Template(Template.Type.HAS_FOR_ARRAY,
                                            new File(templateDirectory,
                                                     DEFAULT_HAS_ELEMENTS_ASSERTION_TEMPLATE_FOR_ARRAY)));
@@ -138,6 +156,48 @@ public class DefaultTemplateRegistryProducer {
     templateRegistry.register(new Template(Template.Type.AUTO_CLOSEABLE_BDD_SOFT_ASSERTIONS_ENTRY_POINT_CLASS,
                                            new File(templateDirectory,
                                                     DEFAULT_AUTO_CLOSEABLE_BDD_SOFT_ENTRY_POINT_ASSERTIONS_CLASS_TEMPLATE)));
+    templateRegistry.register(new Template(Template.Type.FIELD_BY_FIELD_COMPARISON,
+                                           new File(templateDirectory,
+                                                    DEFAULT_FIELD_BY_FIELD_COMPARISON_ASSERTION_TEMPLATE)));
+    templateRegistry.register(new Template(Template.Type.LIST_ASSERT_CLASS,
+                                           new File(templateDirectory,
+                                                    DEFAULT_CUSTOM_LIST_ASSERTION_CLASS_TEMPLATE)));
+    templateRegistry.register(new Template(Template.Type.HAS_FOR_LIST,
+                                           new File(templateDirectory,
+                                                    DEFAULT_HAS_ASSERTION_TEMPLATE_FOR_LIST)));
+    templateRegistry.register(new Template(Template.Type.IS_FOR_LIST,
+                                           new File(templateDirectory,
+                                                    DEFAULT_IS_ASSERTION_TEMPLATE_FOR_LIST)));
+    templateRegistry.register(new Template(Template.Type.LIST_ASSERTION_ENTRY_POINT,
+                                           new File(templateDirectory,
+                                                    DEFAULT_LIST_ASSERTION_ENTRY_POINT_METHOD_TEMPLATE)));
+    templateRegistry.register(new Template(Template.Type.SOFT_LIST_ENTRY_POINT_METHOD_ASSERTION,
+                                           new File(templateDirectory,
+                                                    DEFAULT_SOFT_LIST_ENTRY_POINT_ASSERTION_METHOD_TEMPLATE)));
+    templateRegistry.register(new Template(Template.Type.BDD_LIST_ENTRY_POINT_METHOD_ASSERTION,
+                                           new File(templateDirectory,
+                                                    DEFAULT_BDD_LIST_ENTRY_POINT_ASSERTION_METHOD_TEMPLATE)));
+    templateRegistry.register(new Template(Template.Type.BDD_SOFT_LIST_ENTRY_POINT_METHOD_ASSERTION,
+                                           new File(templateDirectory,
+                                                    DEFAULT_BDD_SOFT_LIST_ENTRY_POINT_ASSERTION_METHOD_TEMPLATE)));
+    templateRegistry.register(new Template(Template.Type.ASSERTIONS_REGISTRY_CLASS,
+                                           new File(templateDirectory,
+                                                    DEFAULT_ASSERTIONS_REGISTRY_CLASS_TEMPLATE)));
+    templateRegistry.register(new Template(Template.Type.ANY_ASSERTION_ENTRY_POINT,
+                                           new File(templateDirectory,
+                                                    DEFAULT_ANY_ASSERTION_ENTRY_POINT_METHOD_TEMPLATE)));
+    templateRegistry.register(new Template(Template.Type.SOFT_ANY_ENTRY_POINT_METHOD_ASSERTION,
+                                           new File(templateDirectory,
+                                                    DEFAULT_SOFT_ANY_ENTRY_POINT_ASSERTION_METHOD_TEMPLATE)));
+    templateRegistry.register(new Template(Template.Type.BDD_ANY_ENTRY_POINT_METHOD_ASSERTION,
+                                           new File(templateDirectory,
+                                                    DEFAULT_BDD_ANY_ENTRY_POINT_ASSERTION_METHOD_TEMPLATE)));
+    templateRegistry.register(new Template(Template.Type.BDD_SOFT_ANY_ENTRY_POINT_METHOD_ASSERTION,
+                                           new File(templateDirectory,
+                                                    DEFAULT_BDD_SOFT_ANY_ENTRY_POINT_ASSERTION_METHOD_TEMPLATE)));
+    templateRegistry.register(new Template(Template.Type.SNAPSHOT,
+                                           new File(templateDirectory,
+                                                    DEFAULT_SNAPSHOT_TEMPLATE)));
     return templateRegistry;
   }
 }
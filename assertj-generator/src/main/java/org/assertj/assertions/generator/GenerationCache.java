@@ -0,0 +1,245 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * Copyright 2012-2025 the original author or authors.
+ */
+package org.assertj.assertions.generator;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static java.nio.file.StandardCopyOption.ATOMIC_MOVE;
+import static java.nio.file.StandardCopyOption.REPLACE_EXISTING;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.DirectoryStream;
+import java.nio.file.FileAlreadyExistsException;
+import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+import java.nio.file.attribute.FileTime;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.stream.Stream;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * A directory caching generated assertion files by the digest of everything they are generated from (see
+ * {@link BaseAssertionGenerator#cacheKeyFor(com.google.common.reflect.TypeToken, java.util.Set, boolean)}), it can be
+ * shared by several builds and machines through a shared filesystem.
+ * <p>
+ * Each key has its own entry directory, written to a temporary directory then atomically moved so that concurrent
+ * generations never see partial entries. Cached files are copied rather than hard linked since the generator rewrites
+ * the existing assertion files in place, which would modify the cached ones.
+ * <p>
+ * The least recently used entries are evicted by {@link #evictLeastRecentlyUsedEntries()} when the cache exceeds its
+ * maximum size, an entry being used when it is stored or restored. Evicting walks all the entries, it is meant to be
+ * done once the generation is done rather than after each stored entry. It also deletes the temporary directories
+ * older than {@link #STALE_TEMPORARY_ENTRY_MILLIS}, left by generations that crashed while storing an entry.
+ */
+public class GenerationCache {
+
+  private static final Logger logger = LoggerFactory.getLogger(GenerationCache.class);
+
+  // lists the entry files in their generation order, e.g. abstract assertions first
+  private static final String ENTRY_FILES = ".files";
+  private static final String TEMPORARY_PREFIX = ".tmp-";
+  // temporary directories being written by concurrent generations are more recent
+  static final long STALE_TEMPORARY_ENTRY_MILLIS = TimeUnit.HOURS.toMillis(1);
+
+  private final Path directory;
+  private final long maxSizeInBytes;
+  private final AtomicLong hits = new AtomicLong();
+  private final AtomicLong misses = new AtomicLong();
+  private final AtomicLong evictions = new AtomicLong();
+
+  /**
+   * Creates a cache stored in the given directory, created if needed.
+   *
+   * @param directory the cache directory.
+   * @param maxSizeInBytes the size above which the least recently used entries are evicted.
+   * @throws IOException if the directory could not be created.
+   */
+  public GenerationCache(Path directory, long maxSizeInBytes) throws IOException {
+    this.directory = Files.createDirectories(directory);
+    this.maxSizeInBytes = maxSizeInBytes;
+  }
+
+  /**
+   * Copies the files cached with the given key to the given directory.
+   *
+   * @param key the cache key.
+   * @param targetDirectory the directory where to copy the cached files.
+   * @return the copied files in their generation order, null if the key is not cached.
+   */
+  public List<File> restore(String key, File targetDirectory) {
+    Path entry = entryOf(key);
+    try {
+      List<File> restoredFiles = new ArrayList<>();
+      Files.createDirectories(targetDirectory.toPath());
+      for (String fileName : Files.readAllLines(entry.resolve(ENTRY_FILES), UTF_8)) {
+        File restoredFile = new File(targetDirectory, fileName);
+        Files.copy(entry.resolve(fileName), restoredFile.toPath(), REPLACE_EXISTING);
+        restoredFiles.add(restoredFile);
+      }
+      touch(entry);
+      hits.incrementAndGet();
+      return restoredFiles;
+    } catch (NoSuchFileException e) {
+      // not cached, or evicted while being restored
+      misses.incrementAndGet();
+      return null;
+    } catch (IOException e) {
+      logger.warn("Failed to restore cached assertions files {}, generating them again", entry, e);
+      misses.incrementAndGet();
+      return null;
+    }
+  }
+
+  /**
+   * Caches the given files with the given key, the cache may then exceed its maximum size until
+   * {@link #evictLeastRecentlyUsedEntries()} is called.
+   *
+   * @param key the cache key.
+   * @param files the files to cache, in their generation order.
+   * @throws IOException if the files could not be cached.
+   */
+  public void store(String key, List<File> files) throws IOException {
+    Path entry = entryOf(key);
+    Files.createDirectories(entry.getParent());
+    Path temporaryEntry = Files.createDirectory(entry.resolveSibling(TEMPORARY_PREFIX + UUID.randomUUID()));
+    try {
+      List<String> fileNames = new ArrayList<>();
+      for (File file : files) {
+        Files.copy(file.toPath(), temporaryEntry.resolve(file.getName()));
+        fileNames.add(file.getName());
+      }
+      Files.write(temporaryEntry.resolve(ENTRY_FILES), fileNames, UTF_8);
+      Files.move(temporaryEntry, entry, ATOMIC_MOVE);
+    } catch (FileAlreadyExistsException e) {
+      // cached concurrently by another generation
+    } catch (IOException e) {
+      // the entry may have been cached concurrently by another generation, nothing to report then
+      if (!Files.isDirectory(entry)) throw e;
+    } finally {
+      deleteRecursively(temporaryEntry);
+    }
+  }
+
+  /**
+   * Evicts the least recently used entries until the cache size is below its maximum size, and deletes the stale
+   * temporary directories.
+   *
+   * @throws IOException if the entries could not be listed or deleted.
+   */
+  public void evictLeastRecentlyUsedEntries() throws IOException {
+    List<Entry> entries = new ArrayList<>();
+    long cacheSize = 0;
+    long staleTime = System.currentTimeMillis() - STALE_TEMPORARY_ENTRY_MILLIS;
+    try (DirectoryStream<Path> prefixDirectories = Files.newDirectoryStream(directory, Files::isDirectory)) {
+      for (Path prefixDirectory : prefixDirectories) {
+        try (DirectoryStream<Path> entryDirectories = Files.newDirectoryStream(prefixDirectory, Files::isDirectory)) {
+          for (Path entryDirectory : entryDirectories) {
+            try {
+              if (isTemporary(entryDirectory)) {
+                if (Files.getLastModifiedTime(entryDirectory).toMillis() < staleTime) deleteRecursively(entryDirectory);
+                continue;
+              }
+              Entry entry = new Entry(entryDirectory);
+              entries.add(entry);
+              cacheSize += entry.size;
+            } catch (NoSuchFileException e) {
+              // evicted, or moved to its entry directory, concurrently by another generation
+            }
+          }
+        }
+      }
+    }
+    if (cacheSize <= maxSizeInBytes) return;
+    entries.sort(Comparator.comparing(entry -> entry.lastUsed));
+    for (Entry entry : entries) {
+      if (cacheSize <= maxSizeInBytes) break;
+      try {
+        deleteRecursively(entry.directory);
+        evictions.incrementAndGet();
+      } catch (NoSuchFileException e) {
+        // evicted concurrently by another generation
+      }
+      cacheSize -= entry.size;
+    }
+  }
+
+  public long getHits() {
+    return hits.get();
+  }
+
+  public long getMisses() {
+    return misses.get();
+  }
+
+  public long getEvictions() {
+    return evictions.get();
+  }
+
+  @Override
+  public String toString() {
+    return "GenerationCache [directory=" + directory + ", hits=" + hits + ", misses=" + misses + ", evictions="
+           + evictions + "]";
+  }
+
+  // entries are spread in sub directories named after the first key characters to keep directories small
+  private Path entryOf(String key) {
+    return directory.resolve(key.substring(0, 2)).resolve(key);
+  }
+
+  private static boolean isTemporary(Path path) {
+    return path.getFileName().toString().startsWith(TEMPORARY_PREFIX);
+  }
+
+  private static void touch(Path entry) throws IOException {
+    Files.setLastModifiedTime(entry, FileTime.fromMillis(System.currentTimeMillis()));
+  }
+
+  private static void deleteRecursively(Path path) throws IOException {
+    if (!Files.exists(path)) return;
+    try (Stream<Path> paths = Files.walk(path)) {
+      for (Path deleted : (Iterable<Path>) paths.sorted(Comparator.reverseOrder())::iterator) {
+        Files.deleteIfExists(deleted);
+      }
+    } catch (UncheckedIOException e) {
+      throw e.getCause();
+    }
+  }
+
+  private static final class Entry {
+
+    private final Path directory;
+    private final FileTime lastUsed;
+    private final long size;
+
+    private Entry(Path directory) throws IOException {
+      this.directory = directory;
+      this.lastUsed = Files.getLastModifiedTime(directory);
+      long entrySize = 0;
+      try (DirectoryStream<Path> files = Files.newDirectoryStream(directory)) {
+        for (Path file : files) {
+          entrySize += Files.size(file);
+        }
+      }
+      this.size = entrySize;
+    }
+  }
+}
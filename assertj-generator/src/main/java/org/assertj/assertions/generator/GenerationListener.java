@@ -0,0 +1,42 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * Copyright 2012-2025 the original author or authors.
+ */
+package org.assertj.assertions.generator;
+
+/**
+ * Listener notified of the time spent in each {@link GenerationPhase}, e.g. to find out whether a generation is slowed
+ * down by the classes scanning, the reflection, the templates rendering or the file writes.
+ * <p>
+ * Implementations must be thread safe as assertions can be generated by several threads.
+ *
+ * @see BaseAssertionGenerator#setGenerationListener(GenerationListener)
+ */
+public interface GenerationListener {
+
+  /**
+   * Listener ignoring all notifications, used by default.
+   */
+  GenerationListener NO_OP = (phase, templateType, subject, durationNanos) -> {};
+
+  /**
+   * Called when a generation phase is completed.
+   *
+   * @param phase the completed phase.
+   * @param templateType the type of the rendered template for {@link GenerationPhase#TEMPLATE_RENDERING}, null for the
+   *          other phases.
+   * @param subject what the phase was about: the fully qualified name of the class to generate assertions for, the
+   *          file name for entry points classes, the given classes and packages names for
+   *          {@link GenerationPhase#COLLECT_CLASSES}.
+   * @param durationNanos the phase duration in nanoseconds.
+   */
+  void phaseCompleted(GenerationPhase phase, Template.Type templateType, String subject, long durationNanos);
+}
@@ -0,0 +1,42 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * Copyright 2012-2025 the original author or authors.
+ */
+package org.assertj.assertions.generator;
+
+/**
+ * The phases of an assertions generation reported to a {@link GenerationListener}.
+ */
+public enum GenerationPhase {
+
+  /**
+   * Collecting the classes of the given classes and packages names, see
+   * {@link org.assertj.assertions.generator.util.ClassUtil#collectClasses(ClassLoader, String...)}.
+   */
+  COLLECT_CLASSES,
+  /**
+   * Building the description of a class by reflection, see
+   * {@link org.assertj.assertions.generator.description.converter.ClassToClassDescriptionConverter}.
+   */
+  CLASS_DESCRIPTION,
+  /**
+   * Rendering the content of a generated class from its template, import resolution included.
+   */
+  TEMPLATE_RENDERING,
+  /**
+   * Resolving the imports of a generated class.
+   */
+  IMPORT_RESOLUTION,
+  /**
+   * Writing a generated file.
+   */
+  FILE_WRITE
+}
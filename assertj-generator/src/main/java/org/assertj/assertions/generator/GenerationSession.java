@@ -0,0 +1,139 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * Copyright 2012-2025 the original author or authors.
+ */
+package org.assertj.assertions.generator;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.assertj.assertions.generator.description.CompactClassDescription;
+import org.assertj.assertions.generator.description.converter.ClassToClassDescriptionConverter;
+
+import com.google.common.reflect.TypeToken;
+
+/**
+ * A generation run against the classes of a class loader, owning everything that references these classes so that
+ * they, and their class loader, can be unloaded once the session is closed, e.g. when the generator runs in a daemon
+ * or an IDE generating assertions for many builds.
+ * <p>
+ * Classes are described with {@link CompactClassDescription}s cached with a {@link ClassValue}, i.e. in the described
+ * classes themselves, so the cache never keeps a class loader alive even if the session is not closed, and closing the
+ * session removes them. Parameterized types are described each time since they are not classes.
+ * <p>
+ * A session is thread safe.
+ */
+public final class GenerationSession implements Closeable {
+
+  private final Set<Class<?>> describedClasses = ConcurrentHashMap.newKeySet();
+  private final ClassValue<CompactClassDescription> classDescriptions = new ClassValue<CompactClassDescription>() {
+    @Override
+    protected CompactClassDescription computeValue(Class<?> type) {
+      describedClasses.add(type);
+      return convert(TypeToken.of(type));
+    }
+  };
+  private final boolean closeClassLoader;
+  private volatile ClassLoader classLoader;
+  private volatile ClassToClassDescriptionConverter converter;
+
+  /**
+   * Creates a session describing the classes of the given class loader with the default converter, the class loader
+   * being left open when the session is closed.
+   *
+   * @param classLoader the class loader of the classes to generate assertions for.
+   */
+  public GenerationSession(ClassLoader classLoader) {
+    this(classLoader, new ClassToClassDescriptionConverter(), false);
+  }
+
+  /**
+   * Creates a session describing the classes of the given class loader with the given converter.
+   *
+   * @param classLoader the class loader of the classes to generate assertions for.
+   * @param converter the converter describing the classes.
+   * @param closeClassLoader whether the class loader is closed with the session, it must then be {@link Closeable}.
+   */
+  public GenerationSession(ClassLoader classLoader, ClassToClassDescriptionConverter converter,
+                           boolean closeClassLoader) {
+    this.classLoader = classLoader;
+    this.converter = converter;
+    this.closeClassLoader = closeClassLoader;
+  }
+
+  /**
+   * @return the class loader of the classes to generate assertions for.
+   * @throws IllegalStateException if the session is closed.
+   */
+  public ClassLoader getClassLoader() {
+    ClassLoader loader = classLoader;
+    if (loader == null) throw new IllegalStateException("Generation session is closed");
+    return loader;
+  }
+
+  /**
+   * @return the converter describing the classes.
+   * @throws IllegalStateException if the session is closed.
+   */
+  public ClassToClassDescriptionConverter getConverter() {
+    return converter();
+  }
+
+  /**
+   * Describes the given type, classes being described once per session.
+   *
+   * @param type the type to describe.
+   * @return the description of the given type.
+   * @throws IllegalStateException if the session is closed.
+   */
+  public CompactClassDescription describe(TypeToken<?> type) {
+    if (type.getType() instanceof Class) return classDescriptions.get((Class<?>) type.getType());
+    return convert(type);
+  }
+
+  // the mutable description is only needed to build the compact one
+  private CompactClassDescription convert(TypeToken<?> type) {
+    return CompactClassDescription.of(converter().convertToClassDescription(type));
+  }
+
+  /**
+   * @return the number of classes described since the session was opened.
+   */
+  public int getDescribedClassCount() {
+    return describedClasses.size();
+  }
+
+  /**
+   * Releases the described classes, and closes the class loader if the session owns it.
+   *
+   * @throws IOException if the class loader could not be closed.
+   */
+  @Override
+  public void close() throws IOException {
+    ClassLoader loader = classLoader;
+    if (loader == null) return;
+    classLoader = null;
+    converter = null;
+    for (Class<?> describedClass : describedClasses) {
+      classDescriptions.remove(describedClass);
+    }
+    describedClasses.clear();
+    if (closeClassLoader && loader instanceof Closeable) ((Closeable) loader).close();
+  }
+
+  private ClassToClassDescriptionConverter converter() {
+    ClassToClassDescriptionConverter sessionConverter = converter;
+    if (sessionConverter == null) throw new IllegalStateException("Generation session is closed");
+    return sessionConverter;
+  }
+}
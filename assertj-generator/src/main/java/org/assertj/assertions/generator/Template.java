@@ -168,6 +168,7 @@ public class Template {
     HAS,
     HAS_FOR_ARRAY, 
     HAS_FOR_ITERABLE, 
+    HAS_FOR_MAP,
     HAS_FOR_PRIMITIVE, 
     HAS_FOR_PRIMITIVE_WRAPPER, 
     HAS_FOR_REAL_NUMBER, 
@@ -190,7 +191,21 @@ public class Template {
     BDD_SOFT_ENTRY_POINT_METHOD_ASSERTION,
     JUNIT_BDD_SOFT_ASSERTIONS_ENTRY_POINT_CLASS,
     AUTO_CLOSEABLE_SOFT_ASSERTIONS_ENTRY_POINT_CLASS,
-    AUTO_CLOSEABLE_BDD_SOFT_ASSERTIONS_ENTRY_POINT_CLASS
+    AUTO_CLOSEABLE_BDD_SOFT_ASSERTIONS_ENTRY_POINT_CLASS,
+    FIELD_BY_FIELD_COMPARISON,
+    LIST_ASSERT_CLASS,
+    HAS_FOR_LIST,
+    IS_FOR_LIST,
+    LIST_ASSERTION_ENTRY_POINT,
+    SOFT_LIST_ENTRY_POINT_METHOD_ASSERTION,
+    BDD_LIST_ENTRY_POINT_METHOD_ASSERTION,
+    BDD_SOFT_LIST_ENTRY_POINT_METHOD_ASSERTION,
+    ASSERTIONS_REGISTRY_CLASS,
+    ANY_ASSERTION_ENTRY_POINT,
+    SOFT_ANY_ENTRY_POINT_METHOD_ASSERTION,
+    BDD_ANY_ENTRY_POINT_METHOD_ASSERTION,
+    BDD_SOFT_ANY_ENTRY_POINT_METHOD_ASSERTION,
+    SNAPSHOT
     // @format:on
   }
 
@@ -12,47 +12,74 @@
  */
 package org.assertj.assertions.generator.cli;
 
-import com.google.common.reflect.TypeToken;
 import org.apache.commons.cli.*;
 import org.assertj.assertions.generator.BaseAssertionGenerator;
-import org.assertj.assertions.generator.description.ClassDescription;
-import org.assertj.assertions.generator.description.converter.ClassToClassDescriptionConverter;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 import java.io.File;
 import java.io.IOException;
-import java.util.Set;
-
-import static com.google.common.collect.Sets.newLinkedHashSet;
-import static org.assertj.assertions.generator.util.ClassUtil.collectClasses;
+import java.net.MalformedURLException;
+import java.net.URL;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.List;
 
 
 public class AssertionGeneratorLauncher {
 
   private static final Logger logger = LoggerFactory.getLogger(AssertionGeneratorLauncher.class);
-  private static ClassToClassDescriptionConverter classDescriptionConverter = new ClassToClassDescriptionConverter();
 
   public static void main(String[] args) throws IOException {
-    Options options = new Options();
-    options.addOption("H", "hierarchical", false, "Generate a hierarchy of assertions that follows the hierarchy of classes to assert");
-    options.addOption("h", "help", false, "Print this help message");
-    CommandLineParser parser = new DefaultParser();
+    Options options = GenerationCommand.options();
+    options.addOption(Option.builder().longOpt("daemon").hasArg().argName("socket file")
+                            .desc("Start a generator daemon listening to generation requests on the given unix domain socket, see GeneratorDaemonClient")
+                            .build());
+    options.addOption("w", "watch", false, "Watch the class files of the classes and packages and regenerate their assertions when they change");
+    options.addOption(Option.builder().longOpt("classpath").hasArg().argName("path")
+                            .desc("Classpath of the classes to generate assertions for, loaded apart from the generator classes, e.g. target/classes" + File.pathSeparator + "lib/*")
+                            .build());
+    File workingDirectory = new File(".");
     
     try {
-      CommandLine line = parser.parse(options, args);
+      CommandLine line = GenerationCommand.parse(options, args, workingDirectory);
 
       if (line.hasOption('h')) {
         printHelp(options);
         return;
       }
 
-      Set<TypeToken<?>> classes = collectClasses(line.getArgs());
+      if (line.hasOption("daemon")) {
+        GeneratorDaemon daemon = new GeneratorDaemon(Paths.get(line.getOptionValue("daemon")));
+        // remove the socket file when the daemon is stopped
+        Runtime.getRuntime().addShutdownHook(new Thread(() -> closeDaemon(daemon)));
+        daemon.run();
+        return;
+      }
 
-      if (line.hasOption('H')) {
-        generateHierarchicalAssertions(classes);
-      } else {
-        generateFlatAssertions(classes);
+      URL[] classpath = line.hasOption("classpath")
+          ? IsolatedClassLoader.classpathOf(line.getOptionValue("classpath"), workingDirectory) : null;
+      if (line.hasOption("watch")) {
+        new GenerationWatcher(GenerationCommand.of(line, workingDirectory), AssertionGeneratorLauncher.class.getClassLoader(),
+                              classpath != null ? classpath : javaClassPath()).run();
+        return;
+      }
+
+      GenerationCommand command = GenerationCommand.of(line, workingDirectory);
+      if (classpath == null) {
+        command.execute(Thread.currentThread().getContextClassLoader(), new BaseAssertionGenerator());
+        return;
+      }
+      // the classes are loaded by their own class loader, closed once the assertions are generated, templates are read
+      // with the launcher context class loader
+      BaseAssertionGenerator generator = new BaseAssertionGenerator();
+      Thread currentThread = Thread.currentThread();
+      ClassLoader launcherClassLoader = currentThread.getContextClassLoader();
+      try (IsolatedClassLoader classLoader = new IsolatedClassLoader(classpath, AssertionGeneratorLauncher.class.getClassLoader())) {
+        currentThread.setContextClassLoader(classLoader);
+        command.execute(classLoader, generator);
+      } finally {
+        currentThread.setContextClassLoader(launcherClassLoader);
       }
     } catch (ParseException e) {
       System.err.println("Error trying to parse command-line arguments: " + e.getMessage());
@@ -61,40 +88,25 @@ public class AssertionGeneratorLauncher {
     
   }
 
-  private static void printHelp(Options options) {
-    HelpFormatter help = new HelpFormatter();
-    final String cmdLine = "java " + AssertionGeneratorLauncher.class.getCanonicalName() + " [--help] [--hierarchical] <classes/packages>";
-    help.printHelp(cmdLine, "Generate AssertJ-style assertions for the specified classes", options, "The list of classes can either be package names (which includes all packages in the class) or fully-qualified class names.");
-  }
-  
-  private static void generateHierarchicalAssertions(Set<TypeToken<?>> types) throws IOException {
-    // Create a hashset of the classes for efficient lookup.
-    Set<TypeToken<?>> typeSet = newLinkedHashSet(types);
-    logger.info("Generating hierarchical assertions for classes {}", types);
-    BaseAssertionGenerator customAssertionGenerator = new BaseAssertionGenerator();
-    
-    for (TypeToken<?> type : types) {
-      logger.info("Generating hierarchical assertions for class : {}", type);
-      File[] customAssertionFiles = customAssertionGenerator.generateHierarchicalCustomAssertionFor(toClassDescription(type), typeSet);
-      logger.info("Generated {} hierarchical assertions files -> {}, {}", type,
-                  customAssertionFiles[0].getAbsolutePath(),
-                  customAssertionFiles[1].getAbsolutePath());
+  private static URL[] javaClassPath() throws MalformedURLException {
+    List<URL> classpath = new ArrayList<>();
+    for (String entry : System.getProperty("java.class.path").split(File.pathSeparator)) {
+      if (!entry.isEmpty()) classpath.add(new File(entry).toURI().toURL());
     }
+    return classpath.toArray(new URL[0]);
   }
-  
-  private static void generateFlatAssertions(Set<TypeToken<?>> types) throws IOException {
-    logger.info("Generating assertions for types {}", types);
-    BaseAssertionGenerator customAssertionGenerator = new BaseAssertionGenerator();
-    
-    for (TypeToken<?> type : types) {
-      logger.info("Generating assertions for class : {}", type);
-      File customAssertionFile = customAssertionGenerator.generateCustomAssertionFor(toClassDescription(type));
-      logger.info("Generated {} assertions file -> {}", type,
-                  customAssertionFile.getAbsolutePath());
+
+  private static void closeDaemon(GeneratorDaemon daemon) {
+    try {
+      daemon.close();
+    } catch (IOException e) {
+      logger.warn("Failed to stop generator daemon", e);
     }
   }
 
-  private static ClassDescription toClassDescription(TypeToken<?> type) {
-    return classDescriptionConverter.convertToClassDescription(type);
+  private static void printHelp(Options options) {
+    HelpFormatter help = new HelpFormatter();
+    final String cmdLine = "java " + AssertionGeneratorLauncher.class.getCanonicalName() + " [options] <classes/packages/@argfiles>";
+    help.printHelp(cmdLine, "Generate AssertJ-style assertions for the specified classes", options, "The list of classes can either be package names (which includes all packages in the class) or fully-qualified class names, an @argfile argument is replaced by the arguments listed in the file.");
   }
 }
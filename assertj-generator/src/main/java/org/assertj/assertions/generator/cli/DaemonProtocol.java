@@ -0,0 +1,68 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * Copyright 2012-2025 the original author or authors.
+ */
+package org.assertj.assertions.generator.cli;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * The length prefixed protocol used between {@link GeneratorDaemonClient} and {@link GeneratorDaemon}.
+ * <p>
+ * A message is a list of strings: the number of strings followed by each string UTF-8 bytes prefixed by their length.
+ * <ul>
+ * <li>a request is the client working directory, the classpath to load the classes from and the command line
+ * arguments,</li>
+ * <li>a response is the exit status followed by the output lines.</li>
+ * </ul>
+ * <p>
+ * Only JDK classes are used here to keep the client startup fast.
+ */
+final class DaemonProtocol {
+
+  private static final int MAX_MESSAGE_SIZE = 64 * 1024 * 1024;
+
+  private DaemonProtocol() {}
+
+  static void writeMessage(DataOutputStream output, List<String> message) throws IOException {
+    output.writeInt(message.size());
+    for (String string : message) {
+      byte[] bytes = string.getBytes(UTF_8);
+      output.writeInt(bytes.length);
+      output.write(bytes);
+    }
+    output.flush();
+  }
+
+  static List<String> readMessage(DataInputStream input) throws IOException {
+    int size = input.readInt();
+    checkSize(size);
+    List<String> message = new ArrayList<>(size);
+    for (int i = 0; i < size; i++) {
+      int length = input.readInt();
+      checkSize(length);
+      byte[] bytes = new byte[length];
+      input.readFully(bytes);
+      message.add(new String(bytes, UTF_8));
+    }
+    return message;
+  }
+
+  private static void checkSize(int size) throws IOException {
+    if (size < 0 || size > MAX_MESSAGE_SIZE) throw new IOException("Invalid generator daemon message size: " + size);
+  }
+}
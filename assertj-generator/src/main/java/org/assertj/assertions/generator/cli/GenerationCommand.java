@@ -0,0 +1,644 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * Copyright 2012-2025 the original author or authors.
+ */
+package org.assertj.assertions.generator.cli;
+
+import static com.google.common.collect.Sets.newLinkedHashSet;
+import static java.lang.String.format;
+import static java.util.Arrays.asList;
+import static java.util.Collections.singleton;
+import static java.util.concurrent.CompletableFuture.completedFuture;
+import static org.assertj.assertions.generator.util.ClassUtil.collectAnnotatedClasses;
+import static org.assertj.assertions.generator.util.ClassUtil.collectClasses;
+
+import java.io.File;
+import java.io.IOException;
+import java.net.URL;
+import java.net.URLConnection;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.util.ArrayList;
+import java.util.EnumSet;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import org.apache.commons.cli.CommandLine;
+import org.apache.commons.cli.DefaultParser;
+import org.apache.commons.cli.Option;
+import org.apache.commons.cli.Options;
+import org.apache.commons.cli.ParseException;
+import org.assertj.assertions.generator.AssertionsEntryPointType;
+import org.assertj.assertions.generator.BaseAssertionGenerator;
+import org.assertj.assertions.generator.GenerateAssertion;
+import org.assertj.assertions.generator.GenerationCache;
+import org.assertj.assertions.generator.GenerationListener;
+import org.assertj.assertions.generator.GenerationPhase;
+import org.assertj.assertions.generator.GenerationSession;
+import org.assertj.assertions.generator.description.ClassDescription;
+import org.assertj.assertions.generator.description.converter.ReachableClassCollector;
+import org.assertj.assertions.generator.util.ClassNameFilter;
+import org.assertj.assertions.generator.util.ClasspathScanCache;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import com.google.common.reflect.TypeToken;
+
+/**
+ * A generation requested with the command line options, used by {@link AssertionGeneratorLauncher} and
+ * {@link GeneratorDaemon}.
+ */
+final class GenerationCommand {
+
+  private static final Logger logger = LoggerFactory.getLogger(GenerationCommand.class);
+
+  private final String[] classOrPackageNames;
+  private final boolean hierarchical;
+  private final File outputDirectory;
+  private final String generatedAssertionsPackage;
+  private final boolean allFields;
+  private final boolean annotatedOnly;
+  private final boolean listAssertions;
+  private final boolean assertThatAny;
+  // null when neither --include nor --exclude is given
+  private final ClassNameFilter classNameFilter;
+  // null when the classes reachable from the collected ones are not collected
+  private final List<String> reachableBoundaryPackages;
+  private final Set<AssertionsEntryPointType> entryPointTypes;
+  // maxEntryPointClassesPerDelegate is 0 when entry points are not split by classes count
+  private final boolean splitEntryPointsByPackage;
+  private final int maxEntryPointClassesPerDelegate;
+  private final int threads;
+  private final boolean incremental;
+  private final File reportFile;
+  // shardCount is 0 when the generation is not sharded
+  private final int shardIndex;
+  private final int shardCount;
+  private final boolean shardByPackage;
+  private final File shardIndexFile;
+  private final boolean mergeShards;
+  private final File cacheDirectory;
+  private final long cacheMaxSizeInBytes;
+  private final File scanCacheFile;
+
+  private GenerationCommand(CommandLine line, File workingDirectory) throws ParseException {
+    this.classOrPackageNames = line.getArgs();
+    this.hierarchical = line.hasOption("hierarchical");
+    this.outputDirectory = line.hasOption("output-dir")
+        ? resolve(workingDirectory, line.getOptionValue("output-dir"))
+        : workingDirectory;
+    this.generatedAssertionsPackage = line.getOptionValue("package");
+    this.allFields = line.hasOption("all-fields");
+    this.annotatedOnly = line.hasOption("annotated");
+    this.listAssertions = line.hasOption("list-assertions");
+    this.assertThatAny = line.hasOption("assert-that-any");
+    this.classNameFilter = classNameFilterOf(line.getOptionValue("include"), line.getOptionValue("exclude"));
+    this.reachableBoundaryPackages = line.hasOption("reachable")
+        ? patternsOf(line.getOptionValue("reachable-boundary"))
+        : null;
+    // a single comma separated value, several values would swallow the classes and packages arguments
+    this.entryPointTypes = entryPointTypesOf(line.getOptionValue("entry-points"));
+    String entryPointsSplit = line.getOptionValue("entry-points-split", "");
+    this.splitEntryPointsByPackage = entryPointsSplitOf(entryPointsSplit).contains("package");
+    this.maxEntryPointClassesPerDelegate = maxEntryPointClassesPerDelegateOf(entryPointsSplit);
+    this.threads = threadsOf(line.getOptionValue("threads", "1"));
+    this.incremental = line.hasOption("incremental");
+    this.reportFile = line.hasOption("report") ? resolve(workingDirectory, line.getOptionValue("report")) : null;
+    int[] shard = shardOf(line.getOptionValue("shard"));
+    this.shardIndex = shard[0];
+    this.shardCount = shard[1];
+    this.shardByPackage = "package".equals(shardByOf(line.getOptionValue("shard-by", "class")));
+    this.shardIndexFile = line.hasOption("shard-index")
+        ? resolve(workingDirectory, line.getOptionValue("shard-index"))
+        : new File(workingDirectory, format("assertj-generator-shard-%d-of-%d.txt", shardIndex, shardCount));
+    this.mergeShards = line.hasOption("merge-shards");
+    this.cacheDirectory = line.hasOption("cache-dir") ? resolve(workingDirectory, line.getOptionValue("cache-dir")) : null;
+    this.cacheMaxSizeInBytes = cacheMaxSizeOf(line.getOptionValue("cache-max-size", "512"));
+    this.scanCacheFile = line.hasOption("scan-cache") ? resolve(workingDirectory, line.getOptionValue("scan-cache")) : null;
+    if (mergeShards && shardCount > 0) throw new ParseException("--shard and --merge-shards can't be used together");
+  }
+
+  /**
+   * The generation options, shared by the command line and the generator daemon requests.
+   */
+  static Options options() {
+    Options options = new Options();
+    options.addOption("H", "hierarchical", false, "Generate a hierarchy of assertions that follows the hierarchy of classes to assert");
+    options.addOption("h", "help", false, "Print this help message");
+    options.addOption(Option.builder("o").longOpt("output-dir").hasArg().argName("directory")
+                            .desc("Directory where to generate assertions, the working directory by default").build());
+    options.addOption(Option.builder("p").longOpt("package").hasArg().argName("package")
+                            .desc("Package where to generate all the assertions and entry points, the package of each class by default")
+                            .build());
+    options.addOption("a", "all-fields", false, "Generate assertions for all fields, not only the public ones");
+    options.addOption(Option.builder().longOpt("annotated")
+                            .desc("Only generate assertions for the packages classes annotated with @GenerateAssertion or "
+                                  + "having annotated methods, found without loading the other classes")
+                            .build());
+    options.addOption(Option.builder().longOpt("include").hasArg().argName("patterns")
+                            .desc("Comma separated glob (or regex:<regex>) patterns of the packages classes to generate "
+                                  + "assertions for, e.g. com.nba.**")
+                            .build());
+    options.addOption(Option.builder().longOpt("exclude").hasArg().argName("patterns")
+                            .desc("Comma separated glob (or regex:<regex>) patterns of the packages classes not to "
+                                  + "generate assertions for, e.g. **Impl,com.nba.generated.**")
+                            .build());
+    options.addOption(Option.builder().longOpt("reachable")
+                            .desc("Also generate assertions for the classes reachable from the collected ones through "
+                                  + "their properties types, JDK classes and classes not selected by --include and "
+                                  + "--exclude excluded")
+                            .build());
+    options.addOption(Option.builder().longOpt("reachable-boundary").hasArg().argName("packages")
+                            .desc("Comma separated packages whose classes are not reached with --reachable")
+                            .build());
+    options.addOption(Option.builder().longOpt("list-assertions")
+                            .desc("Also generate collection assertions like PlayerListAssert, referenced by the entry points")
+                            .build());
+    options.addOption(Option.builder().longOpt("assert-that-any")
+                            .desc("Also generate assertThatAny(Object) entry points, dispatching to the custom assertions "
+                                  + "through a generated AssertionsRegistry class")
+                            .build());
+    options.addOption(Option.builder("e").longOpt("entry-points").hasArg().argName("types")
+                            .desc("Comma separated assertions entry point types to generate, among "
+                                  + EnumSet.allOf(AssertionsEntryPointType.class) + ", none by default")
+                            .build());
+    options.addOption(Option.builder().longOpt("entry-points-split").hasArg().argName("package|count")
+                            .desc("Split entry points in delegate classes called by the entry point classes, one per "
+                                  + "package and/or per given count of classes, e.g. package,200")
+                            .build());
+    options.addOption(Option.builder("t").longOpt("threads").hasArg().argName("count")
+                            .desc("Number of threads generating assertions, 1 by default").build());
+    options.addOption(Option.builder().longOpt("incremental")
+                            .desc("Only generate assertions of classes compiled after their assertion files").build());
+    options.addOption(Option.builder().longOpt("report").hasArg().argName("file")
+                            .desc("Write a JSON report of the time spent in each generation phase to the given file").build());
+    options.addOption(Option.builder().longOpt("shard").hasArg().argName("index/count")
+                            .desc("Only generate the assertions of the given shard of the classes, e.g. 0/4 for the first of 4 shards, "
+                                  + "and list its classes in a shard index file, entry points are generated by --merge-shards")
+                            .build());
+    options.addOption(Option.builder().longOpt("shard-by").hasArg().argName("class|package")
+                            .desc("Assign classes to shards by their class name (default) or by their package").build());
+    options.addOption(Option.builder().longOpt("shard-index").hasArg().argName("file")
+                            .desc("Shard index file, assertj-generator-shard-<index>-of-<count>.txt in the working directory by default")
+                            .build());
+    options.addOption(Option.builder().longOpt("merge-shards")
+                            .desc("Only generate the entry points of the classes listed in the given shard index files, e.g. @shard.txt")
+                            .build());
+    options.addOption(Option.builder().longOpt("cache-dir").hasArg().argName("directory")
+                            .desc("Directory caching the generated assertions, it can be shared by several builds").build());
+    options.addOption(Option.builder().longOpt("cache-max-size").hasArg().argName("megabytes")
+                            .desc("Size above which the least recently used cached assertions are evicted, 512 by default")
+                            .build());
+    options.addOption(Option.builder().longOpt("scan-cache").hasArg().argName("file")
+                            .desc("File caching the classes found in each classpath directory and jar, the unchanged ones "
+                                  + "are not scanned again")
+                            .build());
+    return options;
+  }
+
+  /**
+   * Parses the given arguments, an <code>@file</code> argument is replaced by the whitespace separated arguments of the
+   * file (lines starting with # are ignored), relative paths are resolved from the given working directory.
+   *
+   * @param options the options to parse.
+   * @param args the command line arguments.
+   * @param workingDirectory the directory to resolve relative paths from.
+   * @return the parsed command line.
+   * @throws ParseException if the arguments are not valid.
+   * @throws IOException if an argument file could not be read.
+   */
+  static CommandLine parse(Options options, String[] args, File workingDirectory) throws ParseException, IOException {
+    List<String> expandedArgs = new ArrayList<>();
+    for (String arg : args) {
+      if (!arg.startsWith("@")) {
+        expandedArgs.add(arg);
+        continue;
+      }
+      for (String argFileLine : Files.readAllLines(resolve(workingDirectory, arg.substring(1)).toPath(),
+                                                   StandardCharsets.UTF_8)) {
+        String trimmedLine = argFileLine.trim();
+        if (trimmedLine.isEmpty() || trimmedLine.startsWith("#")) continue;
+        expandedArgs.addAll(asList(trimmedLine.split("\\s+")));
+      }
+    }
+    return new DefaultParser().parse(options, expandedArgs.toArray(new String[0]));
+  }
+
+  static GenerationCommand of(CommandLine line, File workingDirectory) throws ParseException {
+    return new GenerationCommand(line, workingDirectory);
+  }
+
+  /**
+   * Generates the assertions of the classes and packages of this command with the given generator.
+   *
+   * @param classLoader the class loader to load the classes to generate assertions for.
+   * @param customAssertionGenerator the generator to use.
+   * @return the generated files.
+   * @throws IOException if something went wrong when creating the assertion files.
+   */
+  List<File> execute(ClassLoader classLoader, BaseAssertionGenerator customAssertionGenerator) throws IOException {
+    return execute(classLoader, customAssertionGenerator, incremental);
+  }
+
+  /**
+   * Same as {@link #execute(ClassLoader, BaseAssertionGenerator)}, the incremental option being overridden.
+   */
+  List<File> execute(ClassLoader classLoader, BaseAssertionGenerator customAssertionGenerator,
+                     boolean incremental) throws IOException {
+    // nothing references the generated classes after the session, the daemon and the watcher load them at each run
+    try (GenerationSession session = new GenerationSession(classLoader)) {
+      return execute(session, customAssertionGenerator, incremental);
+    }
+  }
+
+  private List<File> execute(GenerationSession session, BaseAssertionGenerator customAssertionGenerator,
+                             boolean incremental) throws IOException {
+    ClassLoader classLoader = session.getClassLoader();
+    customAssertionGenerator.setDirectoryWhereAssertionFilesAreGenerated(outputDirectory);
+    if (generatedAssertionsPackage != null) customAssertionGenerator.setGeneratedAssertionsPackage(generatedAssertionsPackage);
+    customAssertionGenerator.setGenerateAssertionsForAllFields(allFields);
+    customAssertionGenerator.setGenerateListAssertions(listAssertions);
+    customAssertionGenerator.setGenerateAssertThatAny(assertThatAny);
+    customAssertionGenerator.setSplitEntryPointsByPackage(splitEntryPointsByPackage);
+    customAssertionGenerator.setMaxEntryPointClassesPerDelegate(maxEntryPointClassesPerDelegate);
+    GenerationReport report = reportFile == null ? null : new GenerationReport();
+    GenerationListener listener = report == null ? GenerationListener.NO_OP : report;
+    customAssertionGenerator.setGenerationListener(listener);
+    GenerationCache cache = cacheDirectory == null ? null
+        : new GenerationCache(cacheDirectory.toPath(), cacheMaxSizeInBytes);
+    customAssertionGenerator.setGenerationCache(cache);
+
+    long start = System.nanoTime();
+    Set<TypeToken<?>> types;
+    if (annotatedOnly) {
+      types = collectAnnotatedClasses(classLoader, singleton(GenerateAssertion.class), classNameFilter,
+                                      classOrPackageNames);
+    } else if (scanCacheFile != null) {
+      ClasspathScanCache scanCache = ClasspathScanCache.load(scanCacheFile.toPath());
+      types = collectClasses(classLoader, classNameFilter, scanCache, classOrPackageNames);
+      scanCache.save();
+      logger.info("Classpath scan cache {}: {} roots reused, {} rescanned", scanCacheFile, scanCache.getReusedRoots(),
+                  scanCache.getRescannedRoots());
+    } else {
+      types = collectClasses(classLoader, classNameFilter, null, classOrPackageNames);
+    }
+    if (reachableBoundaryPackages != null) {
+      Set<TypeToken<?>> rootTypes = types;
+      types = new ReachableClassCollector(session::describe, reachableBoundaryPackages, threads).collect(rootTypes);
+      // the reached classes are filtered like the scanned ones, the root classes were already
+      if (classNameFilter != null) {
+        types.removeIf(type -> !rootTypes.contains(type) && !classNameFilter.accepts(type.getRawType().getName()));
+      }
+      logger.info("Collected {} classes reachable from {} root classes", types.size() - rootTypes.size(),
+                  rootTypes.size());
+    }
+    if (classNameFilter != null) {
+      logger.info("Class name filter {}: {} packages skipped, {} classes excluded", classNameFilter,
+                  classNameFilter.getSkippedPackages(), classNameFilter.getExcludedClasses());
+    }
+    listener.phaseCompleted(GenerationPhase.COLLECT_CLASSES, null, String.join(" ", classOrPackageNames),
+                            System.nanoTime() - start);
+    // Create a hashset of the classes for efficient lookup.
+    Set<TypeToken<?>> typeSet = newLinkedHashSet(types);
+    logger.info(hierarchical ? "Generating hierarchical assertions for classes {}" : "Generating assertions for types {}",
+                types);
+    Map<TypeToken<?>, Future<GenerationTask>> generations = new LinkedHashMap<>();
+    List<File> generatedFiles = new ArrayList<>();
+    List<TypeToken<?>> shardTypes = new ArrayList<>();
+    ExecutorService executor = threads > 1 ? Executors.newFixedThreadPool(threads) : null;
+    try {
+      for (TypeToken<?> type : types) {
+        // merged shards assertions have been generated already, only their entry points are missing
+        if (mergeShards || !isInShard(type)) continue;
+        shardTypes.add(type);
+        if (incremental && isUpToDate(type, customAssertionGenerator)) {
+          logger.info("Assertions of class {} are up to date", type);
+          continue;
+        }
+        GenerationTask task = new GenerationTask(session, type, typeSet, customAssertionGenerator);
+        generations.put(type, executor == null ? completedFuture(task.call()) : executor.submit(task));
+      }
+      // files are listed in the classes order whatever the threads count, entry points reference all the classes
+      // including the up to date ones, they only need the classes names
+      Set<ClassDescription> allClassDescriptions = newLinkedHashSet();
+      for (TypeToken<?> type : types) {
+        allClassDescriptions.add(new ClassDescription(type));
+        Future<GenerationTask> generation = generations.get(type);
+        if (generation != null) generatedFiles.addAll(asList(get(generation).generatedFiles));
+      }
+      if (shardCount > 0) {
+        writeShardIndex(shardTypes);
+        // entry points reference the classes of all shards, they are generated when merging the shards
+        if (!entryPointTypes.isEmpty()) logger.info("Entry points of shard {}/{} are generated by --merge-shards",
+                                                    shardIndex, shardCount);
+      } else {
+        generatedFiles.addAll(generateEntryPoints(allClassDescriptions, customAssertionGenerator));
+      }
+    } finally {
+      if (executor != null) executor.shutdownNow();
+    }
+    if (cache != null) {
+      // evicting walks all the cache entries, it is done once per run
+      cache.evictLeastRecentlyUsedEntries();
+      logger.info("Generation cache {}: {} hits, {} misses, {} evictions", cacheDirectory, cache.getHits(),
+                  cache.getMisses(), cache.getEvictions());
+    }
+    if (report != null) {
+      report.write(reportFile);
+      logger.info("Generation report -> {}", reportFile.getAbsolutePath());
+    }
+    return generatedFiles;
+  }
+
+  String[] classOrPackageNames() {
+    return classOrPackageNames;
+  }
+
+  /**
+   * @param className the binary name of a class, e.g. <code>com.nba.Team$Player</code>.
+   * @return true if the given class is one of the classes of this command, is nested in one of them or belongs to one
+   *         of its packages.
+   */
+  boolean covers(String className) {
+    for (String classOrPackageName : classOrPackageNames) {
+      if (className.equals(classOrPackageName) || className.startsWith(classOrPackageName + ".")
+          || className.startsWith(classOrPackageName + "$")) {
+        return true;
+      }
+    }
+    return false;
+  }
+
+  /**
+   * Deletes the assertion files generated for the given class, used when its class file has been deleted.
+   *
+   * @param className the binary name of the deleted class, e.g. <code>com.nba.Team$Player</code>.
+   * @return the deleted files.
+   * @throws IOException if an assertion file could not be deleted.
+   */
+  List<File> deleteAssertionsOf(String className) throws IOException {
+    int lastDot = className.lastIndexOf('.');
+    String packageName = generatedAssertionsPackage != null ? generatedAssertionsPackage
+        : lastDot < 0 ? "" : className.substring(0, lastDot);
+    File directory = new File(outputDirectory, packageName.replace('.', File.separatorChar));
+    // nested classes assertions are named after their outer classes: Team$Player -> TeamPlayerAssert
+    String simpleClassName = className.substring(lastDot + 1).replace("$", "");
+    List<File> assertionFiles = new ArrayList<>();
+    assertionFiles.add(new File(directory, simpleClassName + "Assert.java"));
+    if (hierarchical) assertionFiles.add(new File(directory, "Abstract" + simpleClassName + "Assert.java"));
+    if (listAssertions) assertionFiles.add(new File(directory, simpleClassName + "ListAssert.java"));
+    List<File> deletedFiles = new ArrayList<>();
+    for (File assertionFile : assertionFiles) {
+      if (Files.deleteIfExists(assertionFile.toPath())) deletedFiles.add(assertionFile);
+    }
+    return deletedFiles;
+  }
+
+  private List<File> generateEntryPoints(Set<ClassDescription> allClassDescriptions,
+                                         BaseAssertionGenerator customAssertionGenerator) throws IOException {
+    List<File> entryPointFiles = new ArrayList<>();
+    // all the entry point types are generated in one pass, delegate classes come first when entry points are split
+    Map<AssertionsEntryPointType, List<File>> entryPointFilesByType;
+    entryPointFilesByType = customAssertionGenerator.generateAssertionsEntryPointClassesFor(allClassDescriptions,
+                                                                                           entryPointTypes,
+                                                                                           generatedAssertionsPackage);
+    for (Map.Entry<AssertionsEntryPointType, List<File>> typeEntryPointFiles : entryPointFilesByType.entrySet()) {
+      for (File entryPointFile : typeEntryPointFiles.getValue()) {
+        logger.info("Generated {} assertions entry point -> {}", typeEntryPointFiles.getKey(),
+                    entryPointFile.getAbsolutePath());
+        entryPointFiles.add(entryPointFile);
+      }
+    }
+    // the assertThatAny(Object) entry points dispatch through the registry, it is generated in their package
+    if (assertThatAny && !entryPointTypes.isEmpty()) {
+      File registryFile = customAssertionGenerator.generateAssertionsRegistryClassFor(allClassDescriptions,
+                                                                                    generatedAssertionsPackage);
+      if (registryFile != null) {
+        logger.info("Generated assertions registry -> {}", registryFile.getAbsolutePath());
+        entryPointFiles.add(registryFile);
+      }
+    }
+    return entryPointFiles;
+  }
+
+  /**
+   * Generates the assertions of one class, it is its own result to give the generated files.
+   */
+  private final class GenerationTask implements Callable<GenerationTask> {
+
+    private final GenerationSession session;
+    private final TypeToken<?> type;
+    private final Set<TypeToken<?>> typeSet;
+    private final BaseAssertionGenerator customAssertionGenerator;
+    private File[] generatedFiles;
+
+    private GenerationTask(GenerationSession session, TypeToken<?> type, Set<TypeToken<?>> typeSet,
+                           BaseAssertionGenerator customAssertionGenerator) {
+      this.session = session;
+      this.type = type;
+      this.typeSet = typeSet;
+      this.customAssertionGenerator = customAssertionGenerator;
+    }
+
+    @Override
+    public GenerationTask call() throws IOException {
+      logger.info(hierarchical ? "Generating hierarchical assertions for class : {}"
+          : "Generating assertions for class : {}", type);
+      // cached assertions files are restored by the generator without describing the class
+      generatedFiles = customAssertionGenerator.generateCustomAssertionsFor(type, typeSet, hierarchical, session);
+      logger.info("Generated {} assertions files -> {}", type, asList(generatedFiles));
+      return this;
+    }
+  }
+
+  /**
+   * Classes are assigned to shards by the hash of their name or of their package name, {@link String#hashCode()} being
+   * specified, each node computes the same shards.
+   */
+  private boolean isInShard(TypeToken<?> type) {
+    if (shardCount == 0) return true;
+    Class<?> rawType = type.getRawType();
+    String shardKey = shardByPackage ? rawType.getPackage().getName() : rawType.getName();
+    return Math.floorMod(shardKey.hashCode(), shardCount) == shardIndex;
+  }
+
+  // the shard index is an argument file listing the shard classes, merging shards is done with @shard-index arguments
+  private void writeShardIndex(List<TypeToken<?>> shardTypes) throws IOException {
+    List<String> lines = new ArrayList<>();
+    lines.add(format("# assertj-generator shard %d/%d by %s", shardIndex, shardCount,
+                     shardByPackage ? "package" : "class"));
+    for (TypeToken<?> shardType : shardTypes) {
+      lines.add(shardType.getRawType().getName());
+    }
+    File directory = shardIndexFile.getAbsoluteFile().getParentFile();
+    if (directory != null) Files.createDirectories(directory.toPath());
+    Files.write(shardIndexFile.toPath(), lines, StandardCharsets.UTF_8);
+    logger.info("Generated shard {}/{} index -> {}", shardIndex, shardCount, shardIndexFile.getAbsolutePath());
+  }
+
+  private boolean isUpToDate(TypeToken<?> type, BaseAssertionGenerator customAssertionGenerator) {
+    ClassDescription classDescription = new ClassDescription(type);
+    File directory = customAssertionGenerator.getDirectoryWhereAssertionFilesAreGeneratedFor(classDescription);
+    List<File> assertionFiles = new ArrayList<>();
+    assertionFiles.add(new File(directory, classDescription.getAssertClassFilename()));
+    if (hierarchical) assertionFiles.add(new File(directory, classDescription.getAbstractAssertClassFilename()));
+    if (listAssertions) assertionFiles.add(new File(directory, classDescription.getListAssertClassFilename()));
+    long classLastModified = classFileLastModified(type.getRawType());
+    if (classLastModified == 0) return false;
+    for (File assertionFile : assertionFiles) {
+      // lastModified is 0 when the file does not exist
+      if (assertionFile.lastModified() < classLastModified) return false;
+    }
+    return true;
+  }
+
+  private static long classFileLastModified(Class<?> clazz) {
+    // nested classes have their own class file: Outer$Nested.class
+    String className = clazz.getName();
+    URL classFile = clazz.getResource(className.substring(className.lastIndexOf('.') + 1) + ".class");
+    if (classFile == null) return 0;
+    try {
+      URLConnection connection = classFile.openConnection();
+      connection.setUseCaches(false);
+      long lastModified = connection.getLastModified();
+      connection.getInputStream().close();
+      return lastModified;
+    } catch (IOException e) {
+      // unknown, the assertions will be generated
+      return 0;
+    }
+  }
+
+  private static Set<AssertionsEntryPointType> entryPointTypesOf(String names) throws ParseException {
+    Set<AssertionsEntryPointType> entryPointTypes = EnumSet.noneOf(AssertionsEntryPointType.class);
+    if (names == null) return entryPointTypes;
+    for (String name : names.split(",")) {
+      try {
+        entryPointTypes.add(AssertionsEntryPointType.valueOf(name.trim().toUpperCase(Locale.ROOT)));
+      } catch (IllegalArgumentException e) {
+        throw new ParseException("Unknown entry point type '" + name + "', expecting one of "
+                                 + EnumSet.allOf(AssertionsEntryPointType.class));
+      }
+    }
+    return entryPointTypes;
+  }
+
+  // package, count or package,count -> the given split kinds
+  private static Set<String> entryPointsSplitOf(String split) throws ParseException {
+    Set<String> splitKinds = new HashSet<>();
+    if (split.isEmpty()) return splitKinds;
+    for (String splitKind : split.split(",")) {
+      String kind = splitKind.trim();
+      if (!kind.equals("package") && !kind.matches("[1-9][0-9]{0,8}")) {
+        throw new ParseException("Invalid entry points split '" + split
+                                 + "', expecting package, a positive count of classes or both, e.g. package,200");
+      }
+      splitKinds.add(kind);
+    }
+    return splitKinds;
+  }
+
+  private static int maxEntryPointClassesPerDelegateOf(String split) throws ParseException {
+    for (String kind : entryPointsSplitOf(split)) {
+      if (!kind.equals("package")) return Integer.parseInt(kind);
+    }
+    return 0;
+  }
+
+  // index/count -> { index, count }, { 0, 0 } when not sharded
+  private static int[] shardOf(String shard) throws ParseException {
+    if (shard == null) return new int[] { 0, 0 };
+    String[] indexAndCount = shard.split("/");
+    try {
+      if (indexAndCount.length == 2) {
+        int index = Integer.parseInt(indexAndCount[0].trim());
+        int count = Integer.parseInt(indexAndCount[1].trim());
+        if (count > 0 && index >= 0 && index < count) return new int[] { index, count };
+      }
+    } catch (NumberFormatException e) {
+      // reported below
+    }
+    throw new ParseException("Invalid shard '" + shard + "', expecting <index>/<count> with 0 <= index < count");
+  }
+
+  private static String shardByOf(String shardBy) throws ParseException {
+    if (!shardBy.equals("class") && !shardBy.equals("package")) {
+      throw new ParseException("Invalid shard key '" + shardBy + "', expecting class or package");
+    }
+    return shardBy;
+  }
+
+  // comma separated include and exclude patterns -> filter, null if there are none
+  private static ClassNameFilter classNameFilterOf(String includes, String excludes) throws ParseException {
+    if (includes == null && excludes == null) return null;
+    try {
+      return new ClassNameFilter(patternsOf(includes), patternsOf(excludes));
+    } catch (IllegalArgumentException e) {
+      throw new ParseException("Invalid class name pattern: " + e.getMessage());
+    }
+  }
+
+  private static List<String> patternsOf(String patterns) {
+    List<String> patternList = new ArrayList<>();
+    if (patterns == null) return patternList;
+    for (String pattern : patterns.split(",")) {
+      patternList.add(pattern.trim());
+    }
+    return patternList;
+  }
+
+  private static long cacheMaxSizeOf(String megabytes) throws ParseException {
+    try {
+      long size = Long.parseLong(megabytes);
+      if (size > 0) return size * 1024 * 1024;
+    } catch (NumberFormatException e) {
+      // reported below
+    }
+    throw new ParseException("Invalid cache max size '" + megabytes + "', expecting a positive number of megabytes");
+  }
+
+  private static int threadsOf(String threads) throws ParseException {
+    try {
+      int count = Integer.parseInt(threads);
+      if (count > 0) return count;
+    } catch (NumberFormatException e) {
+      // reported below
+    }
+    throw new ParseException("Invalid threads count '" + threads + "', expecting a positive number");
+  }
+
+  private static File resolve(File workingDirectory, String path) {
+    File file = new File(path);
+    return file.isAbsolute() ? file : new File(workingDirectory, path);
+  }
+
+  private static <T> T get(Future<T> future) throws IOException {
+    try {
+      return future.get();
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+      throw new IOException("Interrupted while generating assertions", e);
+    } catch (ExecutionException e) {
+      if (e.getCause() instanceof IOException) throw (IOException) e.getCause();
+      if (e.getCause() instanceof RuntimeException) throw (RuntimeException) e.getCause();
+      throw new IllegalStateException(e.getCause());
+    }
+  }
+}
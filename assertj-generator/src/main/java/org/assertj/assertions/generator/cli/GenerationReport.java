@@ -0,0 +1,128 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * Copyright 2012-2025 the original author or authors.
+ */
+package org.assertj.assertions.generator.cli;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+import org.assertj.assertions.generator.GenerationListener;
+import org.assertj.assertions.generator.GenerationPhase;
+import org.assertj.assertions.generator.Template;
+
+/**
+ * Collects the durations of the generation phases and writes them as a JSON report giving for each phase (and each
+ * template type for templates rendering) its count, total, percentiles and max durations, followed by the slowest
+ * subjects, i.e. the classes that took the longest to generate assertions for, all phases included.
+ * <p>
+ * Durations are given in microseconds.
+ */
+final class GenerationReport implements GenerationListener {
+
+  static final int SLOWEST_SUBJECTS_COUNT = 10;
+  private static final double[] PERCENTILES = { 50, 90, 99 };
+
+  private final long start = System.nanoTime();
+  private final Map<GenerationPhase, List<Long>> durationsByPhase = new EnumMap<>(GenerationPhase.class);
+  private final Map<Template.Type, List<Long>> renderingDurationsByTemplateType = new EnumMap<>(Template.Type.class);
+  private final Map<String, Long> durationBySubject = new HashMap<>();
+
+  @Override
+  public synchronized void phaseCompleted(GenerationPhase phase, Template.Type templateType, String subject,
+                                          long durationNanos) {
+    durationsByPhase.computeIfAbsent(phase, p -> new ArrayList<>()).add(durationNanos);
+    if (templateType != null) {
+      renderingDurationsByTemplateType.computeIfAbsent(templateType, t -> new ArrayList<>()).add(durationNanos);
+    }
+    // collecting classes is not specific to one class, rendering includes imports resolution
+    if (phase != GenerationPhase.COLLECT_CLASSES && phase != GenerationPhase.IMPORT_RESOLUTION) {
+      durationBySubject.merge(subject, durationNanos, Long::sum);
+    }
+  }
+
+  /**
+   * Writes the report of the phases completed so far to the given file.
+   *
+   * @param reportFile the file to write the JSON report to.
+   * @throws IOException if the report could not be written.
+   */
+  synchronized void write(File reportFile) throws IOException {
+    File directory = reportFile.getAbsoluteFile().getParentFile();
+    if (directory != null) Files.createDirectories(directory.toPath());
+    Files.write(reportFile.toPath(), toJson().getBytes(UTF_8));
+  }
+
+  synchronized String toJson() {
+    StringBuilder json = new StringBuilder("{\n");
+    json.append("  \"totalMicros\": ").append(micros(System.nanoTime() - start)).append(",\n");
+    json.append("  \"phases\": {");
+    appendDurations(json, durationsByPhase);
+    json.append("\n  },\n  \"templates\": {");
+    appendDurations(json, renderingDurationsByTemplateType);
+    json.append("\n  },\n  \"slowestSubjects\": [");
+    List<Map.Entry<String, Long>> subjects = new ArrayList<>(durationBySubject.entrySet());
+    subjects.sort(Map.Entry.<String, Long> comparingByValue().reversed().thenComparing(Map.Entry.comparingByKey()));
+    for (int i = 0; i < Math.min(SLOWEST_SUBJECTS_COUNT, subjects.size()); i++) {
+      json.append(i == 0 ? "\n" : ",\n")
+          .append("    { \"subject\": ").append(quote(subjects.get(i).getKey()))
+          .append(", \"micros\": ").append(micros(subjects.get(i).getValue())).append(" }");
+    }
+    return json.append("\n  ]\n}\n").toString();
+  }
+
+  private static void appendDurations(StringBuilder json, Map<? extends Enum<?>, List<Long>> durationsByName) {
+    String separator = "\n";
+    for (Map.Entry<? extends Enum<?>, List<Long>> durations : durationsByName.entrySet()) {
+      List<Long> sortedDurations = new ArrayList<>(durations.getValue());
+      Collections.sort(sortedDurations);
+      json.append(separator).append("    ").append(quote(durations.getKey().name())).append(": { \"count\": ")
+          .append(sortedDurations.size())
+          .append(", \"totalMicros\": ").append(micros(sortedDurations.stream().mapToLong(Long::longValue).sum()));
+      for (double percentile : PERCENTILES) {
+        json.append(", \"p").append((int) percentile).append("Micros\": ")
+            .append(micros(percentile(sortedDurations, percentile)));
+      }
+      json.append(", \"maxMicros\": ").append(micros(sortedDurations.get(sortedDurations.size() - 1))).append(" }");
+      separator = ",\n";
+    }
+  }
+
+  // nearest-rank percentile of the given sorted durations
+  private static long percentile(List<Long> sortedDurations, double percentile) {
+    int rank = (int) Math.ceil(percentile / 100 * sortedDurations.size());
+    return sortedDurations.get(Math.max(rank, 1) - 1);
+  }
+
+  private static long micros(long nanos) {
+    return TimeUnit.NANOSECONDS.toMicros(nanos);
+  }
+
+  private static String quote(String value) {
+    StringBuilder quoted = new StringBuilder("\"");
+    for (char c : value.toCharArray()) {
+      if (c == '"' || c == '\\') quoted.append('\\').append(c);
+      else if (c < ' ') quoted.append(String.format("\\u%04x", (int) c));
+      else quoted.append(c);
+    }
+    return quoted.append('"').toString();
+  }
+}
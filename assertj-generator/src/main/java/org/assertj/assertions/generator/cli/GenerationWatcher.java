@@ -0,0 +1,227 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * Copyright 2012-2025 the original author or authors.
+ */
+package org.assertj.assertions.generator.cli;
+
+import static java.nio.file.StandardWatchEventKinds.ENTRY_CREATE;
+import static java.nio.file.StandardWatchEventKinds.ENTRY_DELETE;
+import static java.nio.file.StandardWatchEventKinds.ENTRY_MODIFY;
+import static java.nio.file.StandardWatchEventKinds.OVERFLOW;
+import static org.assertj.assertions.generator.util.ClassUtil.getClasspathDirectoriesOf;
+
+import java.io.File;
+import java.io.IOException;
+import java.net.URL;
+import java.nio.file.FileSystems;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.WatchEvent;
+import java.nio.file.WatchKey;
+import java.nio.file.WatchService;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeSet;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Stream;
+
+import org.assertj.assertions.generator.BaseAssertionGenerator;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Watches the classpath directories of the classes and packages of a {@link GenerationCommand} and regenerates the
+ * assertions of the classes whose class files have changed.
+ * <p>
+ * Changes are processed by batches: a batch ends when no class file has changed for {@link #DEBOUNCE_MILLIS}, which
+ * avoids regenerating assertions in the middle of a compilation. Each batch loads the classes with a fresh
+ * {@link IsolatedClassLoader} so that the new versions of the changed classes are seen, only the assertions of the
+ * changed classes are regenerated (see the incremental option) while the entry points are regenerated with all the
+ * classes. Assertions of deleted classes are deleted, the watched directories being scanned again when change events
+ * were lost.
+ * <p>
+ * A batch whose generation fails, e.g. because a class file is being written, is logged and the watcher waits for the
+ * next changes.
+ */
+final class GenerationWatcher {
+
+  static final long DEBOUNCE_MILLIS = 300;
+  private static final Logger logger = LoggerFactory.getLogger(GenerationWatcher.class);
+  private static final String CLASS_SUFFIX = ".class";
+
+  private final GenerationCommand command;
+  private final ClassLoader generatorClassLoader;
+  private final URL[] classpath;
+  private final Map<WatchKey, Path> watchedDirectories = new HashMap<>();
+  // the covered classes having a class file in the watched directories, to find the deleted ones when events are lost
+  private Set<String> watchedClasses = new HashSet<>();
+  private boolean eventsLost;
+
+  /**
+   * @param command the generation to run at each change.
+   * @param generatorClassLoader the class loader of the generator.
+   * @param classpath the classpath to load the classes to generate assertions for, also used to find the directories
+   *          to watch.
+   */
+  GenerationWatcher(GenerationCommand command, ClassLoader generatorClassLoader, URL[] classpath) {
+    this.command = command;
+    this.generatorClassLoader = generatorClassLoader;
+    this.classpath = classpath;
+  }
+
+  /**
+   * Generates the assertions then regenerates them at each change until the current thread is interrupted.
+   *
+   * @throws IOException if the directories could not be watched or the assertions could not be generated.
+   */
+  void run() throws IOException {
+    Set<File> classpathDirectories;
+    try (IsolatedClassLoader classLoader = new IsolatedClassLoader(classpath, generatorClassLoader)) {
+      classpathDirectories = getClasspathDirectoriesOf(classLoader, command.classOrPackageNames());
+    }
+    if (classpathDirectories.isEmpty()) {
+      throw new IOException("No classpath directory contains any of " + String.join(", ", command.classOrPackageNames()));
+    }
+    watchedClasses = classesIn(classpathDirectories);
+    generate(false, new TreeSet<>());
+    try (WatchService watchService = FileSystems.getDefault().newWatchService()) {
+      for (File classpathDirectory : classpathDirectories) {
+        register(watchService, classpathDirectory.toPath());
+      }
+      logger.info("Watching class files changes in {}", classpathDirectories);
+      // the deleted classes of a failed batch are deleted with the next one
+      Set<String> deletedClasses = new TreeSet<>();
+      while (!Thread.currentThread().isInterrupted()) {
+        WatchKey firstKey = watchService.take();
+        try {
+          eventsLost = false;
+          boolean changed = processEvents(watchService, firstKey, classpathDirectories, deletedClasses);
+          // debounce: wait for the end of the changes burst, e.g. a compilation
+          WatchKey key;
+          while ((key = watchService.poll(DEBOUNCE_MILLIS, TimeUnit.MILLISECONDS)) != null) {
+            changed |= processEvents(watchService, key, classpathDirectories, deletedClasses);
+          }
+          if (eventsLost) findDeletedClasses(watchService, classpathDirectories, deletedClasses);
+          if (changed) generate(true, deletedClasses);
+          deletedClasses.clear();
+        } catch (IOException | RuntimeException | LinkageError e) {
+          // e.g. a class file still being written by a compilation, the next changes should fix it
+          logger.error("Failed to regenerate the assertions of the changed classes, waiting for the next changes", e);
+        }
+      }
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+    }
+  }
+
+  private void generate(boolean incremental, Set<String> deletedClasses) throws IOException {
+    try (IsolatedClassLoader classLoader = new IsolatedClassLoader(classpath, generatorClassLoader)) {
+      for (String deletedClass : deletedClasses) {
+        // a class file may be deleted then written again by a compilation
+        if (classLoader.getResource(deletedClass.replace('.', '/') + CLASS_SUFFIX) != null) continue;
+        for (File deletedFile : command.deleteAssertionsOf(deletedClass)) {
+          logger.info("Deleted {} assertions file -> {}", deletedClass, deletedFile.getAbsolutePath());
+        }
+      }
+      command.execute(classLoader, new BaseAssertionGenerator(), incremental);
+    }
+  }
+
+  private boolean processEvents(WatchService watchService, WatchKey key, Set<File> classpathDirectories,
+                                Set<String> deletedClasses) throws IOException {
+    Path directory = watchedDirectories.get(key);
+    boolean changed = false;
+    for (WatchEvent<?> event : key.pollEvents()) {
+      if (event.kind() == OVERFLOW) {
+        // some events were lost, consider everything has changed and look for the deleted classes
+        eventsLost = true;
+        changed = true;
+        continue;
+      }
+      Path path = directory.resolve((Path) event.context());
+      if (event.kind() == ENTRY_CREATE && Files.isDirectory(path)) {
+        // new package, its class files are seen when the classes are collected again
+        register(watchService, path);
+        changed = true;
+        continue;
+      }
+      String className = classNameOf(path, classpathDirectories);
+      if (className == null || !command.covers(className)) continue;
+      if (event.kind() == ENTRY_DELETE) {
+        deletedClasses.add(className);
+        watchedClasses.remove(className);
+      } else {
+        watchedClasses.add(className);
+      }
+      changed = true;
+    }
+    if (!key.reset()) watchedDirectories.remove(key);
+    return changed;
+  }
+
+  // the deleted classes are the watched ones whose class file is gone, new directories may have been missed too
+  private void findDeletedClasses(WatchService watchService, Set<File> classpathDirectories,
+                                  Set<String> deletedClasses) throws IOException {
+    for (File classpathDirectory : classpathDirectories) {
+      register(watchService, classpathDirectory.toPath());
+    }
+    Set<String> classes = classesIn(classpathDirectories);
+    for (String watchedClass : watchedClasses) {
+      if (!classes.contains(watchedClass)) deletedClasses.add(watchedClass);
+    }
+    watchedClasses = classes;
+  }
+
+  // the covered classes having a class file in the given classpath directories
+  private Set<String> classesIn(Set<File> classpathDirectories) throws IOException {
+    Set<String> classes = new HashSet<>();
+    for (File classpathDirectory : classpathDirectories) {
+      try (Stream<Path> files = Files.walk(classpathDirectory.toPath())) {
+        for (Path file : (Iterable<Path>) files::iterator) {
+          String className = classNameOf(file, classpathDirectories);
+          if (className != null && command.covers(className)) classes.add(className);
+        }
+      }
+    }
+    return classes;
+  }
+
+  private void register(WatchService watchService, Path root) throws IOException {
+    try (Stream<Path> directories = Files.walk(root)) {
+      for (Path directory : (Iterable<Path>) directories.filter(Files::isDirectory)::iterator) {
+        watchedDirectories.put(directory.register(watchService, ENTRY_CREATE, ENTRY_MODIFY, ENTRY_DELETE), directory);
+      }
+    }
+  }
+
+  // com/nba/Team$Player.class in a classpath directory -> com.nba.Team$Player
+  private static String classNameOf(Path classFile, Set<File> classpathDirectories) {
+    String fileName = classFile.getFileName().toString();
+    if (!fileName.endsWith(CLASS_SUFFIX)) return null;
+    for (File classpathDirectory : classpathDirectories) {
+      Path root = classpathDirectory.toPath();
+      if (!classFile.startsWith(root)) continue;
+      List<String> names = new ArrayList<>();
+      for (Path name : root.relativize(classFile)) {
+        names.add(name.toString());
+      }
+      String relativeName = String.join(".", names);
+      // no assertions are generated for anonymous and local classes: Team$1.class, Team$1Local.class
+      if (relativeName.matches(".*\\$\\d.*")) return null;
+      return relativeName.substring(0, relativeName.length() - CLASS_SUFFIX.length());
+    }
+    return null;
+  }
+}
@@ -0,0 +1,152 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * Copyright 2012-2025 the original author or authors.
+ */
+package org.assertj.assertions.generator.cli;
+
+import static java.lang.String.valueOf;
+import static org.assertj.assertions.generator.cli.DaemonProtocol.readMessage;
+import static org.assertj.assertions.generator.cli.DaemonProtocol.writeMessage;
+
+import java.io.Closeable;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.File;
+import java.io.IOException;
+import java.net.StandardProtocolFamily;
+import java.net.UnixDomainSocketAddress;
+import java.nio.channels.AsynchronousCloseException;
+import java.nio.channels.Channels;
+import java.nio.channels.ServerSocketChannel;
+import java.nio.channels.SocketChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+import org.apache.commons.cli.CommandLine;
+import org.apache.commons.cli.ParseException;
+import org.assertj.assertions.generator.BaseAssertionGenerator;
+import org.assertj.assertions.generator.DefaultTemplateRegistryProducer;
+import org.assertj.assertions.generator.TemplateRegistry;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * A long-running generator serving generation requests sent by {@link GeneratorDaemonClient} on a unix domain socket,
+ * this avoids paying the JVM startup, the class loading of the generator and the templates reading for each generation.
+ * <p>
+ * Each request is executed with its own {@link IsolatedClassLoader} built from the request classpath: the request
+ * classes are loaded before the daemon ones, and the loader is closed once the request is done so that the classes to
+ * generate assertions for are never kept by the daemon and are seen afresh by the next request.
+ */
+public final class GeneratorDaemon implements Closeable {
+
+  private static final Logger logger = LoggerFactory.getLogger(GeneratorDaemon.class);
+
+  private final Path socketFile;
+  private final TemplateRegistry templateRegistry;
+  private final ServerSocketChannel serverChannel;
+  private final ExecutorService requestExecutor;
+
+  /**
+   * Creates a daemon listening on the given socket file, a stale socket file left by a previous daemon is replaced.
+   *
+   * @param socketFile the unix domain socket file to listen on.
+   * @throws IOException if the socket could not be bound.
+   */
+  public GeneratorDaemon(Path socketFile) throws IOException {
+    this.socketFile = socketFile;
+    // templates are read once and shared by all the requests
+    this.templateRegistry = DefaultTemplateRegistryProducer.create(BaseAssertionGenerator.TEMPLATES_DIR);
+    Files.deleteIfExists(socketFile);
+    this.serverChannel = ServerSocketChannel.open(StandardProtocolFamily.UNIX);
+    this.serverChannel.bind(UnixDomainSocketAddress.of(socketFile));
+    this.requestExecutor = Executors.newCachedThreadPool(runnable -> {
+      Thread thread = new Thread(runnable, "assertj-generator-daemon-request");
+      thread.setDaemon(true);
+      return thread;
+    });
+  }
+
+  /**
+   * Serves the generation requests until this daemon is closed.
+   *
+   * @throws IOException if the daemon could not accept requests anymore.
+   */
+  public void run() throws IOException {
+    logger.info("Generator daemon listening on {}", socketFile);
+    while (serverChannel.isOpen()) {
+      SocketChannel channel;
+      try {
+        channel = serverChannel.accept();
+      } catch (AsynchronousCloseException e) {
+        // the daemon has been closed
+        return;
+      }
+      requestExecutor.execute(() -> serve(channel));
+    }
+  }
+
+  private void serve(SocketChannel channel) {
+    try (SocketChannel requestChannel = channel;
+         DataInputStream input = new DataInputStream(Channels.newInputStream(requestChannel));
+         DataOutputStream output = new DataOutputStream(Channels.newOutputStream(requestChannel))) {
+      List<String> request = readMessage(input);
+      writeMessage(output, generate(request));
+    } catch (IOException e) {
+      logger.error("Failed to serve generation request", e);
+    }
+  }
+
+  private List<String> generate(List<String> request) {
+    List<String> response = new ArrayList<>();
+    if (request.size() < 2) {
+      response.add(valueOf(1));
+      response.add("Invalid request, expecting at least a working directory and a classpath");
+      return response;
+    }
+    File workingDirectory = new File(request.get(0));
+    String[] args = request.subList(2, request.size()).toArray(new String[0]);
+    Thread currentThread = Thread.currentThread();
+    ClassLoader daemonClassLoader = currentThread.getContextClassLoader();
+    try (IsolatedClassLoader requestClassLoader = new IsolatedClassLoader(
+        IsolatedClassLoader.classpathOf(request.get(1), workingDirectory), GeneratorDaemon.class.getClassLoader())) {
+      CommandLine line = GenerationCommand.parse(GenerationCommand.options(), args, workingDirectory);
+      GenerationCommand command = GenerationCommand.of(line, workingDirectory);
+      currentThread.setContextClassLoader(requestClassLoader);
+      List<File> generatedFiles = command.execute(requestClassLoader, new BaseAssertionGenerator(templateRegistry));
+      response.add(valueOf(0));
+      for (File generatedFile : generatedFiles) {
+        response.add("Generated " + generatedFile.getAbsolutePath());
+      }
+    } catch (ParseException e) {
+      response.add(valueOf(1));
+      response.add("Error trying to parse command-line arguments: " + e.getMessage());
+    } catch (Exception e) {
+      logger.error("Failed to generate assertions for {}", request, e);
+      response.add(valueOf(1));
+      response.add("Failed to generate assertions: " + e);
+    } finally {
+      currentThread.setContextClassLoader(daemonClassLoader);
+    }
+    return response;
+  }
+
+  @Override
+  public void close() throws IOException {
+    requestExecutor.shutdown();
+    serverChannel.close();
+    Files.deleteIfExists(socketFile);
+  }
+}
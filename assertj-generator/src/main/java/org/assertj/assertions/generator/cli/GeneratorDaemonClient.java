@@ -0,0 +1,85 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * Copyright 2012-2025 the original author or authors.
+ */
+package org.assertj.assertions.generator.cli;
+
+import static java.util.Arrays.asList;
+import static org.assertj.assertions.generator.cli.DaemonProtocol.readMessage;
+import static org.assertj.assertions.generator.cli.DaemonProtocol.writeMessage;
+
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.PrintStream;
+import java.net.StandardProtocolFamily;
+import java.net.UnixDomainSocketAddress;
+import java.nio.channels.Channels;
+import java.nio.channels.SocketChannel;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Thin client sending a generation request to a {@link GeneratorDaemon}, it accepts the same arguments as
+ * {@link AssertionGeneratorLauncher}:
+ *
+ * <pre>
+ * java -cp "lib/*" org.assertj.assertions.generator.cli.GeneratorDaemonClient &lt;socket file&gt; [--hierarchical] &lt;classes/packages&gt;</pre>
+ *
+ * Classes are loaded by the daemon from the <code>assertj.generator.classpath</code> system property (the working
+ * directory by default) and the assertions are generated in the working directory.
+ * <p>
+ * Only JDK classes are used so that the client starts as fast as possible.
+ */
+public final class GeneratorDaemonClient {
+
+  private GeneratorDaemonClient() {}
+
+  public static void main(String[] args) throws IOException {
+    if (args.length == 0) {
+      System.err.println("Usage: java " + GeneratorDaemonClient.class.getName()
+                         + " <socket file> [--hierarchical] <classes/packages>");
+      System.exit(1);
+    }
+    List<String> generatorArgs = asList(args).subList(1, args.length);
+    int status = generate(Paths.get(args[0]), Paths.get("").toAbsolutePath(),
+                          System.getProperty("assertj.generator.classpath", "."), generatorArgs, System.out);
+    System.exit(status);
+  }
+
+  /**
+   * Sends a generation request to the daemon listening on the given socket and prints its output.
+   *
+   * @param socketFile the daemon socket file.
+   * @param workingDirectory the directory where to generate assertions, relative classpath entries are resolved from it.
+   * @param classpath the classpath to load the classes to generate assertions for.
+   * @param args the generator command line arguments.
+   * @param out where to print the daemon output.
+   * @return the generation exit status, 0 if it succeeded.
+   * @throws IOException if the daemon could not be reached.
+   */
+  public static int generate(Path socketFile, Path workingDirectory, String classpath, List<String> args,
+                             PrintStream out) throws IOException {
+    List<String> request = new ArrayList<>();
+    request.add(workingDirectory.toString());
+    request.add(classpath);
+    request.addAll(args);
+    try (SocketChannel channel = SocketChannel.open(StandardProtocolFamily.UNIX)) {
+      channel.connect(UnixDomainSocketAddress.of(socketFile));
+      writeMessage(new DataOutputStream(Channels.newOutputStream(channel)), request);
+      List<String> response = readMessage(new DataInputStream(Channels.newInputStream(channel)));
+      response.subList(1, response.size()).forEach(out::println);
+      return Integer.parseInt(response.get(0));
+    }
+  }
+}
@@ -0,0 +1,327 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * Copyright 2012-2025 the original author or authors.
+ */
+package org.assertj.assertions.generator.cli;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStream;
+import java.net.MalformedURLException;
+import java.net.URISyntaxException;
+import java.net.URL;
+import java.net.URLClassLoader;
+import java.nio.file.Files;
+import java.security.CodeSigner;
+import java.security.CodeSource;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Enumeration;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.jar.JarEntry;
+import java.util.jar.JarFile;
+import java.util.jar.Manifest;
+
+import org.assertj.assertions.generator.GenerateAssertion;
+import org.assertj.assertions.generator.util.JarScanner;
+
+/**
+ * A class loader only seeing the given classpath and the JDK classes, used to load fresh versions of the classes to
+ * generate assertions for, whatever the generator class loader has already loaded, and to keep the generator
+ * dependencies from shadowing the application ones.
+ * <p>
+ * The {@link GenerateAssertion} annotation is the only class shared with the generator class loader, annotated
+ * elements would not be recognized by the generator otherwise.
+ * <p>
+ * Classes are looked for in the classpath before the JDK ones, except the classes of the packages of the JDK modules
+ * (e.g. <code>java.lang</code> or <code>javax.sql</code>) which are looked for in the platform class loader first, the
+ * directories of the jars entries being indexed when the loader is created so that a class is only looked for in the
+ * jars having entries in its package. The loader is parallel capable: classes are loaded concurrently by the threads describing them.
+ */
+final class IsolatedClassLoader extends URLClassLoader {
+
+  private static final String CLASS_SUFFIX = ".class";
+  // the packages of the modules defined to the boot and platform class loaders, their classes are loaded parent first
+  private static final Set<String> PLATFORM_PACKAGES = platformPackages();
+
+  static {
+    ClassLoader.registerAsParallelCapable();
+  }
+
+  private final ClassLoader generatorClassLoader;
+  private final URL[] classpath;
+  // the classpath directories and jars (including the ones referenced by manifests), in the classpath order
+  private final List<File> classpathRoots = new ArrayList<>();
+  // directory of jars entries, e.g. com/nba -> indexes of the classpath roots containing it: the jars having entries
+  // in it and all the directories
+  private final Map<String, List<Integer>> rootsByDirectory = new HashMap<>();
+  private final List<Integer> directoryRoots = new ArrayList<>();
+  private final Map<File, JarFile> jarFiles = new ConcurrentHashMap<>();
+
+  IsolatedClassLoader(URL[] classpath, ClassLoader generatorClassLoader) {
+    // only the non file classpath entries are looked for by the URLClassLoader
+    super(nonFileUrlsOf(classpath), ClassLoader.getPlatformClassLoader());
+    this.generatorClassLoader = generatorClassLoader;
+    this.classpath = classpath.clone();
+    for (URL url : classpath) {
+      File file = fileOf(url);
+      if (file == null) continue;
+      if (file.isDirectory()) {
+        directoryRoots.add(classpathRoots.size());
+        classpathRoots.add(file);
+        continue;
+      }
+      for (File jar : JarScanner.classpathJarsOf(url)) {
+        if (classpathRoots.contains(jar)) continue;
+        // like URLClassLoader, unreadable jars are ignored
+        if (index(jar, classpathRoots.size())) classpathRoots.add(jar);
+      }
+    }
+  }
+
+  @Override
+  protected Class<?> loadClass(String name, boolean resolve) throws ClassNotFoundException {
+    if (GenerateAssertion.class.getName().equals(name)) return generatorClassLoader.loadClass(name);
+    synchronized (getClassLoadingLock(name)) {
+      Class<?> loadedClass = findLoadedClass(name);
+      if (loadedClass == null && !PLATFORM_PACKAGES.contains(packageOf(name))) {
+        try {
+          loadedClass = findClass(name);
+        } catch (ClassNotFoundException e) {
+          // not in the classpath, should be a JDK class
+        }
+      }
+      if (loadedClass == null) loadedClass = getParent().loadClass(name);
+      if (resolve) resolveClass(loadedClass);
+      return loadedClass;
+    }
+  }
+
+  @Override
+  protected Class<?> findClass(String name) throws ClassNotFoundException {
+    String path = name.replace('.', '/') + CLASS_SUFFIX;
+    try {
+      for (File root : classpathRootsOf(path)) {
+        if (root.isDirectory()) {
+          File classFile = new File(root, path);
+          if (!classFile.isFile()) continue;
+          definePackageOf(name, null, null);
+          byte[] bytes = Files.readAllBytes(classFile.toPath());
+          return defineClass(name, bytes, 0, bytes.length, new CodeSource(root.toURI().toURL(), (CodeSigner[]) null));
+        }
+        JarFile jarFile = jarFileOf(root);
+        JarEntry entry = jarFile.getJarEntry(path);
+        if (entry == null) continue;
+        byte[] bytes;
+        try (InputStream classFile = jarFile.getInputStream(entry)) {
+          bytes = classFile.readAllBytes();
+        }
+        definePackageOf(name, jarFile.getManifest(), root.toURI().toURL());
+        return defineClass(name, bytes, 0, bytes.length, new CodeSource(root.toURI().toURL(), entry.getCodeSigners()));
+      }
+    } catch (IOException e) {
+      throw new ClassNotFoundException(name, e);
+    }
+    return super.findClass(name);
+  }
+
+  @Override
+  public URL getResource(String name) {
+    // child first as the classes
+    URL resource = findResource(name);
+    return resource != null ? resource : getParent().getResource(name);
+  }
+
+  @Override
+  public URL findResource(String name) {
+    List<URL> resources = findResources(name, true);
+    return resources.isEmpty() ? super.findResource(name) : resources.get(0);
+  }
+
+  @Override
+  public Enumeration<URL> findResources(String name) throws IOException {
+    List<URL> resources = findResources(name, false);
+    resources.addAll(Collections.list(super.findResources(name)));
+    return Collections.enumeration(resources);
+  }
+
+  /**
+   * Returns the whole classpath, including the jars and directories this loader looks into itself.
+   */
+  @Override
+  public URL[] getURLs() {
+    return classpath.clone();
+  }
+
+  /**
+   * Returns the URLs of the given path separated classpath entries, like the java launcher relative entries are
+   * resolved against the given working directory and <code>dir/*</code> stands for the jars of <code>dir</code>,
+   * sorted by name.
+   */
+  static URL[] classpathOf(String path, File workingDirectory) throws MalformedURLException {
+    List<URL> classpath = new ArrayList<>();
+    for (String entry : path.split(File.pathSeparator)) {
+      if (entry.isEmpty()) continue;
+      File file = new File(entry);
+      if (!file.isAbsolute()) file = new File(workingDirectory, entry);
+      if (!"*".equals(file.getName())) {
+        classpath.add(file.toURI().toURL());
+        continue;
+      }
+      File[] jars = file.getParentFile().listFiles((directory, name) -> name.toLowerCase(Locale.ROOT).endsWith(".jar"));
+      if (jars == null) continue;
+      Arrays.sort(jars);
+      for (File jar : jars) {
+        classpath.add(jar.toURI().toURL());
+      }
+    }
+    return classpath.toArray(new URL[0]);
+  }
+
+  @Override
+  public void close() throws IOException {
+    try {
+      for (JarFile jarFile : jarFiles.values()) {
+        jarFile.close();
+      }
+      jarFiles.clear();
+    } finally {
+      super.close();
+    }
+  }
+
+  private List<URL> findResources(String name, boolean firstOnly) {
+    List<URL> resources = new ArrayList<>();
+    try {
+      for (File root : classpathRootsOf(name)) {
+        if (root.isDirectory()) {
+          File resource = new File(root, name);
+          if (resource.exists()) resources.add(resource.toURI().toURL());
+        } else if (jarFileOf(root).getEntry(name) != null) {
+          resources.add(new URL("jar:" + root.toURI() + "!/" + name));
+        }
+        if (firstOnly && !resources.isEmpty()) break;
+      }
+    } catch (IOException e) {
+      // like URLClassLoader, unreadable classpath entries are ignored
+    }
+    return resources;
+  }
+
+  private static Set<String> platformPackages() {
+    ClassLoader platformClassLoader = ClassLoader.getPlatformClassLoader();
+    Set<String> platformPackages = new HashSet<>();
+    for (Module module : ModuleLayer.boot().modules()) {
+      ClassLoader moduleClassLoader = module.getClassLoader();
+      if (moduleClassLoader == null || moduleClassLoader == platformClassLoader) {
+        platformPackages.addAll(module.getPackages());
+      }
+    }
+    return platformPackages;
+  }
+
+  private static String packageOf(String className) {
+    int lastDot = className.lastIndexOf('.');
+    return lastDot < 0 ? "" : className.substring(0, lastDot);
+  }
+
+  // the directories and the jars having entries in the directory of the given entry, in the classpath order
+  private List<File> classpathRootsOf(String entryName) {
+    String entryDirectory = directoryOf(entryName.endsWith("/") ? entryName.substring(0, entryName.length() - 1)
+        : entryName);
+    List<Integer> jarRoots = rootsByDirectory.getOrDefault(entryDirectory, Collections.emptyList());
+    List<File> roots = new ArrayList<>(jarRoots.size() + directoryRoots.size());
+    // merge the two sorted lists of indexes
+    int jarIndex = 0;
+    int directoryIndex = 0;
+    while (jarIndex < jarRoots.size() || directoryIndex < directoryRoots.size()) {
+      boolean nextIsJar = directoryIndex == directoryRoots.size()
+                          || (jarIndex < jarRoots.size() && jarRoots.get(jarIndex) < directoryRoots.get(directoryIndex));
+      roots.add(classpathRoots.get(nextIsJar ? jarRoots.get(jarIndex++) : directoryRoots.get(directoryIndex++)));
+    }
+    return roots;
+  }
+
+  // false if the jar can't be read
+  private boolean index(File jar, int rootIndex) {
+    List<String> entryNames;
+    try {
+      entryNames = JarScanner.entryNamesOf(jar, "");
+    } catch (IOException e) {
+      return false;
+    }
+    for (String entryName : entryNames) {
+      // the entry directory and its parents, e.g. com/nba/Player.class -> com/nba, com and the root directory
+      String directory = entryName;
+      do {
+        directory = directoryOf(directory);
+        List<Integer> roots = rootsByDirectory.computeIfAbsent(directory, key -> new ArrayList<>());
+        if (!roots.isEmpty() && roots.get(roots.size() - 1) == rootIndex) break;
+        roots.add(rootIndex);
+      } while (!directory.isEmpty());
+    }
+    return true;
+  }
+
+  private JarFile jarFileOf(File jar) throws IOException {
+    JarFile jarFile = jarFiles.get(jar);
+    if (jarFile != null) return jarFile;
+    JarFile openedJarFile = new JarFile(jar);
+    jarFile = jarFiles.putIfAbsent(jar, openedJarFile);
+    if (jarFile == null) return openedJarFile;
+    // opened concurrently by another thread
+    openedJarFile.close();
+    return jarFile;
+  }
+
+  private void definePackageOf(String className, Manifest manifest, URL codeSourceUrl) {
+    int lastDot = className.lastIndexOf('.');
+    if (lastDot == -1) return;
+    String packageName = className.substring(0, lastDot);
+    if (getDefinedPackage(packageName) != null) return;
+    try {
+      if (manifest == null) definePackage(packageName, null, null, null, null, null, null, null);
+      else definePackage(packageName, manifest, codeSourceUrl);
+    } catch (IllegalArgumentException e) {
+      // defined concurrently by another thread
+    }
+  }
+
+  // com/nba/Player.class -> com/nba, Player.class -> the root directory
+  private static String directoryOf(String entryName) {
+    int lastSlash = entryName.lastIndexOf('/');
+    return lastSlash == -1 ? "" : entryName.substring(0, lastSlash);
+  }
+
+  private static URL[] nonFileUrlsOf(URL[] classpath) {
+    List<URL> nonFileUrls = new ArrayList<>();
+    for (URL url : classpath) {
+      if (fileOf(url) == null) nonFileUrls.add(url);
+    }
+    return nonFileUrls.toArray(new URL[0]);
+  }
+
+  private static File fileOf(URL url) {
+    if (!"file".equals(url.getProtocol())) return null;
+    try {
+      return new File(url.toURI());
+    } catch (URISyntaxException | IllegalArgumentException e) {
+      return new File(url.getPath());
+    }
+  }
+}
@@ -42,6 +42,7 @@ public class ClassDescription implements Comparable<ClassDescription> {
   private static final String ABSTRACT_ASSERT_CLASS_PREFIX = "Abstract";
 
   private static final String ASSERT_CLASS_SUFFIX = "Assert";
+  private static final String LIST_ASSERT_CLASS_SUFFIX = "List" + ASSERT_CLASS_SUFFIX;
 
   private Set<GetterDescription> gettersDescriptions;
   private Set<FieldDescription> fieldsDescriptions;
@@ -59,6 +60,10 @@ public class ClassDescription implements Comparable<ClassDescription> {
     this.declaredFieldsDescriptions = new TreeSet<>();
   }
 
+  public TypeToken<?> getType() {
+    return type;
+  }
+
   public String getFullyQualifiedClassName() {
     return getTypeDeclaration(type);
   }
@@ -162,6 +167,18 @@ public class ClassDescription implements Comparable<ClassDescription> {
     return getPackageName() + "." + getAssertClassName();
   }
 
+  public String getListAssertClassName() {
+    return getTypeNameWithoutDots(getTypeDeclaration(type)) + LIST_ASSERT_CLASS_SUFFIX;
+  }
+
+  public String getListAssertClassFilename() {
+    return getListAssertClassName() + ".java";
+  }
+
+  public String getFullyQualifiedListAssertClassName() {
+    return getPackageName() + "." + getListAssertClassName();
+  }
+
   public String getAbstractAssertClassName() {
     return abstractAssertClassNameOf(type);
   }
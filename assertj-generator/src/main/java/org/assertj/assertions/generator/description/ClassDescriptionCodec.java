@@ -0,0 +1,278 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * Copyright 2012-2025 the original author or authors.
+ */
+package org.assertj.assertions.generator.description;
+
+import static java.nio.channels.FileChannel.MapMode.READ_ONLY;
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static org.assertj.assertions.generator.description.CompactDataDescription.intern;
+
+import java.io.IOException;
+import java.nio.BufferUnderflowException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.apache.commons.lang3.Validate;
+
+/**
+ * Binary encoding of {@link CompactClassDescription}s to move them between processes, e.g. from a JVM scanning the
+ * classes to the ones rendering the assertions, or to keep them from a previous run. Decoded descriptions have no
+ * {@link com.google.common.reflect.TypeToken}s but render the same assertions as the descriptions they were encoded
+ * from.
+ * <p>
+ * The encoding is big endian and versioned, it does not rely on Java serialization:
+ * <ul>
+ * <li>the <code>AJCD</code> magic number followed by the version as a short</li>
+ * <li>the string table: its size then each string as its UTF-8 length and bytes, strings are referenced by their index
+ * in the table plus one, 0 standing for null</li>
+ * <li>the number of classes then each class: its names, a flags byte, its distinct properties and the indexes of its
+ * getters, fields, declared getters and declared fields among them so that they are still shared once decoded</li>
+ * </ul>
+ * Apart from the header, every count, index and flag is written as an unsigned varint.
+ */
+public final class ClassDescriptionCodec {
+
+  static final int MAGIC = 0x414A4344;
+  static final short VERSION = 1;
+  private static final int IMPLEMENTS_COMPARABLE = 1;
+  private static final int INITIAL_CAPACITY = 4096;
+  private static final String[] NO_STRINGS = new String[0];
+
+  private ClassDescriptionCodec() {}
+
+  /**
+   * Encodes the given class descriptions.
+   *
+   * @param classDescriptions the class descriptions to encode.
+   * @return a buffer holding the encoding from its position to its limit.
+   */
+  public static ByteBuffer encode(Collection<CompactClassDescription> classDescriptions) {
+    Map<String, Integer> strings = new HashMap<>();
+    List<String> stringTable = new ArrayList<>();
+    Output body = new Output();
+    body.putVarint(classDescriptions.size());
+    for (CompactClassDescription classDescription : classDescriptions) {
+      for (String name : classDescription.names()) {
+        body.putVarint(stringRef(name, strings, stringTable));
+      }
+      body.putByte(classDescription.implementsComparable() ? IMPLEMENTS_COMPARABLE : 0);
+      // the declared properties are the inherited ones, they are encoded once
+      Map<CompactDataDescription, Integer> properties = new IdentityHashMap<>();
+      List<CompactDataDescription> propertyTable = new ArrayList<>();
+      CompactDataDescription[][] propertyArrays = classDescription.properties();
+      for (CompactDataDescription[] propertyArray : propertyArrays) {
+        for (CompactDataDescription property : propertyArray) {
+          if (properties.putIfAbsent(property, propertyTable.size()) == null) propertyTable.add(property);
+        }
+      }
+      body.putVarint(propertyTable.size());
+      for (CompactDataDescription property : propertyTable) {
+        body.putVarint(property.flags());
+        for (String name : property.names()) {
+          body.putVarint(stringRef(name, strings, stringTable));
+        }
+        putStringRefs(property.predicates() == null ? NO_STRINGS : property.predicates(), body, strings, stringTable);
+        putStringRefs(property.getExceptions().toArray(NO_STRINGS), body, strings, stringTable);
+      }
+      for (CompactDataDescription[] propertyArray : propertyArrays) {
+        body.putVarint(propertyArray.length);
+        for (CompactDataDescription property : propertyArray) {
+          body.putVarint(properties.get(property));
+        }
+      }
+    }
+    Output output = new Output();
+    output.ensureCapacity(Integer.BYTES + Short.BYTES);
+    output.buffer.putInt(MAGIC).putShort(VERSION);
+    output.putVarint(stringTable.size());
+    for (String string : stringTable) {
+      byte[] bytes = string.getBytes(UTF_8);
+      output.putVarint(bytes.length);
+      output.put(bytes);
+    }
+    body.buffer.flip();
+    output.ensureCapacity(body.buffer.remaining());
+    output.buffer.put(body.buffer);
+    output.buffer.flip();
+    return output.buffer;
+  }
+
+  /**
+   * Decodes the class descriptions encoded in the given buffer from its position, the buffer is read in big endian.
+   *
+   * @param buffer the buffer to read.
+   * @return the decoded class descriptions in their encoding order.
+   * @throws IllegalArgumentException if the buffer does not hold a valid encoding of this version.
+   */
+  public static List<CompactClassDescription> decode(ByteBuffer buffer) {
+    buffer.order(ByteOrder.BIG_ENDIAN);
+    try {
+      Validate.isTrue(buffer.remaining() >= Integer.BYTES && buffer.getInt() == MAGIC,
+                      "Not an encoding of class descriptions");
+      short version = buffer.getShort();
+      Validate.isTrue(version == VERSION, "Unsupported class descriptions encoding version '%s'", version);
+      String[] stringTable = new String[getCount(buffer) + 1];
+      for (int i = 1; i < stringTable.length; i++) {
+        byte[] bytes = new byte[getCount(buffer)];
+        buffer.get(bytes);
+        stringTable[i] = intern(new String(bytes, UTF_8));
+      }
+      int classCount = getCount(buffer);
+      List<CompactClassDescription> classDescriptions = new ArrayList<>(classCount);
+      for (int i = 0; i < classCount; i++) {
+        String[] names = getStrings(buffer, stringTable, CompactClassDescription.NAME_COUNT);
+        boolean implementsComparable = (buffer.get() & IMPLEMENTS_COMPARABLE) != 0;
+        CompactDataDescription[] propertyTable = new CompactDataDescription[getCount(buffer)];
+        for (int p = 0; p < propertyTable.length; p++) {
+          int flags = getVarint(buffer);
+          String[] propertyNames = getStrings(buffer, stringTable, CompactDataDescription.NAME_COUNT);
+          String[] predicates = getStrings(buffer, stringTable, getCount(buffer));
+          String[] exceptions = getStrings(buffer, stringTable, getCount(buffer));
+          propertyTable[p] = new CompactDataDescription(flags, propertyNames,
+                                                        predicates.length == 0 ? null : predicates, exceptions);
+        }
+        CompactDataDescription[][] properties = new CompactDataDescription[4][];
+        for (int a = 0; a < properties.length; a++) {
+          properties[a] = new CompactDataDescription[getCount(buffer)];
+          for (int p = 0; p < properties[a].length; p++) {
+            int index = getVarint(buffer);
+            Validate.isTrue(index < propertyTable.length, "Invalid property index '%s'", index);
+            properties[a][p] = propertyTable[index];
+          }
+        }
+        classDescriptions.add(new CompactClassDescription(names, implementsComparable, properties));
+      }
+      return classDescriptions;
+    } catch (BufferUnderflowException e) {
+      throw new IllegalArgumentException("Truncated class descriptions encoding", e);
+    }
+  }
+
+  /**
+   * Writes the encoding of the given class descriptions to the given file, replacing it if it exists.
+   *
+   * @param classDescriptions the class descriptions to encode.
+   * @param file the file to write.
+   * @throws IOException if the file can't be written.
+   */
+  public static void write(Collection<CompactClassDescription> classDescriptions, Path file) throws IOException {
+    ByteBuffer encoding = encode(classDescriptions);
+    try (FileChannel channel = FileChannel.open(file, StandardOpenOption.CREATE, StandardOpenOption.WRITE,
+                                                StandardOpenOption.TRUNCATE_EXISTING)) {
+      while (encoding.hasRemaining()) {
+        channel.write(encoding);
+      }
+    }
+  }
+
+  /**
+   * Reads the class descriptions encoded in the given file.
+   *
+   * @param file the file to read.
+   * @return the decoded class descriptions in their encoding order.
+   * @throws IOException if the file can't be read.
+   * @throws IllegalArgumentException if the file does not hold a valid encoding of this version.
+   */
+  public static List<CompactClassDescription> read(Path file) throws IOException {
+    try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+      Validate.isTrue(channel.size() <= Integer.MAX_VALUE, "Class descriptions file too large '%s'", file);
+      // a mapping stays valid once the channel is closed
+      return decode(channel.map(READ_ONLY, 0, channel.size()));
+    }
+  }
+
+  private static int stringRef(String string, Map<String, Integer> strings, List<String> stringTable) {
+    if (string == null) return 0;
+    return strings.computeIfAbsent(string, s -> {
+      stringTable.add(s);
+      return stringTable.size();
+    });
+  }
+
+  private static void putStringRefs(String[] values, Output output, Map<String, Integer> strings,
+                                    List<String> stringTable) {
+    output.putVarint(values.length);
+    for (String value : values) {
+      output.putVarint(stringRef(value, strings, stringTable));
+    }
+  }
+
+  private static String[] getStrings(ByteBuffer buffer, String[] stringTable, int count) {
+    String[] strings = new String[count];
+    for (int i = 0; i < count; i++) {
+      int ref = getVarint(buffer);
+      Validate.isTrue(ref < stringTable.length, "Invalid string reference '%s'", ref);
+      strings[i] = stringTable[ref];
+    }
+    return strings;
+  }
+
+  // a count bounded by the remaining bytes since each counted element takes at least one byte
+  private static int getCount(ByteBuffer buffer) {
+    int count = getVarint(buffer);
+    if (count > buffer.remaining()) throw new BufferUnderflowException();
+    return count;
+  }
+
+  private static int getVarint(ByteBuffer buffer) {
+    int value = 0;
+    for (int shift = 0; shift < Integer.SIZE; shift += 7) {
+      byte b = buffer.get();
+      value |= (b & 0x7F) << shift;
+      if (b >= 0) {
+        Validate.isTrue(value >= 0, "Invalid varint '%s'", value);
+        return value;
+      }
+    }
+    throw new IllegalArgumentException("Invalid varint, more than 5 bytes");
+  }
+
+  // a growable buffer
+  private static final class Output {
+    private ByteBuffer buffer = ByteBuffer.allocate(INITIAL_CAPACITY);
+
+    private void ensureCapacity(int bytes) {
+      if (buffer.remaining() >= bytes) return;
+      ByteBuffer larger = ByteBuffer.allocate(Math.max(buffer.capacity() * 2, buffer.position() + bytes));
+      buffer.flip();
+      buffer = larger.put(buffer);
+    }
+
+    private void putVarint(int value) {
+      ensureCapacity(5);
+      while ((value & ~0x7F) != 0) {
+        buffer.put((byte) ((value & 0x7F) | 0x80));
+        value >>>= 7;
+      }
+      buffer.put((byte) value);
+    }
+
+    private void putByte(int value) {
+      ensureCapacity(1);
+      buffer.put((byte) value);
+    }
+
+    private void put(byte[] bytes) {
+      ensureCapacity(bytes.length);
+      buffer.put(bytes);
+    }
+  }
+}
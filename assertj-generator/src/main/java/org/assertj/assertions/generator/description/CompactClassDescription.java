@@ -0,0 +1,243 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * Copyright 2012-2025 the original author or authors.
+ */
+package org.assertj.assertions.generator.description;
+
+import static org.assertj.assertions.generator.description.CompactDataDescription.intern;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import com.google.common.reflect.TypeToken;
+
+/**
+ * Immutable description of a class holding only what the generator renders, a fraction of the heap of a
+ * {@link ClassDescription}: names are computed once, properties are kept in sorted arrays of
+ * {@link CompactDataDescription} whose type names are interned, and the declared properties share the descriptions of
+ * the inherited ones.
+ * <p>
+ * {@link ClassDescription} remains the mutable model built by the converters, a compact description is created from it
+ * with {@link #of(ClassDescription)} which does not keep it.
+ * <p>
+ * Rendering only needs the names of the types so that a description can also be read from a
+ * {@link ClassDescriptionCodec} encoding, such a description has no {@link TypeToken}s.
+ */
+public final class CompactClassDescription {
+
+  private static final CompactDataDescription[] NO_PROPERTIES = new CompactDataDescription[0];
+  static final int NAME_COUNT = 10;
+
+  private final TypeToken<?> type;
+  private final TypeToken<?> superType;
+  private final String typeName;
+  private final String superTypeName;
+  private final String fullyQualifiedClassName;
+  private final String fullyQualifiedOuterClassName;
+  private final String classNameWithOuterClass;
+  private final String packageName;
+  private final String assertClassName;
+  private final String abstractAssertClassName;
+  private final String listAssertClassName;
+  private final String fullyQualifiedParentAssertClassName;
+  private final boolean implementsComparable;
+  // sorted as the ClassDescription ones
+  private final CompactDataDescription[] getters;
+  private final CompactDataDescription[] fields;
+  private final CompactDataDescription[] declaredGetters;
+  private final CompactDataDescription[] declaredFields;
+
+  private CompactClassDescription(ClassDescription classDescription) {
+    type = classDescription.getType();
+    superType = classDescription.getSuperType();
+    typeName = type.toString();
+    superTypeName = superType == null ? null : superType.toString();
+    fullyQualifiedClassName = classDescription.getFullyQualifiedClassName();
+    fullyQualifiedOuterClassName = classDescription.getFullyQualifiedOuterClassName();
+    classNameWithOuterClass = classDescription.getClassNameWithOuterClass();
+    packageName = intern(classDescription.getPackageName());
+    assertClassName = classDescription.getAssertClassName();
+    abstractAssertClassName = classDescription.getAbstractAssertClassName();
+    listAssertClassName = classDescription.getListAssertClassName();
+    fullyQualifiedParentAssertClassName = superType == null ? null
+        : classDescription.getFullyQualifiedParentAssertClassName();
+    implementsComparable = classDescription.implementsComparable();
+    Map<DataDescription, CompactDataDescription> descriptions = new HashMap<>();
+    getters = compact(classDescription.getGettersDescriptions(), classDescription, descriptions);
+    fields = compact(classDescription.getFieldsDescriptions(), classDescription, descriptions);
+    declaredGetters = compact(classDescription.getDeclaredGettersDescriptions(), classDescription, descriptions);
+    declaredFields = compact(classDescription.getDeclaredFieldsDescriptions(), classDescription, descriptions);
+  }
+
+  // a decoded description, see ClassDescriptionCodec
+  CompactClassDescription(String[] names, boolean implementsComparable, CompactDataDescription[][] properties) {
+    type = null;
+    superType = null;
+    typeName = names[0];
+    superTypeName = names[1];
+    fullyQualifiedClassName = names[2];
+    fullyQualifiedOuterClassName = names[3];
+    classNameWithOuterClass = names[4];
+    packageName = intern(names[5]);
+    assertClassName = names[6];
+    abstractAssertClassName = names[7];
+    listAssertClassName = names[8];
+    fullyQualifiedParentAssertClassName = names[9];
+    this.implementsComparable = implementsComparable;
+    getters = properties[0];
+    fields = properties[1];
+    declaredGetters = properties[2];
+    declaredFields = properties[3];
+  }
+
+  // the names in the order of the decoding constructor
+  String[] names() {
+    return new String[] { typeName, superTypeName, fullyQualifiedClassName, fullyQualifiedOuterClassName,
+        classNameWithOuterClass, packageName, assertClassName, abstractAssertClassName, listAssertClassName,
+        fullyQualifiedParentAssertClassName };
+  }
+
+  // the properties in the order of the decoding constructor
+  CompactDataDescription[][] properties() {
+    return new CompactDataDescription[][] { getters, fields, declaredGetters, declaredFields };
+  }
+
+  /**
+   * Creates the compact description of the given class description.
+   *
+   * @param classDescription the class description to compact.
+   * @return the compact description of the given class description.
+   */
+  public static CompactClassDescription of(ClassDescription classDescription) {
+    return new CompactClassDescription(classDescription);
+  }
+
+  private static CompactDataDescription[] compact(Set<? extends DataDescription> properties,
+                                                  ClassDescription classDescription,
+                                                  Map<DataDescription, CompactDataDescription> descriptions) {
+    if (properties.isEmpty()) return NO_PROPERTIES;
+    CompactDataDescription[] compactProperties = new CompactDataDescription[properties.size()];
+    int i = 0;
+    for (DataDescription property : properties) {
+      compactProperties[i++] = descriptions.computeIfAbsent(property,
+                                                            p -> new CompactDataDescription(p, classDescription));
+    }
+    return compactProperties;
+  }
+
+  /**
+   * @return the described type, null if this description was decoded.
+   */
+  public TypeToken<?> getType() {
+    return type;
+  }
+
+  /**
+   * @return the super type, null if there is none or if this description was decoded.
+   */
+  public TypeToken<?> getSuperType() {
+    return superType;
+  }
+
+  /**
+   * @return the described type name as given by {@link TypeToken#toString()}.
+   */
+  public String getTypeName() {
+    return typeName;
+  }
+
+  /**
+   * @return the super type name as given by {@link TypeToken#toString()}, null if there is no super type.
+   */
+  public String getSuperTypeName() {
+    return superTypeName;
+  }
+
+  public String getFullyQualifiedClassName() {
+    return fullyQualifiedClassName;
+  }
+
+  public String getFullyQualifiedOuterClassName() {
+    return fullyQualifiedOuterClassName;
+  }
+
+  public String getClassNameWithOuterClass() {
+    return classNameWithOuterClass;
+  }
+
+  public String getPackageName() {
+    return packageName;
+  }
+
+  public String getAssertClassName() {
+    return assertClassName;
+  }
+
+  public String getAssertClassFilename() {
+    return assertClassName + ".java";
+  }
+
+  public String getAbstractAssertClassName() {
+    return abstractAssertClassName;
+  }
+
+  public String getAbstractAssertClassFilename() {
+    return abstractAssertClassName + ".java";
+  }
+
+  public String getListAssertClassName() {
+    return listAssertClassName;
+  }
+
+  public String getListAssertClassFilename() {
+    return listAssertClassName + ".java";
+  }
+
+  /**
+   * @return the fully qualified name of the abstract assertion class of the super type, null if there is no super type.
+   */
+  public String getFullyQualifiedParentAssertClassName() {
+    return fullyQualifiedParentAssertClassName;
+  }
+
+  public boolean implementsComparable() {
+    return implementsComparable;
+  }
+
+  public List<CompactDataDescription> getGettersDescriptions() {
+    return listOf(getters);
+  }
+
+  public List<CompactDataDescription> getFieldsDescriptions() {
+    return listOf(fields);
+  }
+
+  public List<CompactDataDescription> getDeclaredGettersDescriptions() {
+    return listOf(declaredGetters);
+  }
+
+  public List<CompactDataDescription> getDeclaredFieldsDescriptions() {
+    return listOf(declaredFields);
+  }
+
+  private static List<CompactDataDescription> listOf(CompactDataDescription[] properties) {
+    return Collections.unmodifiableList(Arrays.asList(properties));
+  }
+
+  @Override
+  public String toString() {
+    return "CompactClassDescription [valueType=" + typeName + "]";
+  }
+}
@@ -0,0 +1,431 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * Copyright 2012-2025 the original author or authors.
+ */
+package org.assertj.assertions.generator.description;
+
+import static org.assertj.assertions.generator.util.ClassUtil.getAssertType;
+import static org.assertj.assertions.generator.util.ClassUtil.getTypeDeclaration;
+import static org.assertj.assertions.generator.util.ClassUtil.resolveTypeNameInPackage;
+
+import java.lang.reflect.GenericArrayType;
+import java.lang.reflect.ParameterizedType;
+import java.lang.reflect.Type;
+import java.lang.reflect.TypeVariable;
+import java.lang.reflect.WildcardType;
+import java.util.List;
+
+import com.google.common.collect.ImmutableList;
+import com.google.common.collect.Interner;
+import com.google.common.collect.Interners;
+import com.google.common.reflect.TypeToken;
+
+/**
+ * Immutable description of a field or a property/getter as rendered by the generator: its names are computed once and
+ * interned, its type checks are flags, and it keeps neither the described member nor Guava invokables.
+ * <p>
+ * It is created with its owning class description, see {@link CompactClassDescription#of(ClassDescription)}, rendering
+ * only needs its names so that it can be read from a {@link ClassDescriptionCodec} encoding, which does not keep the
+ * value type.
+ */
+public final class CompactDataDescription {
+
+  // type names are shared by many properties, interned weakly not to retain the types class loaders
+  private static final Interner<String> NAMES = Interners.newWeakInterner();
+  private static final Interner<TypeToken<?>> TYPES = Interners.newWeakInterner();
+
+  private static final int GETTER = 1;
+  private static final int PUBLIC = 1 << 1;
+  private static final int PREDICATE = 1 << 2;
+  private static final int ITERABLE = 1 << 3;
+  private static final int MAP = 1 << 4;
+  private static final int ARRAY = 1 << 5;
+  private static final int PRIMITIVE = 1 << 6;
+  private static final int PRIMITIVE_WRAPPER = 1 << 7;
+  private static final int REAL_NUMBER = 1 << 8;
+  private static final int WHOLE_NUMBER = 1 << 9;
+  private static final int CHAR = 1 << 10;
+  private static final int READ_BY_GETTER = 1 << 11;
+  private static final int NEGATIVE_PREDICATE_GETTER = 1 << 12;
+  private static final int TYPE_VARIABLE = 1 << 13;
+  static final int NAME_COUNT = 12;
+
+  private final int flags;
+  private final String name;
+  private final String memberName;
+  private final TypeToken<?> valueType;
+  private final String valueTypeName;
+  private final String typeName;
+  private final String fullyQualifiedTypeName;
+  // iterable, array and map element types
+  private final String elementTypeName;
+  private final String elementAssertTypeName;
+  private final String mapKeyTypeName;
+  private final String mapValueTypeName;
+  // the value type assertions, for navigation and field by field comparisons
+  private final String assertType;
+  private final String valueTypePackageName;
+  private final String valueTypeAssertClassName;
+  // predicate names, null if the property is not a predicate
+  private final String[] predicates;
+  private final ImmutableList<String> exceptions;
+
+  CompactDataDescription(DataDescription description, ClassDescription owningClass) {
+    flags = flagsOf(description, owningClass);
+    name = intern(description.getName());
+    memberName = intern(description.getOriginalMember().getName());
+    valueType = TYPES.intern(description.getValueType());
+    valueTypeName = intern(valueType.toString());
+    typeName = intern(description.getTypeName());
+    fullyQualifiedTypeName = intern(description.getFullyQualifiedTypeName());
+    boolean hasElements = is(ITERABLE) || is(ARRAY);
+    elementTypeName = hasElements ? intern(description.getElementTypeName()) : null;
+    elementAssertTypeName = hasElements ? intern(description.getElementAssertTypeName()) : null;
+    mapKeyTypeName = is(MAP) ? intern(description.getMapKeyTypeName()) : null;
+    mapValueTypeName = is(MAP) ? intern(description.getMapValueTypeName()) : null;
+    assertType = intern(getAssertType(valueType));
+    // primitives and arrays have no assertions of their own
+    boolean hasPackage = valueType.getRawType().getPackage() != null;
+    ClassDescription valueTypeDescription = hasPackage ? new ClassDescription(valueType) : null;
+    valueTypePackageName = hasPackage ? intern(valueTypeDescription.getPackageName()) : null;
+    valueTypeAssertClassName = hasPackage ? intern(valueTypeDescription.getAssertClassName()) : null;
+    predicates = is(PREDICATE) ? internAll(description.getPredicate(), description.getNegativePredicate(),
+                                           description.getPredicateForJavadoc(),
+                                           description.getNegativePredicateForJavadoc(),
+                                           description.getPredicateForErrorMessagePart1(),
+                                           description.getPredicateForErrorMessagePart2(),
+                                           description.getNegativePredicateForErrorMessagePart1(),
+                                           description.getNegativePredicateForErrorMessagePart2())
+        : null;
+    exceptions = description instanceof GetterDescription
+        ? exceptionsOf(((GetterDescription) description).getExceptions())
+        : ImmutableList.of();
+  }
+
+  /**
+   * Creates the compact description of the given field or property of the given class.
+   *
+   * @param description the field or property description to compact.
+   * @param owningClass the description of the class declaring or inheriting the field or property.
+   * @return the compact description of the given field or property.
+   */
+  public static CompactDataDescription of(DataDescription description, ClassDescription owningClass) {
+    return new CompactDataDescription(description, owningClass);
+  }
+
+  // a decoded description, see ClassDescriptionCodec
+  CompactDataDescription(int flags, String[] names, String[] predicates, String[] exceptions) {
+    this.flags = flags;
+    valueType = null;
+    name = names[0];
+    memberName = names[1];
+    valueTypeName = names[2];
+    typeName = names[3];
+    fullyQualifiedTypeName = names[4];
+    elementTypeName = names[5];
+    elementAssertTypeName = names[6];
+    mapKeyTypeName = names[7];
+    mapValueTypeName = names[8];
+    assertType = names[9];
+    valueTypePackageName = names[10];
+    valueTypeAssertClassName = names[11];
+    this.predicates = predicates;
+    this.exceptions = ImmutableList.copyOf(exceptions);
+  }
+
+  // the names in the order of the decoding constructor
+  String[] names() {
+    return new String[] { name, memberName, valueTypeName, typeName, fullyQualifiedTypeName, elementTypeName,
+        elementAssertTypeName, mapKeyTypeName, mapValueTypeName, assertType, valueTypePackageName,
+        valueTypeAssertClassName };
+  }
+
+  int flags() {
+    return flags;
+  }
+
+  String[] predicates() {
+    return predicates;
+  }
+
+  private static int flagsOf(DataDescription description, ClassDescription owningClass) {
+    int flags = 0;
+    if (description instanceof GetterDescription) flags |= GETTER;
+    if (description.isPublic()) flags |= PUBLIC;
+    if (description.isPredicate()) flags |= PREDICATE;
+    if (description.isIterableType()) flags |= ITERABLE;
+    if (description.isMapType()) flags |= MAP;
+    if (description.isArrayType()) flags |= ARRAY;
+    if (description.isPrimitiveType()) flags |= PRIMITIVE;
+    if (description.isPrimitiveWrapperType()) flags |= PRIMITIVE_WRAPPER;
+    if (description.isRealNumberType()) flags |= REAL_NUMBER;
+    if (description.isWholeNumberType()) flags |= WHOLE_NUMBER;
+    if (description.isCharType()) flags |= CHAR;
+    if (description instanceof FieldDescription && owningClass.hasGetterForField((FieldDescription) description)) {
+      flags |= READ_BY_GETTER;
+    }
+    if (description.isPredicate() && hasNegativePredicateGetter(description, owningClass)) {
+      flags |= NEGATIVE_PREDICATE_GETTER;
+    }
+    if (refersToTypeVariable(description.getValueType().getType())) flags |= TYPE_VARIABLE;
+    return flags;
+  }
+
+  // T, T[], List<T> or List<? extends T>
+  private static boolean refersToTypeVariable(Type type) {
+    if (type instanceof TypeVariable) return true;
+    if (type instanceof GenericArrayType) {
+      return refersToTypeVariable(((GenericArrayType) type).getGenericComponentType());
+    }
+    if (type instanceof WildcardType) {
+      WildcardType wildcardType = (WildcardType) type;
+      for (Type bound : wildcardType.getUpperBounds()) {
+        if (refersToTypeVariable(bound)) return true;
+      }
+      for (Type bound : wildcardType.getLowerBounds()) {
+        if (refersToTypeVariable(bound)) return true;
+      }
+      return false;
+    }
+    if (type instanceof ParameterizedType) {
+      for (Type typeArgument : ((ParameterizedType) type).getActualTypeArguments()) {
+        if (refersToTypeVariable(typeArgument)) return true;
+      }
+    }
+    return false;
+  }
+
+  private static boolean hasNegativePredicateGetter(DataDescription description, ClassDescription owningClass) {
+    String negativePredicate = description.getNegativePredicate();
+    for (GetterDescription getter : owningClass.getGettersDescriptions()) {
+      if (getter.getOriginalMember().getName().equals(negativePredicate)) return true;
+    }
+    return false;
+  }
+
+  private static ImmutableList<String> exceptionsOf(List<? extends TypeToken<?>> exceptionTypes) {
+    ImmutableList.Builder<String> exceptions = ImmutableList.builderWithExpectedSize(exceptionTypes.size());
+    for (TypeToken<?> exceptionType : exceptionTypes) {
+      exceptions.add(intern(getTypeDeclaration(exceptionType)));
+    }
+    return exceptions.build();
+  }
+
+  private static String[] internAll(String... values) {
+    for (int i = 0; i < values.length; i++) {
+      values[i] = intern(values[i]);
+    }
+    return values;
+  }
+
+  static String intern(String value) {
+    return value == null ? null : NAMES.intern(value);
+  }
+
+  private boolean is(int flag) {
+    return (flags & flag) != 0;
+  }
+
+  /**
+   * @return the property name, e.g. <code>rookie</code> for <code>isRookie()</code>.
+   */
+  public String getName() {
+    return name;
+  }
+
+  /**
+   * @return the name of the described getter or field, e.g. <code>isRookie</code>.
+   */
+  public String getMemberName() {
+    return memberName;
+  }
+
+  /**
+   * @return the value type, null if this description was decoded.
+   */
+  public TypeToken<?> getValueType() {
+    return valueType;
+  }
+
+  /**
+   * @return the value type name as given by {@link TypeToken#toString()}, e.g.
+   *         <code>java.util.List&lt;int[]&gt;</code>.
+   */
+  public String getValueTypeName() {
+    return valueTypeName;
+  }
+
+  /**
+   * @return true if this describes a getter, false if it describes a field.
+   */
+  public boolean isGetter() {
+    return is(GETTER);
+  }
+
+  public boolean isPublic() {
+    return is(PUBLIC);
+  }
+
+  public boolean isPredicate() {
+    return is(PREDICATE);
+  }
+
+  public boolean isIterableType() {
+    return is(ITERABLE);
+  }
+
+  public boolean isMapType() {
+    return is(MAP);
+  }
+
+  public boolean isArrayType() {
+    return is(ARRAY);
+  }
+
+  public boolean isPrimitiveType() {
+    return is(PRIMITIVE);
+  }
+
+  public boolean isPrimitiveWrapperType() {
+    return is(PRIMITIVE_WRAPPER);
+  }
+
+  public boolean isRealNumberType() {
+    return is(REAL_NUMBER);
+  }
+
+  public boolean isWholeNumberType() {
+    return is(WHOLE_NUMBER);
+  }
+
+  public boolean isCharType() {
+    return is(CHAR);
+  }
+
+  /**
+   * @return true if this describes a field that the owning class also exposes with a getter.
+   */
+  public boolean isReadByGetter() {
+    return is(READ_BY_GETTER);
+  }
+
+  /**
+   * @return true if this describes a predicate whose negative predicate is a getter of the owning class, e.g.
+   *         <code>isValid</code> when the class has an <code>isNotValid</code> getter.
+   */
+  public boolean hasNegativePredicateGetter() {
+    return is(NEGATIVE_PREDICATE_GETTER);
+  }
+
+  /**
+   * @return true if the value type refers to a type variable of the owning class, e.g. <code>T</code> or
+   *         <code>List&lt;T&gt;</code>, such a type can't be named outside of the owning class type.
+   */
+  public boolean refersToTypeVariable() {
+    return is(TYPE_VARIABLE);
+  }
+
+  /**
+   * @see DataDescription#getTypeName()
+   */
+  public String getTypeName() {
+    return typeName;
+  }
+
+  public String getFullyQualifiedTypeName() {
+    return fullyQualifiedTypeName;
+  }
+
+  /**
+   * @see DataDescription#getElementTypeName()
+   */
+  public String getElementTypeName() {
+    return elementTypeName;
+  }
+
+  public String getElementAssertTypeName() {
+    return elementAssertTypeName;
+  }
+
+  public String getMapKeyTypeName() {
+    return mapKeyTypeName;
+  }
+
+  public String getMapValueTypeName() {
+    return mapValueTypeName;
+  }
+
+  public String getAssertTypeName(String packageName) {
+    return resolveTypeNameInPackage(assertType, packageName);
+  }
+
+  /**
+   * @return the package of the value type, null for primitive and array types.
+   */
+  public String getValueTypePackageName() {
+    return valueTypePackageName;
+  }
+
+  /**
+   * @return the name of the assertion class generated for the value type, null for primitive and array types.
+   */
+  public String getValueTypeAssertClassName() {
+    return valueTypeAssertClassName;
+  }
+
+  public String getPredicate() {
+    return predicate(0);
+  }
+
+  public String getNegativePredicate() {
+    return predicate(1);
+  }
+
+  public String getPredicateForJavadoc() {
+    return predicate(2);
+  }
+
+  public String getNegativePredicateForJavadoc() {
+    return predicate(3);
+  }
+
+  public String getPredicateForErrorMessagePart1() {
+    return predicate(4);
+  }
+
+  public String getPredicateForErrorMessagePart2() {
+    return predicate(5);
+  }
+
+  public String getNegativePredicateForErrorMessagePart1() {
+    return predicate(6);
+  }
+
+  public String getNegativePredicateForErrorMessagePart2() {
+    return predicate(7);
+  }
+
+  private String predicate(int index) {
+    return predicates == null ? null : predicates[index];
+  }
+
+  /**
+   * @return the declarations of the exceptions thrown by the getter, empty for a field.
+   */
+  public List<String> getExceptions() {
+    return exceptions;
+  }
+
+  @Override
+  public String toString() {
+    return "CompactDataDescription[name=" + name + ", member=" + memberName + ", valueType=" + valueTypeName + "]";
+  }
+}
@@ -19,6 +19,9 @@ import com.google.common.primitives.Primitives;
 import com.google.common.reflect.TypeToken;
 
 import java.lang.reflect.Member;
+import java.lang.reflect.Type;
+import java.lang.reflect.TypeVariable;
+import java.lang.reflect.WildcardType;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
@@ -125,7 +128,7 @@ public abstract class DataDescription {
     return originalMember;
   }
 
-  TypeToken<?> getValueType() {
+  public TypeToken<?> getValueType() {
     return valueType;
   }
 
@@ -148,6 +151,10 @@ public abstract class DataDescription {
     return valueType.isSubtypeOf(Iterable.class);
   }
 
+  public boolean isMapType() {
+    return valueType.isSubtypeOf(Map.class);
+  }
+
   public boolean isArrayType() {
     return valueType.isArray();
   }
@@ -210,6 +217,44 @@ public abstract class DataDescription {
     return removeOwningTypePackageNameIn(elementTypeName);
   }
 
+  /**
+   * Returns the key type name of a map valueType, resolved from the map type arguments, <code>Object</code> for a raw map.
+   * <p>
+   * As for {@link #getElementTypeName()}, the type name is simple if it belongs to the owning type package.
+   *
+   * @return the key type name of a map valueType.
+   */
+  public String getMapKeyTypeName() {
+    return mapTypeArgumentName(Map.class.getTypeParameters()[0]);
+  }
+
+  /**
+   * Returns the value type name of a map valueType, resolved from the map type arguments, <code>Object</code> for a raw map.
+   * <p>
+   * As for {@link #getElementTypeName()}, the type name is simple if it belongs to the owning type package.
+   *
+   * @return the value type name of a map valueType.
+   */
+  public String getMapValueTypeName() {
+    return mapTypeArgumentName(Map.class.getTypeParameters()[1]);
+  }
+
+  private String mapTypeArgumentName(TypeVariable<?> mapTypeParameter) {
+    TypeToken<?> typeArgument = valueType.resolveType(mapTypeParameter);
+    // a raw map leaves the Map type parameter unresolved
+    if (typeArgument.getType().equals(mapTypeParameter)) return "Object";
+    // use wildcard bounds (possibly captured) : any instance of them is a valid key or value
+    Type type = typeArgument.getType();
+    if (type instanceof TypeVariable && ((TypeVariable<?>) type).getName().startsWith("capture#")) {
+      typeArgument = TypeToken.of(((TypeVariable<?>) type).getBounds()[0]);
+    } else if (type instanceof WildcardType) {
+      WildcardType wildcard = (WildcardType) type;
+      Type bound = wildcard.getLowerBounds().length > 0 ? wildcard.getLowerBounds()[0] : wildcard.getUpperBounds()[0];
+      typeArgument = TypeToken.of(bound);
+    }
+    return removeOwningTypePackageNameIn(getTypeDeclaration(typeArgument));
+  }
+
   public String getElementAssertTypeName() {
     String packageName = owningTypePackageName();
     TypeToken<?> elementType = valueType.getComponentType();
@@ -17,6 +17,7 @@ import org.assertj.assertions.generator.GenerateAssertion;
 import org.assertj.assertions.generator.description.ClassDescription;
 import org.assertj.assertions.generator.description.FieldDescription;
 import org.assertj.assertions.generator.description.GetterDescription;
+import org.assertj.assertions.generator.jfr.ClassDescriptionEvent;
 import org.assertj.assertions.generator.util.ClassUtil;
 
 import java.lang.reflect.Field;
@@ -40,15 +41,27 @@ public class ClassToClassDescriptionConverter implements ClassDescriptionConvert
     this.annotationConfiguration = annotationConfiguration;
   }
 
+  public AnnotationConfiguration getAnnotationConfiguration() {
+    return annotationConfiguration;
+  }
+
   @Override
   public ClassDescription convertToClassDescription(TypeToken<?> type) {
     checkArgument(!type.getRawType().isLocalClass(), "Can not support Local class %s", type);
+    ClassDescriptionEvent event = new ClassDescriptionEvent();
+    event.begin();
     ClassDescription classDescription = new ClassDescription(type);
     classDescription.addGetterDescriptions(getterDescriptionsOf(type));
     classDescription.addFieldDescriptions(fieldDescriptionsOf(type));
     classDescription.addDeclaredGetterDescriptions(declaredGetterDescriptionsOf(type));
     classDescription.addDeclaredFieldDescriptions(declaredFieldDescriptionsOf(type));
     classDescription.setSuperType(type.getRawType().getSuperclass());
+    if (event.shouldCommit()) {
+      event.className = type.getRawType().getName();
+      event.propertyCount = classDescription.getGettersDescriptions().size()
+                            + classDescription.getFieldsDescriptions().size();
+      event.commit();
+    }
     return classDescription;
   }
 
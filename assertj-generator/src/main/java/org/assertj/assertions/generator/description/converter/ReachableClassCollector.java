@@ -0,0 +1,193 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * Copyright 2012-2025 the original author or authors.
+ */
+package org.assertj.assertions.generator.description.converter;
+
+import static java.lang.reflect.Modifier.isPublic;
+import static java.util.Comparator.comparing;
+
+import java.lang.reflect.GenericArrayType;
+import java.lang.reflect.ParameterizedType;
+import java.lang.reflect.Type;
+import java.lang.reflect.WildcardType;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.TreeSet;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ForkJoinPool;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+import org.apache.commons.lang3.Validate;
+import org.assertj.assertions.generator.description.ClassDescription;
+import org.assertj.assertions.generator.description.CompactClassDescription;
+import org.assertj.assertions.generator.description.CompactDataDescription;
+
+import com.google.common.reflect.TypeToken;
+
+/**
+ * Collects the classes reachable from root classes through the types of their properties, that is the value types of
+ * their {@link ClassDescription} getters and fields, including the elements types of arrays, iterables and maps and
+ * the type arguments of generic types.
+ * <p>
+ * The classes are visited once, each level of the classes graph being described in parallel when the parallelism is
+ * greater than one; the walk stops at primitive types, JDK classes, non public classes and the classes of the given
+ * boundary packages (and their sub packages), which are not collected.
+ */
+public final class ReachableClassCollector {
+
+  private static final List<String> JDK_PACKAGES = List.of("java", "javax", "jdk", "sun", "com.sun");
+
+  private final Function<TypeToken<?>, CompactClassDescription> describer;
+  private final List<String> boundaryPackages = new ArrayList<>(JDK_PACKAGES);
+  private final int parallelism;
+
+  /**
+   * Creates a collector describing the classes with the given converter.
+   *
+   * @param converter the converter describing the visited classes properties.
+   * @param boundaryPackages the packages whose classes are neither collected nor walked, in addition to the JDK ones.
+   * @param parallelism the maximum number of classes described concurrently.
+   */
+  public ReachableClassCollector(ClassDescriptionConverter<TypeToken<?>> converter, Collection<String> boundaryPackages,
+                                 int parallelism) {
+    this(describerOf(converter), boundaryPackages, parallelism);
+  }
+
+  /**
+   * Creates a collector describing the classes with the given function, e.g. a
+   * {@link org.assertj.assertions.generator.GenerationSession} sharing the descriptions with the generation.
+   *
+   * @param describer the function describing the visited classes properties.
+   * @param boundaryPackages the packages whose classes are neither collected nor walked, in addition to the JDK ones.
+   * @param parallelism the maximum number of classes described concurrently.
+   */
+  public ReachableClassCollector(Function<TypeToken<?>, CompactClassDescription> describer,
+                                 Collection<String> boundaryPackages, int parallelism) {
+    Validate.isTrue(parallelism > 0, "The parallelism '%s' must be positive", parallelism);
+    this.describer = describer;
+    this.boundaryPackages.addAll(boundaryPackages);
+    this.parallelism = parallelism;
+  }
+
+  private static Function<TypeToken<?>, CompactClassDescription> describerOf(
+      ClassDescriptionConverter<TypeToken<?>> converter) {
+    return type -> CompactClassDescription.of(converter.convertToClassDescription(type));
+  }
+
+  /**
+   * Returns the given root classes followed by the classes reachable from them, level by level and sorted by name in
+   * each level.
+   *
+   * @param roots the classes to start from, they are collected whatever their package.
+   * @return the reachable closure of the root classes.
+   */
+  public Set<TypeToken<?>> collect(Collection<TypeToken<?>> roots) {
+    Set<Class<?>> visited = ConcurrentHashMap.newKeySet();
+    Set<TypeToken<?>> reachableClasses = new LinkedHashSet<>();
+    List<TypeToken<?>> level = new ArrayList<>();
+    for (TypeToken<?> root : roots) {
+      if (visited.add(root.getRawType())) level.add(root);
+    }
+    ForkJoinPool pool = parallelism > 1 ? new ForkJoinPool(parallelism) : null;
+    try {
+      while (!level.isEmpty()) {
+        reachableClasses.addAll(level);
+        level = nextLevel(level, visited, pool);
+      }
+    } finally {
+      if (pool != null) pool.shutdownNow();
+    }
+    return reachableClasses;
+  }
+
+  // the not yet visited classes reachable from the given ones properties, sorted by name
+  private List<TypeToken<?>> nextLevel(List<TypeToken<?>> level, Set<Class<?>> visited, ForkJoinPool pool) {
+    Set<Class<?>> nextClasses = new TreeSet<>(comparing(Class::getName));
+    if (pool == null) {
+      for (TypeToken<?> type : level) {
+        nextClasses.addAll(propertyClassesOf(type, visited));
+      }
+    } else {
+      try {
+        nextClasses.addAll(pool.submit(() -> level.parallelStream()
+                                                  .flatMap(type -> propertyClassesOf(type, visited).stream())
+                                                  .collect(Collectors.toSet()))
+                               .get());
+      } catch (InterruptedException e) {
+        Thread.currentThread().interrupt();
+        throw new IllegalStateException(e);
+      } catch (ExecutionException e) {
+        if (e.getCause() instanceof RuntimeException) throw (RuntimeException) e.getCause();
+        throw new IllegalStateException(e.getCause());
+      }
+    }
+    List<TypeToken<?>> nextLevel = new ArrayList<>();
+    for (Class<?> nextClass : nextClasses) {
+      nextLevel.add(TypeToken.of(nextClass));
+    }
+    return nextLevel;
+  }
+
+  // the classes of the given type properties that were not visited yet, they are marked as visited
+  private Set<Class<?>> propertyClassesOf(TypeToken<?> type, Set<Class<?>> visited) {
+    CompactClassDescription classDescription = describer.apply(type);
+    Set<Class<?>> propertyClasses = new LinkedHashSet<>();
+    List<CompactDataDescription> properties = new ArrayList<>(classDescription.getGettersDescriptions());
+    properties.addAll(classDescription.getFieldsDescriptions());
+    for (CompactDataDescription property : properties) {
+      addClassesOf(property.getValueType().getType(), propertyClasses);
+    }
+    propertyClasses.removeIf(propertyClass -> !isWalkable(propertyClass) || !visited.add(propertyClass));
+    return propertyClasses;
+  }
+
+  private static void addClassesOf(Type type, Set<Class<?>> classes) {
+    if (type instanceof Class) {
+      Class<?> clazz = (Class<?>) type;
+      if (clazz.isArray()) addClassesOf(clazz.getComponentType(), classes);
+      else classes.add(clazz);
+    } else if (type instanceof ParameterizedType) {
+      ParameterizedType parameterizedType = (ParameterizedType) type;
+      addClassesOf(parameterizedType.getRawType(), classes);
+      for (Type typeArgument : parameterizedType.getActualTypeArguments()) {
+        addClassesOf(typeArgument, classes);
+      }
+    } else if (type instanceof GenericArrayType) {
+      addClassesOf(((GenericArrayType) type).getGenericComponentType(), classes);
+    } else if (type instanceof WildcardType) {
+      WildcardType wildcardType = (WildcardType) type;
+      for (Type bound : wildcardType.getUpperBounds()) {
+        addClassesOf(bound, classes);
+      }
+      for (Type bound : wildcardType.getLowerBounds()) {
+        addClassesOf(bound, classes);
+      }
+    }
+    // type variables are resolved by the ClassDescription value types when possible, their bounds are not walked
+  }
+
+  private boolean isWalkable(Class<?> clazz) {
+    if (clazz.isPrimitive() || !isPublic(clazz.getModifiers()) || clazz.isAnonymousClass() || clazz.isLocalClass()) {
+      return false;
+    }
+    String packageName = clazz.getPackageName();
+    for (String boundaryPackage : boundaryPackages) {
+      if (packageName.equals(boundaryPackage) || packageName.startsWith(boundaryPackage + ".")) return false;
+    }
+    return true;
+  }
+}
@@ -0,0 +1,39 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * Copyright 2012-2025 the original author or authors.
+ */
+package org.assertj.assertions.generator.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+
+/**
+ * Scan of the classes of a package in one classpath root: a directory or a jar. The central directories of the jars
+ * are read concurrently before their classes are loaded, a jar event covers the loading of its classes.
+ */
+@Name("org.assertj.generator.ClassScan")
+@Label("Class Scan")
+@Category({ "AssertJ", "Assertions Generator" })
+@Description("Scan of the classes of a package in a classpath root")
+public final class ClassScanEvent extends jdk.jfr.Event {
+
+  @Label("Classpath Root")
+  public String classpathRoot;
+
+  @Label("Package Name")
+  public String packageName;
+
+  @Label("Class Count")
+  @Description("Number of classes candidate to assertions generation found")
+  public int classCount;
+}
@@ -0,0 +1,40 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * Copyright 2012-2025 the original author or authors.
+ */
+package org.assertj.assertions.generator.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.DataAmount;
+import jdk.jfr.Description;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+
+/**
+ * Write of a generated file.
+ */
+@Name("org.assertj.generator.FileWrite")
+@Label("File Write")
+@Category({ "AssertJ", "Assertions Generator" })
+@Description("Write of a generated file")
+public final class FileWriteEvent extends jdk.jfr.Event {
+
+  @Label("Class Name")
+  @Description("Class to generate assertions for, or entry point file name")
+  public String className;
+
+  @Label("Path")
+  public String path;
+
+  @Label("Bytes Written")
+  @DataAmount
+  public long bytes;
+}
@@ -0,0 +1,273 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * Copyright 2012-2025 the original author or authors.
+ */
+package org.assertj.assertions.generator.util;
+
+import java.io.BufferedInputStream;
+import java.io.DataInputStream;
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Objects;
+import java.util.Set;
+import java.util.TreeSet;
+import java.util.jar.JarEntry;
+import java.util.jar.JarFile;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+/**
+ * Finds the classes annotated with given annotations, or having methods annotated with them, by reading the
+ * <code>RuntimeVisibleAnnotations</code> attributes of their class files, no class is loaded.
+ * <p>
+ * Class files of a classpath directory or jar are read in parallel, only annotations with a runtime retention are
+ * found as they are the only ones visible to the generator reflection.
+ */
+public final class AnnotationIndex {
+
+  private static final int CLASS_FILE_MAGIC = 0xCAFEBABE;
+  private static final String CLASS_SUFFIX = ".class";
+  private static final String RUNTIME_VISIBLE_ANNOTATIONS = "RuntimeVisibleAnnotations";
+
+  // annotations type descriptors, e.g. Lorg/assertj/assertions/generator/GenerateAssertion;
+  private final Set<String> annotationDescriptors = new HashSet<>();
+
+  /**
+   * Creates an index of the classes annotated with the given annotations.
+   *
+   * @param annotationClassNames the fully qualified names of the annotations to look for.
+   */
+  public AnnotationIndex(Collection<String> annotationClassNames) {
+    for (String annotationClassName : annotationClassNames) {
+      annotationDescriptors.add("L" + annotationClassName.replace('.', '/') + ";");
+    }
+  }
+
+  /**
+   * Returns the binary names of the classes of the given package (recursively) in the given classpath directory or jar
+   * that are annotated, or have methods annotated, with one of the annotations of this index.
+   *
+   * @param classpathRoot a classpath directory or jar.
+   * @param packageName the package to look into, the whole classpath entry if empty.
+   * @return the sorted binary names of the annotated classes, e.g. <code>com.nba.Player$Agent</code>.
+   * @throws IOException if the classpath entry can't be read.
+   */
+  public Set<String> annotatedClassesOf(File classpathRoot, String packageName) throws IOException {
+    String packagePath = packageName.isEmpty() ? "" : packageName.replace('.', '/') + "/";
+    try {
+      if (classpathRoot.isDirectory()) return annotatedClassesOfDirectory(classpathRoot.toPath(), packagePath);
+      if (classpathRoot.isFile()) return annotatedClassesOfJar(classpathRoot, packagePath);
+      return new TreeSet<>();
+    } catch (UncheckedIOException e) {
+      throw e.getCause();
+    }
+  }
+
+  private Set<String> annotatedClassesOfDirectory(Path classpathRoot, String packagePath) throws IOException {
+    Path packageDirectory = classpathRoot.resolve(packagePath);
+    if (!Files.isDirectory(packageDirectory)) return new TreeSet<>();
+    List<Path> classFiles;
+    try (Stream<Path> files = Files.walk(packageDirectory)) {
+      classFiles = files.filter(file -> file.toString().endsWith(CLASS_SUFFIX)).collect(Collectors.toList());
+    }
+    return classFiles.parallelStream()
+                     .map(classFile -> {
+                       try (InputStream classFileStream = Files.newInputStream(classFile)) {
+                         return annotatedClassNameOf(classFileStream);
+                       } catch (IOException e) {
+                         throw new UncheckedIOException(e);
+                       }
+                     })
+                     .filter(Objects::nonNull)
+                     .collect(Collectors.toCollection(TreeSet::new));
+  }
+
+  private Set<String> annotatedClassesOfJar(File jar, String packagePath) throws IOException {
+    try (JarFile jarFile = new JarFile(jar)) {
+      List<JarEntry> classEntries = new ArrayList<>();
+      for (JarEntry entry : Collections.list(jarFile.entries())) {
+        String name = entry.getName();
+        // multi release entries are ignored, their base version has the same annotations most of the time
+        if (name.startsWith(packagePath) && name.endsWith(CLASS_SUFFIX) && !name.startsWith("META-INF/")) {
+          classEntries.add(entry);
+        }
+      }
+      // reading entries of the same jar file concurrently is supported
+      return classEntries.parallelStream()
+                         .map(entry -> {
+                           try (InputStream classFileStream = jarFile.getInputStream(entry)) {
+                             return annotatedClassNameOf(classFileStream);
+                           } catch (IOException e) {
+                             throw new UncheckedIOException(e);
+                           }
+                         })
+                         .filter(Objects::nonNull)
+                         .collect(Collectors.toCollection(TreeSet::new));
+    }
+  }
+
+  /**
+   * Reads the given class file and returns its class binary name if the class or one of its methods is annotated with
+   * one of the annotations of this index, null otherwise.
+   */
+  String annotatedClassNameOf(InputStream classFileStream) throws IOException {
+    DataInputStream classFile = new DataInputStream(new BufferedInputStream(classFileStream));
+    if (classFile.readInt() != CLASS_FILE_MAGIC) return null;
+    // minor and major versions
+    classFile.readInt();
+    String[] utf8Constants = new String[classFile.readUnsignedShort()];
+    int[] classConstants = new int[utf8Constants.length];
+    boolean annotationFound = false;
+    for (int i = 1; i < utf8Constants.length; i++) {
+      int tag = classFile.readUnsignedByte();
+      switch (tag) {
+      case 1: // Utf8
+        utf8Constants[i] = classFile.readUTF();
+        annotationFound |= annotationDescriptors.contains(utf8Constants[i]);
+        break;
+      case 7: // Class
+        classConstants[i] = classFile.readUnsignedShort();
+        break;
+      case 8: // String
+      case 16: // MethodType
+      case 19: // Module
+      case 20: // Package
+        skipFully(classFile, 2);
+        break;
+      case 15: // MethodHandle
+        skipFully(classFile, 3);
+        break;
+      case 3: // Integer
+      case 4: // Float
+      case 9: // Fieldref
+      case 10: // Methodref
+      case 11: // InterfaceMethodref
+      case 12: // NameAndType
+      case 17: // Dynamic
+      case 18: // InvokeDynamic
+        skipFully(classFile, 4);
+        break;
+      case 5: // Long
+      case 6: // Double
+        skipFully(classFile, 8);
+        // takes two constant pool entries
+        i++;
+        break;
+      default:
+        throw new IOException("Unknown constant pool tag " + tag);
+      }
+    }
+    // the annotations descriptors are referenced from the constant pool, no need to go further without them
+    if (!annotationFound) return null;
+    // access flags
+    skipFully(classFile, 2);
+    String className = utf8Constants[classConstants[classFile.readUnsignedShort()]].replace('/', '.');
+    // super class then interfaces
+    skipFully(classFile, 2);
+    skipFully(classFile, 2 * classFile.readUnsignedShort());
+    // fields annotations are not looked at
+    skipMembers(classFile);
+    int methodsCount = classFile.readUnsignedShort();
+    boolean annotated = false;
+    for (int i = 0; i < methodsCount; i++) {
+      // access flags, name and descriptor
+      skipFully(classFile, 6);
+      annotated |= hasAnnotations(classFile, utf8Constants);
+    }
+    annotated |= hasAnnotations(classFile, utf8Constants);
+    return annotated ? className : null;
+  }
+
+  private static void skipMembers(DataInputStream classFile) throws IOException {
+    int membersCount = classFile.readUnsignedShort();
+    for (int i = 0; i < membersCount; i++) {
+      // access flags, name and descriptor
+      skipFully(classFile, 6);
+      skipAttributes(classFile);
+    }
+  }
+
+  private static void skipAttributes(DataInputStream classFile) throws IOException {
+    int attributesCount = classFile.readUnsignedShort();
+    for (int i = 0; i < attributesCount; i++) {
+      skipFully(classFile, 2);
+      skipFully(classFile, classFile.readInt());
+    }
+  }
+
+  // reads the attributes of a class or method and tells whether one of its runtime annotations is indexed
+  private boolean hasAnnotations(DataInputStream classFile, String[] utf8Constants) throws IOException {
+    boolean annotated = false;
+    int attributesCount = classFile.readUnsignedShort();
+    for (int i = 0; i < attributesCount; i++) {
+      String attributeName = utf8Constants[classFile.readUnsignedShort()];
+      int attributeLength = classFile.readInt();
+      if (!RUNTIME_VISIBLE_ANNOTATIONS.equals(attributeName)) {
+        skipFully(classFile, attributeLength);
+        continue;
+      }
+      int annotationsCount = classFile.readUnsignedShort();
+      for (int j = 0; j < annotationsCount; j++) {
+        annotated |= annotationDescriptors.contains(utf8Constants[classFile.readUnsignedShort()]);
+        skipElementValuePairs(classFile);
+      }
+    }
+    return annotated;
+  }
+
+  private static void skipElementValuePairs(DataInputStream classFile) throws IOException {
+    int pairsCount = classFile.readUnsignedShort();
+    for (int i = 0; i < pairsCount; i++) {
+      // element name
+      skipFully(classFile, 2);
+      skipElementValue(classFile);
+    }
+  }
+
+  private static void skipElementValue(DataInputStream classFile) throws IOException {
+    int tag = classFile.readUnsignedByte();
+    switch (tag) {
+    case 'e': // enum type and constant names
+      skipFully(classFile, 4);
+      break;
+    case '@': // nested annotation
+      skipFully(classFile, 2);
+      skipElementValuePairs(classFile);
+      break;
+    case '[':
+      int valuesCount = classFile.readUnsignedShort();
+      for (int i = 0; i < valuesCount; i++) {
+        skipElementValue(classFile);
+      }
+      break;
+    default: // constants and classes
+      skipFully(classFile, 2);
+    }
+  }
+
+  private static void skipFully(DataInputStream classFile, int length) throws IOException {
+    int skipped = 0;
+    while (skipped < length) {
+      int skippedBytes = classFile.skipBytes(length - skipped);
+      if (skippedBytes == 0) throw new IOException("Truncated class file");
+      skipped += skippedBytes;
+    }
+  }
+}
@@ -0,0 +1,155 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * Copyright 2012-2025 the original author or authors.
+ */
+package org.assertj.assertions.generator.util;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.regex.Pattern;
+
+import org.apache.commons.lang3.StringUtils;
+import org.apache.commons.lang3.Validate;
+
+/**
+ * Selects the classes found when scanning packages by their binary names, the classes matching one of the include
+ * patterns (all if there are none) and none of the exclude patterns are selected.
+ * <p>
+ * Patterns are globs unless prefixed with <code>regex:</code>, in globs <code>*</code> matches any part of a name
+ * between two dots, <code>**</code> any part of a name including dots and <code>?</code> any character but a dot, e.g.:
+ * <ul>
+ * <li><code>com.nba.**</code> matches all the classes of <code>com.nba</code> and its sub packages</li>
+ * <li><code>**Impl</code> matches all the classes whose name ends with <code>Impl</code></li>
+ * <li><code>regex:.*\.generated\..*</code> matches all the classes of the <code>generated</code> packages</li>
+ * </ul>
+ * Packages excluded by glob patterns ending with <code>.**</code> are skipped without listing their classes.
+ * <p>
+ * The filter counts the packages and classes it excluded, it can be shared by threads.
+ */
+public final class ClassNameFilter {
+
+  private static final String REGEX_PREFIX = "regex:";
+  private static final String GLOB_PREFIX = "glob:";
+  private static final String ALL_SUB_PACKAGES = ".**";
+
+  private final List<String> includePatterns;
+  private final List<String> excludePatterns;
+  private final List<Pattern> includes = new ArrayList<>();
+  private final List<Pattern> excludes = new ArrayList<>();
+  private final List<Pattern> excludedPackages = new ArrayList<>();
+  private final AtomicInteger skippedPackages = new AtomicInteger();
+  private final AtomicInteger excludedClasses = new AtomicInteger();
+
+  /**
+   * Creates a filter selecting the classes matching one of the given include patterns and none of the exclude ones.
+   *
+   * @param includePatterns the classes to select, all classes if empty.
+   * @param excludePatterns the classes to exclude.
+   * @throws IllegalArgumentException if a pattern is blank or is an invalid regular expression.
+   */
+  public ClassNameFilter(Collection<String> includePatterns, Collection<String> excludePatterns) {
+    this.includePatterns = new ArrayList<>(includePatterns);
+    this.excludePatterns = new ArrayList<>(excludePatterns);
+    for (String includePattern : includePatterns) {
+      includes.add(patternOf(includePattern));
+    }
+    for (String excludePattern : excludePatterns) {
+      excludes.add(patternOf(excludePattern));
+      if (!excludePattern.startsWith(REGEX_PREFIX) && excludePattern.endsWith(ALL_SUB_PACKAGES)) {
+        String packageGlob = StringUtils.removeStart(excludePattern, GLOB_PREFIX);
+        packageGlob = packageGlob.substring(0, packageGlob.length() - ALL_SUB_PACKAGES.length());
+        // the package itself or any of its sub packages
+        excludedPackages.add(Pattern.compile(regexOf(packageGlob) + "(\\..*)?"));
+      }
+    }
+  }
+
+  /**
+   * Returns whether the given class is selected, the excluded classes are counted.
+   *
+   * @param className the binary name of the class, e.g. <code>com.nba.Player$Agent</code>.
+   * @return true if the class is selected.
+   */
+  public boolean accepts(String className) {
+    boolean accepted = (includes.isEmpty() || matchesAny(includes, className)) && !matchesAny(excludes, className);
+    if (!accepted) excludedClasses.incrementAndGet();
+    return accepted;
+  }
+
+  /**
+   * Returns whether all the classes of the given package and its sub packages are excluded, in which case the package
+   * does not need to be scanned, the excluded packages are counted.
+   *
+   * @param packageName the package name, e.g. <code>com.nba.generated</code>.
+   * @return true if the package is excluded.
+   */
+  public boolean excludesPackage(String packageName) {
+    boolean excluded = matchesAny(excludedPackages, packageName);
+    if (excluded) skippedPackages.incrementAndGet();
+    return excluded;
+  }
+
+  /**
+   * Returns the number of packages skipped because they were excluded.
+   *
+   * @return the number of skipped packages.
+   */
+  public int getSkippedPackages() {
+    return skippedPackages.get();
+  }
+
+  /**
+   * Returns the number of classes found in the scanned packages but not selected.
+   *
+   * @return the number of excluded classes.
+   */
+  public int getExcludedClasses() {
+    return excludedClasses.get();
+  }
+
+  @Override
+  public String toString() {
+    return "include " + includePatterns + " exclude " + excludePatterns;
+  }
+
+  private static boolean matchesAny(List<Pattern> patterns, String name) {
+    for (Pattern pattern : patterns) {
+      if (pattern.matcher(name).matches()) return true;
+    }
+    return false;
+  }
+
+  private static Pattern patternOf(String pattern) {
+    Validate.isTrue(StringUtils.isNotBlank(pattern), "The class name pattern '%s' must not be blank", pattern);
+    if (pattern.startsWith(REGEX_PREFIX)) return Pattern.compile(pattern.substring(REGEX_PREFIX.length()));
+    return Pattern.compile(regexOf(StringUtils.removeStart(pattern, GLOB_PREFIX)));
+  }
+
+  private static String regexOf(String glob) {
+    StringBuilder regex = new StringBuilder();
+    for (int i = 0; i < glob.length(); i++) {
+      char c = glob.charAt(i);
+      if (c == '*' && i + 1 < glob.length() && glob.charAt(i + 1) == '*') {
+        regex.append(".*");
+        i++;
+      } else if (c == '*') {
+        regex.append("[^.]*");
+      } else if (c == '?') {
+        regex.append("[^.]");
+      } else {
+        regex.append(Pattern.quote(String.valueOf(c)));
+      }
+    }
+    return regex.toString();
+  }
+}
@@ -12,7 +12,6 @@
  */
 package org.assertj.assertions.generator.util;
 
-import static com.google.common.base.Preconditions.checkNotNull;
 import static com.google.common.collect.Lists.newArrayList;
 import static com.google.common.collect.Sets.newHashSet;
 import static com.google.common.collect.Sets.newLinkedHashSet;
@@ -48,6 +47,7 @@ import java.util.Comparator;
 import java.util.Enumeration;
 import java.util.HashMap;
 import java.util.HashSet;
+import java.util.LinkedHashMap;
 import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Map;
@@ -57,14 +57,11 @@ import java.util.TreeSet;
 import java.util.regex.Matcher;
 import java.util.regex.Pattern;
 
-import org.apache.commons.lang3.ClassUtils;
 import org.apache.commons.lang3.StringUtils;
 import org.assertj.assertions.generator.description.Visibility;
+import org.assertj.assertions.generator.jfr.ClassScanEvent;
 
 import com.google.common.base.Strings;
-import com.google.common.collect.ImmutableSet;
-import com.google.common.reflect.ClassPath;
-import com.google.common.reflect.ClassPath.ClassInfo;
 import com.google.common.reflect.TypeToken;
 
 /**
@@ -121,60 +118,275 @@ public class ClassUtil {
    */
   public static Set<TypeToken<?>> collectClasses(ClassLoader classLoader, boolean includePrivateClasses,
                                                  String... classOrPackageNames) {
+    return collectClasses(classLoader, includePrivateClasses, null, null, classOrPackageNames);
+  }
+
+  /**
+   * Same as {@link #collectClasses(ClassLoader, String...)} but the classes found in each classpath directory and jar
+   * are kept in the given cache, the roots that did not change since they were cached are not scanned again.
+   * <p>
+   * The cache is not saved, see {@link ClasspathScanCache#save()}.
+   *
+   * @param classLoader {@link ClassLoader} used to load classes defines in classOrPackageNames
+   * @param scanCache the cache of the classes found in each classpath root
+   * @param classOrPackageNames classes names or packages names we want to collect classes from (recursively for
+   *          packages)
+   * @return the set of {@link Class}es found
+   * @throws RuntimeException if any error occurs
+   */
+  public static Set<TypeToken<?>> collectClasses(ClassLoader classLoader, ClasspathScanCache scanCache,
+                                                 String... classOrPackageNames) {
+    return collectClasses(classLoader, false, null, scanCache, classOrPackageNames);
+  }
+
+  /**
+   * Same as {@link #collectClasses(ClassLoader, ClasspathScanCache, String...)} but only the packages classes selected
+   * by the given filter are collected, the other ones are not loaded and the excluded packages are not scanned; given
+   * classes names are collected whether they are selected or not.
+   *
+   * @param classLoader {@link ClassLoader} used to load classes defines in classOrPackageNames
+   * @param filter the filter of the packages classes, null to collect all of them
+   * @param scanCache the cache of the classes found in each classpath root, null to scan all of them
+   * @param classOrPackageNames classes names or packages names we want to collect classes from (recursively for
+   *          packages)
+   * @return the set of {@link Class}es found
+   * @throws RuntimeException if any error occurs
+   */
+  public static Set<TypeToken<?>> collectClasses(ClassLoader classLoader, ClassNameFilter filter,
+                                                 ClasspathScanCache scanCache, String... classOrPackageNames) {
+    return collectClasses(classLoader, false, filter, scanCache, classOrPackageNames);
+  }
+
+  private static Set<TypeToken<?>> collectClasses(ClassLoader classLoader, boolean includePrivateClasses,
+                                                  ClassNameFilter filter, ClasspathScanCache scanCache,
+                                                  String... classOrPackageNames) {
     Set<TypeToken<?>> classes = newLinkedHashSet();
     for (String classOrPackageName : classOrPackageNames) {
       TypeToken<?> clazz = tryToLoadClass(classOrPackageName, classLoader);
       if (isClassCandidateToAssertionsGeneration(clazz, includePrivateClasses)) {
         classes.add(clazz);
-      } else {
+      } else if (filter == null || !filter.excludesPackage(classOrPackageName)) {
         // should be a package
-        classes.addAll(getClassesInPackage(classOrPackageName, classLoader));
+        classes.addAll(getClassesInPackage(classOrPackageName, classLoader, filter, scanCache));
       }
     }
     return classes;
   }
 
+  /**
+   * Collects the <b>public</b> classes belonging to the given packages (recursively) that are annotated with one of the
+   * given annotations or have methods annotated with them, e.g. with
+   * {@link org.assertj.assertions.generator.GenerateAssertion}, given classes names are collected whether they are
+   * annotated or not.
+   * <p>
+   * The packages classes are found by an {@link AnnotationIndex} reading their class files in the classpath directories
+   * and jars, only the annotated classes are loaded.
+   *
+   * @param classLoader {@link ClassLoader} used to find and load the classes
+   * @param annotations the annotations to look for, they must have a runtime retention
+   * @param classOrPackageNames classes names or packages names we want to collect classes from (recursively for
+   *          packages)
+   * @return the set of {@link Class}es found
+   * @throws RuntimeException if any error occurs
+   */
+  public static Set<TypeToken<?>> collectAnnotatedClasses(ClassLoader classLoader, Set<Class<?>> annotations,
+                                                          String... classOrPackageNames) {
+    return collectAnnotatedClasses(classLoader, annotations, null, classOrPackageNames);
+  }
+
+  /**
+   * Same as {@link #collectAnnotatedClasses(ClassLoader, Set, String...)} but only the annotated packages classes
+   * selected by the given filter are collected, the other ones are not loaded; given classes names are collected
+   * whether they are selected or not.
+   *
+   * @param classLoader {@link ClassLoader} used to find and load the classes
+   * @param annotations the annotations to look for, they must have a runtime retention
+   * @param filter the filter of the packages classes, null to collect all of them
+   * @param classOrPackageNames classes names or packages names we want to collect classes from (recursively for
+   *          packages)
+   * @return the set of {@link Class}es found
+   * @throws RuntimeException if any error occurs
+   */
+  public static Set<TypeToken<?>> collectAnnotatedClasses(ClassLoader classLoader, Set<Class<?>> annotations,
+                                                          ClassNameFilter filter, String... classOrPackageNames) {
+    Set<String> annotationClassNames = new HashSet<>();
+    for (Class<?> annotation : annotations) {
+      annotationClassNames.add(annotation.getName());
+    }
+    AnnotationIndex annotationIndex = new AnnotationIndex(annotationClassNames);
+    Set<TypeToken<?>> classes = newLinkedHashSet();
+    for (String classOrPackageName : classOrPackageNames) {
+      TypeToken<?> clazz = tryToLoadClass(classOrPackageName, classLoader);
+      if (isClassCandidateToAssertionsGeneration(clazz, false)) {
+        classes.add(clazz);
+        continue;
+      }
+      // should be a package
+      if (filter != null && filter.excludesPackage(classOrPackageName)) continue;
+      Set<String> annotatedClassNames = getAnnotatedClassNamesInPackage(classOrPackageName, classLoader, annotationIndex);
+      for (String className : selectedClassNames(annotatedClassNames, filter)) {
+        // CHECKSTYLE:OFF
+        try {
+          TypeToken<?> annotatedClass = loadClass(className, classLoader);
+          if (isClassCandidateToAssertionsGeneration(annotatedClass, false)) classes.add(annotatedClass);
+        } catch (Throwable e) {
+          // do nothing. this class hasn't been found by the loader, and we don't care.
+        }
+        // CHECKSTYLE:ON
+      }
+    }
+    return classes;
+  }
+
+  private static Set<String> getAnnotatedClassNamesInPackage(String packageName, ClassLoader classLoader,
+                                                             AnnotationIndex annotationIndex) {
+    Set<String> classNames = new TreeSet<>();
+    try {
+      // classpath directories, jars are enumerated below since they may have no directory entries
+      for (URL resource : Collections.list(classLoader.getResources(packageName.replace('.', '/')))) {
+        if (!"file".equals(resource.getProtocol())) continue;
+        File packageDirectory = new File(URLDecoder.decode(resource.getPath(), "UTF-8"));
+        classNames.addAll(annotatedClassNamesOf(classpathRootOf(packageDirectory, packageName), packageName,
+                                                annotationIndex));
+      }
+      // only the jars having classes in the package are indexed
+      Map<File, Set<String>> classNamesByJar = new JarScanner().topLevelClassNamesByJar(
+          JarScanner.classpathJarsOf(classLoader), packageName);
+      for (Map.Entry<File, Set<String>> jarClassNames : classNamesByJar.entrySet()) {
+        if (jarClassNames.getValue().isEmpty()) continue;
+        classNames.addAll(annotatedClassNamesOf(jarClassNames.getKey(), packageName, annotationIndex));
+      }
+    } catch (IOException e) {
+      throw new RuntimeException("IOException was thrown when trying to get the annotated classes of " + packageName, e);
+    }
+    return classNames;
+  }
+
+  private static Set<String> annotatedClassNamesOf(File classpathRoot, String packageName,
+                                                   AnnotationIndex annotationIndex) throws IOException {
+    ClassScanEvent event = new ClassScanEvent();
+    event.begin();
+    Set<String> classpathRootClassNames = annotationIndex.annotatedClassesOf(classpathRoot, packageName);
+    commit(event, classpathRoot.getPath(), packageName, classpathRootClassNames.size());
+    return classpathRootClassNames;
+  }
+
+  /**
+   * Returns the classpath directories containing the given classes or packages, that is the directories where their
+   * class files are compiled, classes and packages in jars are ignored.
+   *
+   * @param classLoader {@link ClassLoader} used to find the given classes and packages
+   * @param classOrPackageNames classes names or packages names we want the classpath directories of
+   * @return the classpath directories found
+   * @throws RuntimeException if any error occurs
+   */
+  public static Set<File> getClasspathDirectoriesOf(ClassLoader classLoader, String... classOrPackageNames) {
+    Set<File> classpathDirectories = newLinkedHashSet();
+    for (String classOrPackageName : classOrPackageNames) {
+      String resourceName = classOrPackageName.replace('.', '/');
+      try {
+        for (URL resource : Collections.list(classLoader.getResources(resourceName))) {
+          addClasspathDirectory(resource, classOrPackageName, classpathDirectories);
+        }
+        URL classFile = classLoader.getResource(resourceName + CLASS_SUFFIX);
+        if (classFile != null) addClasspathDirectory(classFile, classOrPackageName, classpathDirectories);
+      } catch (IOException e) {
+        throw new RuntimeException("IOException was thrown when trying to get the classpath directories of "
+                                   + classOrPackageName, e);
+      }
+    }
+    return classpathDirectories;
+  }
+
+  private static void addClasspathDirectory(URL resource, String classOrPackageName, Set<File> classpathDirectories)
+                                                                                                                 throws UnsupportedEncodingException {
+    if (!"file".equals(resource.getProtocol())) return;
+    // go up one directory per name part: com/nba/Player.class -> classpath directory containing com
+    File classpathDirectory = new File(URLDecoder.decode(resource.getPath(), "UTF-8"));
+    for (int i = 0; i < classOrPackageName.split("\\.").length && classpathDirectory != null; i++) {
+      classpathDirectory = classpathDirectory.getParentFile();
+    }
+    if (classpathDirectory != null) classpathDirectories.add(classpathDirectory);
+  }
+
+  // com/nba package directory -> classpath directory containing com, the default package directory is the root itself
+  private static File classpathRootOf(File packageDirectory, String packageName) {
+    if (packageName.isEmpty()) return packageDirectory;
+    File classpathRoot = packageDirectory;
+    for (int i = 0; i < packageName.split("\\.").length && classpathRoot.getParentFile() != null; i++) {
+      classpathRoot = classpathRoot.getParentFile();
+    }
+    return classpathRoot;
+  }
+
   /**
    * Retrieves recursively all the classes belonging to a package.
    *
    * @param packageName package name we want to load classes from
    * @param classLoader the class loader used to load the classes in the given package
+   * @param filter the filter of the classes to load, null if disabled
+   * @param scanCache the cache of the classes found in each classpath root, null if disabled
    * @return the list of Class found
    * @throws RuntimeException if any error occurs
    */
-  private static Set<TypeToken<?>> getClassesInPackage(String packageName, ClassLoader classLoader) {
+  private static Set<TypeToken<?>> getClassesInPackage(String packageName, ClassLoader classLoader,
+                                                       ClassNameFilter filter, ClasspathScanCache scanCache) {
     if (classLoader == null) {
       throw new IllegalArgumentException("Null class loader.");
     }
     // load classes from classpath file system, this won't load classes in jars
-    Set<TypeToken<?>> packageClasses = getPackageClassesFromClasspathFiles(packageName, classLoader);
+    Set<TypeToken<?>> packageClasses = getPackageClassesFromClasspathFiles(packageName, classLoader, filter, scanCache);
     // load classes from classpath jars
     try {
-      packageClasses.addAll(getPackageClassesFromClasspathJars(packageName, classLoader));
+      packageClasses.addAll(getPackageClassesFromClasspathJars(packageName, classLoader, filter, scanCache));
     } catch (IOException e) {
       throw new RuntimeException(e);
     }
     return packageClasses;
   }
 
-  private static Set<TypeToken<?>> getPackageClassesFromClasspathJars(String packageName, ClassLoader classLoader)
-                                                                                                                   throws IOException {
-    ImmutableSet<ClassInfo> classesInfo = ClassPath.from(classLoader).getTopLevelClassesRecursive(packageName);
-    Set<TypeToken<?>> classesInPackage = new HashSet<>();
-    for (ClassInfo classInfo : classesInfo) {
-      classesInPackage.add(TypeToken.of(classInfo.load()));
-    }
-
+  private static Set<TypeToken<?>> getPackageClassesFromClasspathJars(String packageName, ClassLoader classLoader,
+                                                                      ClassNameFilter filter,
+                                                                      ClasspathScanCache scanCache) throws IOException {
     Set<TypeToken<?>> filteredClassesInPackage = new HashSet<>();
-    for (TypeToken<?> classFromJar : classesInPackage) {
-      if (isClassCandidateToAssertionsGeneration(classFromJar, false)) {
-        filteredClassesInPackage.add(classFromJar);
+    // jar -> fingerprint, null if there is no cache
+    Map<File, String> jarsToScan = new LinkedHashMap<>();
+    for (File jar : JarScanner.classpathJarsOf(classLoader)) {
+      ClassScanEvent event = new ClassScanEvent();
+      event.begin();
+      String fingerprint = scanCache == null ? null : fingerprintOf(jar, filter);
+      Map<String, Boolean> cachedClasses = scanCache == null ? null : scanCache.get(jar, packageName, fingerprint);
+      if (cachedClasses == null) {
+        jarsToScan.put(jar, fingerprint);
+        continue;
+      }
+      Set<TypeToken<?>> jarClasses = loadCandidateClasses(cachedClasses, classLoader);
+      commit(event, jar.getPath(), packageName, jarClasses.size());
+      filteredClassesInPackage.addAll(jarClasses);
+    }
+    // only the jars central directories are read, concurrently, the classes are loaded afterwards
+    Map<File, Set<String>> classNamesByJar = new JarScanner().topLevelClassNamesByJar(jarsToScan.keySet(), packageName);
+    for (Map.Entry<File, Set<String>> jarClassNames : classNamesByJar.entrySet()) {
+      ClassScanEvent event = new ClassScanEvent();
+      event.begin();
+      Set<TypeToken<?>> jarClasses = new HashSet<>();
+      Map<String, Boolean> scannedClasses = new LinkedHashMap<>();
+      for (String className : selectedClassNames(jarClassNames.getValue(), filter)) {
+        TypeToken<?> classFromJar = loadCandidateClass(className, classLoader, scannedClasses);
+        if (classFromJar != null) jarClasses.add(classFromJar);
       }
+      if (scanCache != null) {
+        scanCache.put(jarClassNames.getKey(), packageName, jarsToScan.get(jarClassNames.getKey()), scannedClasses);
+      }
+      commit(event, jarClassNames.getKey().getPath(), packageName, jarClasses.size());
+      filteredClassesInPackage.addAll(jarClasses);
     }
     return filteredClassesInPackage;
   }
 
-  private static Set<TypeToken<?>> getPackageClassesFromClasspathFiles(String packageName, ClassLoader classLoader) {
+  private static Set<TypeToken<?>> getPackageClassesFromClasspathFiles(String packageName, ClassLoader classLoader,
+                                                                       ClassNameFilter filter,
+                                                                       ClasspathScanCache scanCache) {
     try {
       String packagePath = packageName.replace('.', File.separatorChar);
       // Ask for all resources for the path
@@ -183,7 +395,13 @@ public class ClassUtil {
       while (resources.hasMoreElements()) {
         File directory = new File(URLDecoder.decode(resources.nextElement().getPath(), "UTF-8"));
         if (directory.canRead()) {
-          classes.addAll(getClassesInDirectory(directory, packageName, classLoader));
+          ClassScanEvent event = new ClassScanEvent();
+          event.begin();
+          Set<TypeToken<?>> directoryClasses = scanCache == null
+              ? getClassesInDirectory(directory, packageName, classLoader, filter, null)
+              : getCachedClassesInDirectory(directory, packageName, classLoader, filter, scanCache);
+          commit(event, classpathRootOf(directory, packageName).getPath(), packageName, directoryClasses.size());
+          classes.addAll(directoryClasses);
         }
       }
       return classes;
@@ -195,6 +413,80 @@ public class ClassUtil {
     }
   }
 
+  private static void commit(ClassScanEvent event, String classpathRoot, String packageName, int classCount) {
+    if (!event.shouldCommit()) return;
+    event.classpathRoot = classpathRoot;
+    event.packageName = packageName;
+    event.classCount = classCount;
+    event.commit();
+  }
+
+  private static Set<TypeToken<?>> getCachedClassesInDirectory(File directory, String packageName,
+                                                               ClassLoader classLoader, ClassNameFilter filter,
+                                                               ClasspathScanCache scanCache) throws IOException {
+    String fingerprint = fingerprintOf(directory, filter);
+    Map<String, Boolean> cachedClasses = scanCache.get(directory, packageName, fingerprint);
+    if (cachedClasses != null) return loadCandidateClasses(cachedClasses, classLoader);
+    Map<String, Boolean> scannedClasses = new LinkedHashMap<>();
+    Set<TypeToken<?>> classes = getClassesInDirectory(directory, packageName, classLoader, filter, scannedClasses);
+    scanCache.put(directory, packageName, fingerprint, scannedClasses);
+    return classes;
+  }
+
+  // the classes cached for a root depend on the filter used to scan it
+  private static String fingerprintOf(File classpathRoot, ClassNameFilter filter) throws IOException {
+    String fingerprint = ClasspathScanCache.fingerprintOf(classpathRoot);
+    return filter == null ? fingerprint : fingerprint + ":" + filter;
+  }
+
+  // the classes selected by the given filter, all of them if there is no filter
+  private static Collection<String> selectedClassNames(Collection<String> classNames, ClassNameFilter filter) {
+    if (filter == null) return classNames;
+    List<String> selectedClassNames = new ArrayList<>();
+    // package -> excluded, each excluded package is counted once
+    Map<String, Boolean> excludedPackages = new HashMap<>();
+    for (String className : classNames) {
+      String packageName = StringUtils.substringBeforeLast(className, ".");
+      if (excludedPackages.computeIfAbsent(packageName, filter::excludesPackage)) continue;
+      if (filter.accepts(className)) selectedClassNames.add(className);
+    }
+    return selectedClassNames;
+  }
+
+  // loads the classes that were candidates to assertions generation when they were scanned
+  private static Set<TypeToken<?>> loadCandidateClasses(Map<String, Boolean> scannedClasses, ClassLoader classLoader) {
+    Set<TypeToken<?>> classes = new LinkedHashSet<>();
+    for (Map.Entry<String, Boolean> scannedClass : scannedClasses.entrySet()) {
+      if (!scannedClass.getValue()) continue;
+      TypeToken<?> candidateClass = loadCandidateClass(scannedClass.getKey(), classLoader);
+      if (candidateClass != null) classes.add(candidateClass);
+    }
+    return classes;
+  }
+
+  // the loaded class if it is a candidate to assertions generation, null otherwise
+  private static TypeToken<?> loadCandidateClass(String className, ClassLoader classLoader) {
+    return loadCandidateClass(className, classLoader, null);
+  }
+
+  // same as loadCandidateClass, putting in the given scanned classes whether the class is a candidate if it was loaded
+  private static TypeToken<?> loadCandidateClass(String className, ClassLoader classLoader,
+                                                 Map<String, Boolean> scannedClasses) {
+    // CHECKSTYLE:OFF
+    try {
+      TypeToken<?> loadedClass = loadClass(className, classLoader);
+      boolean candidate = isClassCandidateToAssertionsGeneration(loadedClass, false);
+      if (scannedClasses != null) scannedClasses.put(className, candidate);
+      return candidate ? loadedClass : null;
+    } catch (Throwable e) {
+      // the class can't be loaded now, e.g. a dependency is missing from the classpath, it is kept as a candidate so
+      // that loading it is tried again when the scanned classes are reused
+      if (scannedClasses != null) scannedClasses.put(className, true);
+      return null;
+    }
+    // CHECKSTYLE:ON
+  }
+
   /**
    * Get <b>public</b> classes in given directory (recursively).
    *
@@ -203,44 +495,23 @@ public class ClassUtil {
    * @param directory directory where to look for classes
    * @param packageName package name corresponding to directory
    * @param classLoader used classloader
+   * @param filter the filter of the classes to load, null if disabled
+   * @param scannedClasses where to put the found classes names and whether they are candidates to assertions
+   *          generation, classes that failed to load being candidates, null if not needed
    * @return Set of all of the types in the directory
-   * @throws UnsupportedEncodingException thrown by {@link URLDecoder#decode(String, String)}
+   * @throws IOException if the directory can't be walked
    */
-  private static Set<TypeToken<?>> getClassesInDirectory(File directory, String packageName, ClassLoader classLoader)
-                                                                                                                      throws UnsupportedEncodingException {
+  private static Set<TypeToken<?>> getClassesInDirectory(File directory, String packageName, ClassLoader classLoader,
+                                                         ClassNameFilter filter, Map<String, Boolean> scannedClasses)
+                                                                                                                   throws IOException {
+    // all the class names are collected first, the classes are then loaded in one batch
+    List<String> scannedClassNames = new DirectoryScanner().classNamesOf(directory, packageName, filter);
+    Collection<String> classNames = selectedClassNames(scannedClassNames, filter);
     Set<TypeToken<?>> classes = new LinkedHashSet<>();
-
-    // Capture all the .class files in this directory
-    // Get the list of the files contained in the package
-    File[] files = directory.listFiles();
-    checkNotNull(files, "No files were present in directory: %s", directory);
-    for (File currentFile : files) {
-      String currentFileName = currentFile.getName();
-      if (isClass(currentFileName)) {
-        // CHECKSTYLE:OFF
-        try {
-          // removes the .class extension
-          String className = packageName + '.' + StringUtils.remove(currentFileName, CLASS_SUFFIX);
-          TypeToken<?> loadedClass = loadClass(className, classLoader);
-          // we are only interested in public classes that are neither anonymous nor local
-          if (isClassCandidateToAssertionsGeneration(loadedClass, false)) {
-            classes.add(loadedClass);
-          }
-        } catch (Throwable e) {
-          // do nothing. this class hasn't been found by the loader, and we don't care.
-        }
-        // CHECKSTYLE:ON
-      } else if (currentFile.isDirectory()) {
-        // It's another package
-        String subPackageName = packageName + ClassUtils.PACKAGE_SEPARATOR + currentFileName;
-        // Ask for all resources for the path
-        String path = subPackageName.replace('.', File.separatorChar);
-        URL resource = classLoader.getResource(path);
-        checkNotNull(resource, "resource URL from package is null, package %s", path);
-        File subDirectory = new File(URLDecoder.decode(resource.getPath(), "UTF-8"));
-        Set<TypeToken<?>> classesForSubPackage = getClassesInDirectory(subDirectory, subPackageName, classLoader);
-        classes.addAll(classesForSubPackage);
-      }
+    for (String className : classNames) {
+      // we are only interested in public classes that are neither anonymous nor local
+      TypeToken<?> candidateClass = loadCandidateClass(className, classLoader, scannedClasses);
+      if (candidateClass != null) classes.add(candidateClass);
     }
     return classes;
   }
@@ -258,10 +529,6 @@ public class ClassUtil {
     return typeToken.getRawType().getName().contains("package-info");
   }
 
-  private static boolean isClass(String fileName) {
-    return fileName.endsWith(CLASS_SUFFIX);
-  }
-
   private static TypeToken<?> tryToLoadClass(String className, ClassLoader classLoader) {
     try {
       return loadClass(className, classLoader);
@@ -688,6 +955,15 @@ public class ClassUtil {
   // used to support navigation assertion
   // https://github.com/joel-costigliola/assertj-assertions-generator/issues/67
   public static String getAssertType(TypeToken<?> type, String packageName) {
+    return resolveTypeNameInPackage(getAssertType(type), packageName);
+  }
+
+  /**
+   * Gets the fully qualified name of the class that will be the "assert", see {@link #getAssertType(TypeToken, String)}.
+   * @param type Type being tested
+   * @return Fully qualified name for "assert" type
+   */
+  public static String getAssertType(TypeToken<?> type) {
 
     TypeToken<?> wrapped = type.wrap();
     Class<?> raw = wrapped.getRawType();
@@ -709,7 +985,7 @@ public class ClassUtil {
       typeName = type.getRawType().getName();
     }
 
-    return resolveTypeNameInPackage(typeName + "Assert", packageName);
+    return typeName + "Assert";
   }
 
   /**
@@ -749,7 +1025,7 @@ public class ClassUtil {
    * @param currentPackage package context for the string
    * @return Name resolved within the package
    */
-  private static String resolveTypeNameInPackage(String type, String currentPackage) {
+  public static String resolveTypeNameInPackage(String type, String currentPackage) {
     if (!Strings.isNullOrEmpty(currentPackage) && type.startsWith(currentPackage)) {
       return type.substring(currentPackage.length() + 1, type.length());
     }
@@ -0,0 +1,223 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * Copyright 2012-2025 the original author or authors.
+ */
+package org.assertj.assertions.generator.util;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static java.nio.file.StandardCopyOption.ATOMIC_MOVE;
+import static java.nio.file.StandardCopyOption.REPLACE_EXISTING;
+
+import java.io.BufferedWriter;
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.stream.Stream;
+
+import com.google.common.io.BaseEncoding;
+
+/**
+ * A file caching the classes found in each classpath root (a package directory or a jar) by the previous generations,
+ * unchanged roots are not scanned again and their classes that are not candidates to assertions generation, e.g.
+ * non-public ones, are not loaded. Classes that failed to load are cached as candidates, they are loaded again when the
+ * cache is reused, e.g. once their missing dependencies are in the classpath.
+ * <p>
+ * A jar is unchanged if its size and last modification time are, a directory if all its class files last modification
+ * times and sizes are.
+ * <p>
+ * The file is a text file, each classpath root line being followed by the classes names prefixed with <code>+</code>
+ * for candidates and <code>-</code> for the other ones:
+ * <pre>
+ * # assertj-generator classpath scan cache 1
+ * root	/work/lib/nba.jar	com.nba	jar:4562:1718000000000
+ * +com.nba.Player
+ * -com.nba.PlayerAgent
+ * </pre>
+ */
+public final class ClasspathScanCache {
+
+  private static final String HEADER = "# assertj-generator classpath scan cache 1";
+  private static final String ROOT = "root";
+  private static final char CANDIDATE = '+';
+  private static final char NOT_CANDIDATE = '-';
+
+  private final Path file;
+  // root path and package -> fingerprint and classes
+  private final Map<String, Entry> entries = new TreeMap<>();
+  private int reusedRoots;
+  private int rescannedRoots;
+
+  private ClasspathScanCache(Path file) {
+    this.file = file;
+  }
+
+  /**
+   * Loads the cache stored in the given file, an empty cache is returned if the file does not exist or was written by
+   * another version of the generator.
+   *
+   * @param file the cache file.
+   * @return the loaded cache.
+   * @throws IOException if the file exists but can't be read.
+   */
+  public static ClasspathScanCache load(Path file) throws IOException {
+    ClasspathScanCache cache = new ClasspathScanCache(file);
+    if (!Files.isRegularFile(file)) return cache;
+    List<String> lines = Files.readAllLines(file, UTF_8);
+    if (lines.isEmpty() || !HEADER.equals(lines.get(0))) return cache;
+    Entry entry = null;
+    for (String line : lines.subList(1, lines.size())) {
+      if (line.startsWith(ROOT + "\t")) {
+        String[] root = line.split("\t", -1);
+        if (root.length != 4) return new ClasspathScanCache(file);
+        entry = new Entry(root[3]);
+        cache.entries.put(keyOf(root[1], root[2]), entry);
+      } else if (entry != null && !line.isEmpty()) {
+        entry.classes.put(line.substring(1), line.charAt(0) == CANDIDATE);
+      }
+    }
+    return cache;
+  }
+
+  /**
+   * Returns the classes cached for the given classpath root and package, if the root did not change since it was cached.
+   *
+   * @param root the classpath root, a package directory or a jar.
+   * @param packageName the package whose classes were looked for in the root.
+   * @param fingerprint the current {@link #fingerprintOf(File) fingerprint} of the root.
+   * @return the classes names mapped to whether they are candidates to assertions generation, null if the root must be
+   *         scanned.
+   */
+  public synchronized Map<String, Boolean> get(File root, String packageName, String fingerprint) {
+    Entry entry = entries.get(keyOf(root.getAbsolutePath(), packageName));
+    if (entry == null || !entry.fingerprint.equals(fingerprint)) return null;
+    reusedRoots++;
+    return Collections.unmodifiableMap(entry.classes);
+  }
+
+  /**
+   * Caches the classes found by scanning the given classpath root.
+   *
+   * @param root the classpath root, a package directory or a jar.
+   * @param packageName the package whose classes were looked for in the root.
+   * @param fingerprint the {@link #fingerprintOf(File) fingerprint} of the scanned root.
+   * @param classes the classes names mapped to whether they are candidates to assertions generation.
+   */
+  public synchronized void put(File root, String packageName, String fingerprint, Map<String, Boolean> classes) {
+    Entry entry = new Entry(fingerprint);
+    entry.classes.putAll(classes);
+    entries.put(keyOf(root.getAbsolutePath(), packageName), entry);
+    rescannedRoots++;
+  }
+
+  /**
+   * Writes the cache to its file, atomically replacing the previous one, roots that do not exist anymore are removed.
+   *
+   * @throws IOException if the file could not be written.
+   */
+  public synchronized void save() throws IOException {
+    Path directory = file.toAbsolutePath().getParent();
+    Files.createDirectories(directory);
+    Path temporaryFile = Files.createTempFile(directory, file.getFileName().toString(), ".tmp");
+    try {
+      try (BufferedWriter writer = Files.newBufferedWriter(temporaryFile, UTF_8)) {
+        writer.write(HEADER);
+        writer.newLine();
+        for (Map.Entry<String, Entry> entry : entries.entrySet()) {
+          String[] rootAndPackage = entry.getKey().split("\t", -1);
+          if (!new File(rootAndPackage[0]).exists()) continue;
+          writer.write(ROOT + "\t" + entry.getKey() + "\t" + entry.getValue().fingerprint);
+          writer.newLine();
+          for (Map.Entry<String, Boolean> scannedClass : entry.getValue().classes.entrySet()) {
+            writer.write((scannedClass.getValue() ? CANDIDATE : NOT_CANDIDATE) + scannedClass.getKey());
+            writer.newLine();
+          }
+        }
+      }
+      Files.move(temporaryFile, file, ATOMIC_MOVE, REPLACE_EXISTING);
+    } finally {
+      Files.deleteIfExists(temporaryFile);
+    }
+  }
+
+  /**
+   * Returns the number of classpath roots whose cached classes were used rather than scanning them.
+   *
+   * @return the number of reused roots.
+   */
+  public synchronized int getReusedRoots() {
+    return reusedRoots;
+  }
+
+  /**
+   * Returns the number of classpath roots scanned because they were not cached or changed since.
+   *
+   * @return the number of rescanned roots.
+   */
+  public synchronized int getRescannedRoots() {
+    return rescannedRoots;
+  }
+
+  /**
+   * Returns what identifies the current state of the given classpath root: the size and last modification time of a
+   * jar, the digest of the paths, sizes and last modification times of the class files of a directory (recursively).
+   *
+   * @param root a jar or a package directory.
+   * @return the root fingerprint.
+   * @throws IOException if the root could not be read.
+   */
+  public static String fingerprintOf(File root) throws IOException {
+    if (!root.isDirectory()) return "jar:" + root.length() + ":" + root.lastModified();
+    Path directory = root.toPath();
+    List<Path> classFiles = new ArrayList<>();
+    try (Stream<Path> files = Files.walk(directory)) {
+      files.filter(path -> path.toString().endsWith(".class")).forEach(classFiles::add);
+    }
+    Collections.sort(classFiles);
+    MessageDigest digest = sha256();
+    for (Path classFile : classFiles) {
+      File file = classFile.toFile();
+      digest.update((directory.relativize(classFile) + "\t" + file.length() + "\t" + file.lastModified() + "\n").getBytes(UTF_8));
+    }
+    return "dir:" + classFiles.size() + ":" + BaseEncoding.base16().lowerCase().encode(digest.digest());
+  }
+
+  private static MessageDigest sha256() {
+    try {
+      return MessageDigest.getInstance("SHA-256");
+    } catch (NoSuchAlgorithmException e) {
+      throw new IllegalStateException(e);
+    }
+  }
+
+  private static String keyOf(String rootPath, String packageName) {
+    return rootPath + "\t" + packageName;
+  }
+
+  private static final class Entry {
+
+    private final String fingerprint;
+    // keeps the classes in the scan order
+    private final Map<String, Boolean> classes = new LinkedHashMap<>();
+
+    private Entry(String fingerprint) {
+      this.fingerprint = fingerprint;
+    }
+  }
+}
@@ -0,0 +1,171 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * Copyright 2012-2025 the original author or authors.
+ */
+package org.assertj.assertions.generator.util;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.FileVisitOption;
+import java.nio.file.FileVisitResult;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.SimpleFileVisitor;
+import java.nio.file.attribute.BasicFileAttributes;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.EnumSet;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveTask;
+
+import org.apache.commons.lang3.Validate;
+
+/**
+ * Lists the class files of a classpath package directory (recursively), the sub directories are walked concurrently in
+ * a {@link ForkJoinPool} and the packages names are derived from the directories relative paths, neither a class
+ * loader is involved nor the classes are loaded.
+ * <p>
+ * Links to directories are followed, except those to one of their parent directories which would make the walk endless.
+ * A scanner is thread safe and meant to be reused, its pool is created once.
+ */
+public final class DirectoryScanner {
+
+  private static final String CLASS_SUFFIX = ".class";
+
+  private final ForkJoinPool pool;
+
+  /**
+   * Creates a scanner walking directories in the {@link ForkJoinPool#commonPool() common pool}.
+   */
+  public DirectoryScanner() {
+    this.pool = ForkJoinPool.commonPool();
+  }
+
+  /**
+   * Creates a scanner using at most the given number of threads, they end by themselves once idle.
+   *
+   * @param parallelism the maximum number of directories walked concurrently.
+   */
+  public DirectoryScanner(int parallelism) {
+    Validate.isTrue(parallelism > 0, "The parallelism '%s' must be positive", parallelism);
+    this.pool = new ForkJoinPool(parallelism);
+  }
+
+  /**
+   * Returns the binary names of the classes found in the given directory and its sub directories, including the nested
+   * classes ones.
+   * <p>
+   * The classes of a directory are listed before the ones of its sub directories, both in alphabetical order.
+   *
+   * @param directory the directory of the given package.
+   * @param packageName the package corresponding to the directory.
+   * @return the binary names of the classes found, e.g. <code>com.nba.Player$Agent</code>.
+   * @throws IOException if a directory can't be read.
+   */
+  public List<String> classNamesOf(File directory, String packageName) throws IOException {
+    return classNamesOf(directory, packageName, null);
+  }
+
+  /**
+   * Same as {@link #classNamesOf(File, String)} but the sub directories of the packages
+   * {@link ClassNameFilter#excludesPackage(String) excluded} by the given filter are not walked.
+   *
+   * @param directory the directory of the given package.
+   * @param packageName the package corresponding to the directory.
+   * @param filter the filter of the packages to walk, null to walk all of them.
+   * @return the binary names of the classes found, e.g. <code>com.nba.Player$Agent</code>.
+   * @throws IOException if a directory can't be read.
+   */
+  public List<String> classNamesOf(File directory, String packageName, ClassNameFilter filter) throws IOException {
+    Path directoryPath = directory.toPath();
+    Set<Object> directoryKey = new HashSet<>();
+    directoryKey.add(keyOf(directoryPath, Files.readAttributes(directoryPath, BasicFileAttributes.class)));
+    try {
+      return pool.invoke(new DirectoryWalk(directoryPath, packageName, filter, directoryKey));
+    } catch (UncheckedIOException e) {
+      throw e.getCause();
+    }
+  }
+
+  // identifies a directory whatever the link it is reached through, file keys are not supported by all file systems
+  private static Object keyOf(Path directory, BasicFileAttributes attributes) throws IOException {
+    return attributes.fileKey() != null ? attributes.fileKey() : directory.toRealPath();
+  }
+
+  private static final class DirectoryWalk extends RecursiveTask<List<String>> {
+
+    private static final long serialVersionUID = 1L;
+
+    private final transient Path directory;
+    private final String packageName;
+    private final transient ClassNameFilter filter;
+    // the keys of this directory and its parents, a link to one of them is not walked
+    private final transient Set<Object> pathKeys;
+
+    private DirectoryWalk(Path directory, String packageName, ClassNameFilter filter, Set<Object> pathKeys) {
+      this.directory = directory;
+      this.packageName = packageName;
+      this.filter = filter;
+      this.pathKeys = pathKeys;
+    }
+
+    @Override
+    protected List<String> compute() {
+      List<String> classFileNames = new ArrayList<>();
+      // sub directory -> its key, in alphabetical order
+      Map<Path, Object> subDirectories = new TreeMap<>();
+      try {
+        // only the directory entries are visited, the sub directories are walked by forked tasks
+        Files.walkFileTree(directory, EnumSet.of(FileVisitOption.FOLLOW_LINKS), 1,
+                           new SimpleFileVisitor<Path>() {
+                             @Override
+                             public FileVisitResult visitFile(Path file, BasicFileAttributes attributes)
+                                                                                                        throws IOException {
+                               String fileName = file.getFileName().toString();
+                               if (attributes.isDirectory()) {
+                                 Object subDirectoryKey = keyOf(file, attributes);
+                                 if (!pathKeys.contains(subDirectoryKey)) subDirectories.put(file, subDirectoryKey);
+                               } else if (fileName.endsWith(CLASS_SUFFIX)) classFileNames.add(fileName);
+                               return FileVisitResult.CONTINUE;
+                             }
+                           });
+      } catch (IOException e) {
+        throw new UncheckedIOException(e);
+      }
+      List<DirectoryWalk> subDirectoryWalks = new ArrayList<>();
+      for (Map.Entry<Path, Object> subDirectory : subDirectories.entrySet()) {
+        String subPackageName = packageName + '.' + subDirectory.getKey().getFileName();
+        if (filter != null && filter.excludesPackage(subPackageName)) continue;
+        Set<Object> subDirectoryPathKeys = new HashSet<>(pathKeys);
+        subDirectoryPathKeys.add(subDirectory.getValue());
+        DirectoryWalk subDirectoryWalk = new DirectoryWalk(subDirectory.getKey(), subPackageName, filter,
+                                                           subDirectoryPathKeys);
+        subDirectoryWalk.fork();
+        subDirectoryWalks.add(subDirectoryWalk);
+      }
+      List<String> classNames = new ArrayList<>();
+      for (String classFileName : classFileNames) {
+        classNames.add(packageName + '.' + classFileName.substring(0, classFileName.length() - CLASS_SUFFIX.length()));
+      }
+      Collections.sort(classNames);
+      for (DirectoryWalk subDirectoryWalk : subDirectoryWalks) {
+        classNames.addAll(subDirectoryWalk.join());
+      }
+      return classNames;
+    }
+  }
+}
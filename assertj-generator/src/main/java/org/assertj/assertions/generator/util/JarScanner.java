@@ -0,0 +1,361 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * Copyright 2012-2025 the original author or authors.
+ */
+package org.assertj.assertions.generator.util;
+
+import static java.nio.channels.FileChannel.MapMode.READ_ONLY;
+import static java.nio.charset.StandardCharsets.UTF_8;
+
+import java.io.File;
+import java.io.IOException;
+import java.net.URISyntaxException;
+import java.net.URL;
+import java.net.URLClassLoader;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.channels.FileChannel;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeSet;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.zip.DataFormatException;
+import java.util.zip.Inflater;
+import java.util.zip.ZipException;
+
+import org.apache.commons.lang3.Validate;
+
+/**
+ * Lists the classes of jars by reading their central directory through a memory mapped file channel, jars are scanned
+ * concurrently on a bounded thread pool and neither their entries content is read nor their classes are loaded.
+ */
+public final class JarScanner {
+
+  private static final int END_OF_CENTRAL_DIRECTORY_SIGNATURE = 0x06054b50;
+  private static final int END_OF_CENTRAL_DIRECTORY_SIZE = 22;
+  private static final int MAX_ZIP_COMMENT_SIZE = 0xFFFF;
+  private static final int ZIP64_END_OF_CENTRAL_DIRECTORY_LOCATOR_SIGNATURE = 0x07064b50;
+  private static final int ZIP64_END_OF_CENTRAL_DIRECTORY_LOCATOR_SIZE = 20;
+  private static final int ZIP64_END_OF_CENTRAL_DIRECTORY_SIGNATURE = 0x06064b50;
+  private static final int ZIP64_END_OF_CENTRAL_DIRECTORY_SIZE = 56;
+  private static final int CENTRAL_DIRECTORY_ENTRY_SIGNATURE = 0x02014b50;
+  private static final int CENTRAL_DIRECTORY_ENTRY_SIZE = 46;
+  private static final int LOCAL_FILE_HEADER_SIGNATURE = 0x04034b50;
+  private static final int LOCAL_FILE_HEADER_SIZE = 30;
+  private static final int STORED = 0;
+  private static final int DEFLATED = 8;
+  private static final String CLASS_SUFFIX = ".class";
+  private static final String MANIFEST = "META-INF/MANIFEST.MF";
+  private static final String CLASS_PATH_ATTRIBUTE = "class-path:";
+
+  private final int threads;
+
+  /**
+   * Creates a scanner using as many threads as available processors.
+   */
+  public JarScanner() {
+    this(Runtime.getRuntime().availableProcessors());
+  }
+
+  /**
+   * Creates a scanner using at most the given number of threads.
+   *
+   * @param threads the maximum number of jars scanned concurrently.
+   */
+  public JarScanner(int threads) {
+    Validate.isTrue(threads > 0, "The threads count '%s' must be positive", threads);
+    this.threads = threads;
+  }
+
+  /**
+   * Returns the binary names of the top level classes of the given package (recursively) in the given jars.
+   *
+   * @param jars the jars to scan.
+   * @param packageName the package to look into, all packages if empty.
+   * @return the sorted binary names of the classes found, e.g. <code>com.nba.Player</code>.
+   * @throws IOException if a jar can't be read.
+   */
+  public Set<String> topLevelClassNamesOf(Collection<File> jars, String packageName) throws IOException {
+    Set<String> classNames = new TreeSet<>();
+    for (Set<String> jarClassNames : topLevelClassNamesByJar(jars, packageName).values()) {
+      classNames.addAll(jarClassNames);
+    }
+    return classNames;
+  }
+
+  /**
+   * Same as {@link #topLevelClassNamesOf(Collection, String)} but the classes are given for each jar.
+   *
+   * @param jars the jars to scan.
+   * @param packageName the package to look into, all packages if empty.
+   * @return the sorted binary names of the classes found in each jar, in the given jars order.
+   * @throws IOException if a jar can't be read.
+   */
+  public Map<File, Set<String>> topLevelClassNamesByJar(Collection<File> jars, String packageName) throws IOException {
+    String prefix = packageName.isEmpty() ? "" : packageName.replace('.', '/') + "/";
+    Map<File, Set<String>> classNamesByJar = new LinkedHashMap<>();
+    if (jars.isEmpty()) return classNamesByJar;
+    ExecutorService executor = Executors.newFixedThreadPool(Math.min(threads, jars.size()));
+    try {
+      Map<File, Future<List<String>>> scans = new LinkedHashMap<>();
+      for (File jar : jars) {
+        scans.put(jar, executor.submit(() -> entryNamesOf(jar, prefix)));
+      }
+      for (Map.Entry<File, Future<List<String>>> scan : scans.entrySet()) {
+        Set<String> classNames = new TreeSet<>();
+        for (String entryName : get(scan.getValue())) {
+          // nested, package-info and module-info classes are not top level classes, multi release ones are ignored
+          if (!entryName.endsWith(CLASS_SUFFIX) || entryName.indexOf('$') != -1 || entryName.indexOf('-') != -1
+              || entryName.startsWith("META-INF/")) {
+            continue;
+          }
+          classNames.add(entryName.substring(0, entryName.length() - CLASS_SUFFIX.length()).replace('/', '.'));
+        }
+        classNamesByJar.put(scan.getKey(), classNames);
+      }
+      return classNamesByJar;
+    } finally {
+      executor.shutdownNow();
+    }
+  }
+
+  private static List<String> get(Future<List<String>> scan) throws IOException {
+    try {
+      return scan.get();
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+      throw new IOException("Interrupted while scanning jars", e);
+    } catch (ExecutionException e) {
+      if (e.getCause() instanceof IOException) throw (IOException) e.getCause();
+      throw new IOException("Failed to scan jar", e.getCause());
+    }
+  }
+
+  /**
+   * Returns the names of the entries of the given jar starting with the given prefix, only the jar central directory is
+   * read.
+   *
+   * @param jar the jar to read.
+   * @param prefix the entries names prefix, e.g. <code>com/nba/</code>.
+   * @return the entries names in the central directory order.
+   * @throws IOException if the jar can't be read or is not a valid jar.
+   */
+  public static List<String> entryNamesOf(File jar, String prefix) throws IOException {
+    try (FileChannel channel = FileChannel.open(jar.toPath(), StandardOpenOption.READ)) {
+      ByteBuffer centralDirectory = centralDirectoryOf(channel, jar);
+      byte[] prefixBytes = prefix.getBytes(UTF_8);
+      List<String> entryNames = new ArrayList<>();
+      for (int entry = 0; isEntry(centralDirectory, entry); entry = nextEntry(centralDirectory, entry)) {
+        int nameLength = unsignedShort(centralDirectory, entry + 28);
+        // the names are only decoded when they start with the prefix
+        if (startsWith(centralDirectory, entry + CENTRAL_DIRECTORY_ENTRY_SIZE, nameLength, prefixBytes)) {
+          entryNames.add(nameOf(centralDirectory, entry));
+        }
+      }
+      return entryNames;
+    }
+  }
+
+  /**
+   * Returns the jars of the classpath of the given class loader and its parents, including the jars referenced by the
+   * <code>Class-Path</code> attribute of their manifest.
+   *
+   * @param classLoader the class loader to get the jars of.
+   * @return the classpath jars, parents jars first.
+   */
+  public static Set<File> classpathJarsOf(ClassLoader classLoader) {
+    List<ClassLoader> classLoaders = new ArrayList<>();
+    for (ClassLoader loader = classLoader; loader != null; loader = loader.getParent()) {
+      classLoaders.add(0, loader);
+    }
+    Set<File> jars = new LinkedHashSet<>();
+    for (ClassLoader loader : classLoaders) {
+      if (loader instanceof URLClassLoader) jars.addAll(classpathJarsOf(((URLClassLoader) loader).getURLs()));
+      // the application class loader is not an URLClassLoader since java 9
+      if (loader == ClassLoader.getSystemClassLoader()) {
+        for (String classpathEntry : System.getProperty("java.class.path", "").split(File.pathSeparator)) {
+          if (!classpathEntry.isEmpty()) addJar(new File(classpathEntry), jars);
+        }
+      }
+    }
+    return jars;
+  }
+
+  /**
+   * Returns the jars of the given classpath, including the jars referenced by the <code>Class-Path</code> attribute of
+   * their manifest, which follow the jar referencing them.
+   *
+   * @param classpath the classpath entries, the directories and non file URLs are ignored.
+   * @return the classpath jars, in the classpath order.
+   */
+  public static Set<File> classpathJarsOf(URL... classpath) {
+    Set<File> jars = new LinkedHashSet<>();
+    for (URL url : classpath) {
+      addJar(fileOf(url), jars);
+    }
+    return jars;
+  }
+
+  private static void addJar(File file, Set<File> jars) {
+    if (file == null || !file.isFile() || !jars.add(file.getAbsoluteFile())) return;
+    try {
+      for (String classPathEntry : manifestClassPathOf(file)) {
+        addJar(fileOf(new URL(file.toURI().toURL(), classPathEntry)), jars);
+      }
+    } catch (IOException e) {
+      // not a jar or an invalid manifest, its classes can't be loaded anyway
+    }
+  }
+
+  private static File fileOf(URL url) {
+    if (!"file".equals(url.getProtocol())) return null;
+    try {
+      return new File(url.toURI());
+    } catch (URISyntaxException | IllegalArgumentException e) {
+      return new File(url.getPath());
+    }
+  }
+
+  // the Class-Path manifest attribute values, the manifest being read from the mapped jar
+  private static List<String> manifestClassPathOf(File jar) throws IOException {
+    List<String> classPath = new ArrayList<>();
+    String manifest = manifestOf(jar);
+    if (manifest == null) return classPath;
+    // continuation lines start with a space
+    for (String attribute : manifest.replace("\r\n", "\n").replace("\n ", "").split("\n")) {
+      if (!attribute.toLowerCase(Locale.ROOT).startsWith(CLASS_PATH_ATTRIBUTE)) continue;
+      for (String classPathEntry : attribute.substring(CLASS_PATH_ATTRIBUTE.length()).trim().split("\\s+")) {
+        if (!classPathEntry.isEmpty()) classPath.add(classPathEntry);
+      }
+    }
+    return classPath;
+  }
+
+  private static String manifestOf(File jar) throws IOException {
+    try (FileChannel channel = FileChannel.open(jar.toPath(), StandardOpenOption.READ)) {
+      ByteBuffer centralDirectory = centralDirectoryOf(channel, jar);
+      for (int entry = 0; isEntry(centralDirectory, entry); entry = nextEntry(centralDirectory, entry)) {
+        if (!MANIFEST.equalsIgnoreCase(nameOf(centralDirectory, entry))) continue;
+        int method = unsignedShort(centralDirectory, entry + 10);
+        long compressedSize = unsignedInt(centralDirectory, entry + 20);
+        int size = (int) unsignedInt(centralDirectory, entry + 24);
+        long localHeaderOffset = unsignedInt(centralDirectory, entry + 42);
+        ByteBuffer localHeader = map(channel, localHeaderOffset, LOCAL_FILE_HEADER_SIZE);
+        if (localHeader.getInt(0) != LOCAL_FILE_HEADER_SIGNATURE) throw new ZipException("Invalid local header in " + jar);
+        long dataOffset = localHeaderOffset + LOCAL_FILE_HEADER_SIZE + unsignedShort(localHeader, 26)
+                          + unsignedShort(localHeader, 28);
+        ByteBuffer data = map(channel, dataOffset, compressedSize);
+        return new String(contentOf(data, method, size, jar), UTF_8);
+      }
+      return null;
+    }
+  }
+
+  private static byte[] contentOf(ByteBuffer data, int method, int size, File jar) throws IOException {
+    if (size < 0) throw new ZipException("Manifest too large in " + jar);
+    byte[] content = new byte[size];
+    if (method == STORED) {
+      data.get(content);
+      return content;
+    }
+    if (method != DEFLATED) throw new ZipException("Unsupported compression method " + method + " in " + jar);
+    Inflater inflater = new Inflater(true);
+    try {
+      inflater.setInput(data);
+      int inflated = 0;
+      while (inflated < size && !inflater.finished()) {
+        int count = inflater.inflate(content, inflated, size - inflated);
+        if (count == 0 && (inflater.needsInput() || inflater.needsDictionary())) break;
+        inflated += count;
+      }
+      return content;
+    } catch (DataFormatException e) {
+      throw new ZipException("Invalid compressed manifest in " + jar + ": " + e.getMessage());
+    } finally {
+      inflater.end();
+    }
+  }
+
+  private static ByteBuffer centralDirectoryOf(FileChannel channel, File jar) throws IOException {
+    long size = channel.size();
+    if (size < END_OF_CENTRAL_DIRECTORY_SIZE) throw new ZipException("Not a jar file: " + jar);
+    // the end of central directory record is followed by the zip comment
+    long tailOffset = Math.max(0, size - END_OF_CENTRAL_DIRECTORY_SIZE - MAX_ZIP_COMMENT_SIZE);
+    ByteBuffer tail = map(channel, tailOffset, size - tailOffset);
+    int endOfCentralDirectory = tail.limit() - END_OF_CENTRAL_DIRECTORY_SIZE;
+    while (endOfCentralDirectory >= 0 && tail.getInt(endOfCentralDirectory) != END_OF_CENTRAL_DIRECTORY_SIGNATURE) {
+      endOfCentralDirectory--;
+    }
+    if (endOfCentralDirectory < 0) throw new ZipException("No central directory in " + jar);
+    long centralDirectorySize = unsignedInt(tail, endOfCentralDirectory + 12);
+    long centralDirectoryOffset = unsignedInt(tail, endOfCentralDirectory + 16);
+    int zip64Locator = endOfCentralDirectory - ZIP64_END_OF_CENTRAL_DIRECTORY_LOCATOR_SIZE;
+    if (zip64Locator >= 0 && tail.getInt(zip64Locator) == ZIP64_END_OF_CENTRAL_DIRECTORY_LOCATOR_SIGNATURE) {
+      ByteBuffer zip64EndOfCentralDirectory = map(channel, tail.getLong(zip64Locator + 8),
+                                                  ZIP64_END_OF_CENTRAL_DIRECTORY_SIZE);
+      if (zip64EndOfCentralDirectory.getInt(0) == ZIP64_END_OF_CENTRAL_DIRECTORY_SIGNATURE) {
+        centralDirectorySize = zip64EndOfCentralDirectory.getLong(40);
+        centralDirectoryOffset = zip64EndOfCentralDirectory.getLong(48);
+      }
+    }
+    if (centralDirectoryOffset + centralDirectorySize > size || centralDirectorySize > Integer.MAX_VALUE) {
+      throw new ZipException("Invalid central directory in " + jar);
+    }
+    return map(channel, centralDirectoryOffset, centralDirectorySize);
+  }
+
+  private static ByteBuffer map(FileChannel channel, long offset, long size) throws IOException {
+    // a mapping stays valid once the channel is closed
+    return channel.map(READ_ONLY, offset, size).order(ByteOrder.LITTLE_ENDIAN);
+  }
+
+  private static boolean isEntry(ByteBuffer centralDirectory, int entry) {
+    return entry + CENTRAL_DIRECTORY_ENTRY_SIZE <= centralDirectory.limit()
+           && centralDirectory.getInt(entry) == CENTRAL_DIRECTORY_ENTRY_SIGNATURE;
+  }
+
+  private static int nextEntry(ByteBuffer centralDirectory, int entry) {
+    return entry + CENTRAL_DIRECTORY_ENTRY_SIZE + unsignedShort(centralDirectory, entry + 28)
+           + unsignedShort(centralDirectory, entry + 30) + unsignedShort(centralDirectory, entry + 32);
+  }
+
+  private static String nameOf(ByteBuffer centralDirectory, int entry) {
+    byte[] name = new byte[unsignedShort(centralDirectory, entry + 28)];
+    centralDirectory.get(entry + CENTRAL_DIRECTORY_ENTRY_SIZE, name);
+    return new String(name, UTF_8);
+  }
+
+  private static boolean startsWith(ByteBuffer centralDirectory, int nameOffset, int nameLength, byte[] prefix) {
+    if (nameLength < prefix.length) return false;
+    for (int i = 0; i < prefix.length; i++) {
+      if (centralDirectory.get(nameOffset + i) != prefix[i]) return false;
+    }
+    return true;
+  }
+
+  private static int unsignedShort(ByteBuffer buffer, int index) {
+    return buffer.getShort(index) & 0xFFFF;
+  }
+
+  private static long unsignedInt(ByteBuffer buffer, int index) {
+    return buffer.getInt(index) & 0xFFFFFFFFL;
+  }
+}
@@ -0,0 +1,60 @@
+#!/bin/bash
+# ----------------------------------------------------------------------------
+# Licensed to the Apache Software Foundation (ASF) under one
+# or more contributor license agreements.  See the NOTICE file
+# distributed with this work for additional information
+# regarding copyright ownership.  The ASF licenses this file
+# to you under the Apache License, Version 2.0 (the
+# "License"); you may not use this file except in compliance
+# with the License.  You may obtain a copy of the License at
+#
+#    http://www.apache.org/licenses/LICENSE-2.0
+#
+# Unless required by applicable law or agreed to in writing,
+# software distributed under the License is distributed on an
+# "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+# KIND, either express or implied.  See the License for the
+# specific language governing permissions and limitations
+# under the License.
+# ----------------------------------------------------------------------------
+
+# ----------------------------------------------------------------------------
+# AssertJ Assertions generator startup benchmark
+#
+# Measures the average duration of a short generation run with and without the
+# AppCDS archive used by generate-assertions.sh, usage:
+#
+#   ./benchmark-startup.sh [runs]
+#
+# It must be run from the directory containing generate-assertions.sh and lib/.
+# ----------------------------------------------------------------------------
+
+RUNS=${1:-10}
+OUTPUT_DIR="${TMPDIR:-/tmp}/assertj-generator-benchmark-$$"
+# a generator class, so that the benchmark does not depend on user classes
+CLASS_TO_GENERATE=org.assertj.assertions.generator.description.GetterDescription
+
+now_in_ms() {
+  echo $(( $(date +%s%N) / 1000000 ))
+}
+
+average_run_duration() {
+  local total=0
+  for ((run = 0; run < RUNS; run++)); do
+    local start=$(now_in_ms)
+    ASSERTJ_GENERATOR_CDS=$1 sh generate-assertions.sh --output-dir "$OUTPUT_DIR" $CLASS_TO_GENERATE > /dev/null 2>&1
+    total=$(( total + $(now_in_ms) - start ))
+  done
+  echo $(( total / RUNS ))
+}
+
+# the first run with CDS enabled creates the archive if needed, it is not measured
+ASSERTJ_GENERATOR_CDS=true sh generate-assertions.sh --output-dir "$OUTPUT_DIR" $CLASS_TO_GENERATE > /dev/null 2>&1
+
+WITHOUT_CDS=$(average_run_duration false)
+WITH_CDS=$(average_run_duration true)
+rm -rf "$OUTPUT_DIR"
+
+echo "Average generation run duration over $RUNS runs:"
+echo "  without AppCDS archive: ${WITHOUT_CDS} ms"
+echo "  with AppCDS archive   : ${WITH_CDS} ms"
@@ -60,7 +60,39 @@ goto error
 SET JAVA_EXE="%JAVA_HOME%\bin\java.exe"
 set CMD_LINE_ARGS=%*
 
-%JAVA_EXE% -classpath ".;lib/*" org.assertj.assertions.generator.cli.AssertionGeneratorLauncher %CMD_LINE_ARGS%
+@REM AppCDS: the generator and its dependencies classes are loaded from a shared archive created by a training run
+@REM the first time, set ASSERTJ_GENERATOR_CDS=false to disable it. -Xshare:auto makes the JVM silently ignore the
+@REM archive when it does not match the JVM.
+@REM CDS can't use an archive whose classpath starts with a non empty directory, so when the archive is used the JVM
+@REM classpath is lib/* (as in the training run) and the classes to generate assertions for are loaded from .;lib/*,
+@REM in this order, with --classpath.
+set GENERATOR_CLASSPATH=.;lib/*
+set CDS_ARCHIVE=lib\assertj-generator.jsa
+@REM left by a failed training run not to try again at each run, delete it to retry
+set CDS_FAILURE_MARKER=%CDS_ARCHIVE%.failed
+set CDS_OPTS=
+if /I "%ASSERTJ_GENERATOR_CDS%" == "false" goto runLauncher
+if exist "%CDS_ARCHIVE%" goto useCdsArchive
+if exist "%CDS_FAILURE_MARKER%" goto runLauncher
+@REM concurrent first runs each train their own archive, renamed so that no run sees a partial one
+set CDS_TRAINING_ARCHIVE=%CDS_ARCHIVE%.%RANDOM%.tmp
+set CDS_TRAINING_DIR=%TEMP%\assertj-generator-cds-%RANDOM%
+%JAVA_EXE% -XX:ArchiveClassesAtExit=%CDS_TRAINING_ARCHIVE% -Xlog:cds=off -Xlog:cds+dynamic=off -classpath "lib/*" org.assertj.assertions.generator.cli.AssertionGeneratorLauncher --output-dir "%CDS_TRAINING_DIR%" org.assertj.assertions.generator.description.GetterDescription > NUL 2>&1
+if exist "%CDS_TRAINING_DIR%" rmdir /S /Q "%CDS_TRAINING_DIR%"
+if exist "%CDS_TRAINING_ARCHIVE%" move /Y "%CDS_TRAINING_ARCHIVE%" "%CDS_ARCHIVE%" > NUL
+if exist "%CDS_ARCHIVE%" goto useCdsArchive
+type NUL > "%CDS_FAILURE_MARKER%"
+goto runLauncher
+
+:useCdsArchive
+set CDS_OPTS=-Xshare:auto -XX:SharedArchiveFile=%CDS_ARCHIVE% -Xlog:cds=off -Xlog:cds+dynamic=off
+set GENERATOR_CLASSPATH=lib/*
+@REM an explicit classpath of the classes to generate assertions for is kept as is
+echo %CMD_LINE_ARGS% | findstr /C:"--classpath" > NUL
+if ERRORLEVEL 1 set CMD_LINE_ARGS=--classpath ".;lib/*" %CMD_LINE_ARGS%
+
+:runLauncher
+%JAVA_EXE% %CDS_OPTS% -classpath "%GENERATOR_CLASSPATH%" org.assertj.assertions.generator.cli.AssertionGeneratorLauncher %CMD_LINE_ARGS%
 if ERRORLEVEL 1 goto error
 goto end
 
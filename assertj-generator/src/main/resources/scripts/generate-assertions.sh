@@ -99,6 +99,55 @@ if $cygwin; then
     HOME=`cygpath --path --windows "$HOME"`
 fi
 
-exec "$JAVACMD" -cp ".:lib/*" org.assertj.assertions.generator.cli.AssertionGeneratorLauncher $1
+# Delegate the generation to a running generator daemon (started with --daemon <socket file>) when
+# ASSERTJ_GENERATOR_DAEMON_SOCKET points to its socket, it is already warmed up.
+if [ -n "$ASSERTJ_GENERATOR_DAEMON_SOCKET" ] && [ -S "$ASSERTJ_GENERATOR_DAEMON_SOCKET" ] ; then
+  exec "$JAVACMD" -cp ".:lib/*" org.assertj.assertions.generator.cli.GeneratorDaemonClient "$ASSERTJ_GENERATOR_DAEMON_SOCKET" "$@"
+fi
+
+# AppCDS: the generator and its dependencies classes are loaded from a shared archive created by a training run the
+# first time, set ASSERTJ_GENERATOR_CDS=false to disable it.
+# The archive is tied to the JVM that created it, -Xshare:auto makes the JVM silently ignore it when it does not match.
+# CDS can't use an archive whose classpath starts with a non empty directory, so when the archive is used the JVM
+# classpath is lib/* (as in the training run) and the classes to generate assertions for are loaded from .:lib/*, in
+# this order, with --classpath.
+GENERATOR_CLASSPATH=".:lib/*"
+CDS_ARCHIVE="lib/assertj-generator.jsa"
+# left by a failed training run not to try again at each run, delete it to retry
+CDS_FAILURE_MARKER="$CDS_ARCHIVE.failed"
+CDS_OPTS=""
+if [ "$ASSERTJ_GENERATOR_CDS" != "false" ] ; then
+  if [ ! -f "$CDS_ARCHIVE" ] && [ ! -f "$CDS_FAILURE_MARKER" ] && [ -w lib ] ; then
+    # concurrent first runs each train their own archive, renamed atomically so that no run sees a partial one
+    CDS_TRAINING_ARCHIVE="$CDS_ARCHIVE.$$.tmp"
+    CDS_TRAINING_DIR="${TMPDIR:-/tmp}/assertj-generator-cds-$$"
+    if "$JAVACMD" -XX:ArchiveClassesAtExit="$CDS_TRAINING_ARCHIVE" -Xlog:cds=off -Xlog:cds+dynamic=off -cp "lib/*" \
+         org.assertj.assertions.generator.cli.AssertionGeneratorLauncher --output-dir "$CDS_TRAINING_DIR" \
+         org.assertj.assertions.generator.description.GetterDescription > /dev/null 2>&1 \
+       && [ -f "$CDS_TRAINING_ARCHIVE" ] ; then
+      mv -f "$CDS_TRAINING_ARCHIVE" "$CDS_ARCHIVE"
+    else
+      rm -f "$CDS_TRAINING_ARCHIVE"
+      touch "$CDS_FAILURE_MARKER"
+    fi
+    rm -rf "$CDS_TRAINING_DIR"
+  fi
+  if [ -f "$CDS_ARCHIVE" ] ; then
+    CDS_OPTS="-Xshare:auto -XX:SharedArchiveFile=$CDS_ARCHIVE -Xlog:cds=off -Xlog:cds+dynamic=off"
+    GENERATOR_CLASSPATH="lib/*"
+    # an explicit classpath of the classes to generate assertions for is kept as is
+    CLASSPATH_GIVEN=false
+    for arg in "$@" ; do
+      case "$arg" in
+        --classpath|--classpath=*) CLASSPATH_GIVEN=true ;;
+      esac
+    done
+    if [ "$CLASSPATH_GIVEN" = "false" ] ; then
+      set -- --classpath ".:lib/*" "$@"
+    fi
+  fi
+fi
+
+exec "$JAVACMD" $CDS_OPTS -cp "$GENERATOR_CLASSPATH" org.assertj.assertions.generator.cli.AssertionGeneratorLauncher "$@"
 # exec "$JAVACMD" -cp ".:lib/*" -jar assertion-generator.jar $1
 
@@ -17,12 +17,15 @@ import com.google.common.reflect.TypeToken;
 import org.assertj.assertions.generator.data.AnnotatedClass;
 import org.assertj.assertions.generator.data.AutoValue;
 import org.assertj.assertions.generator.data.AutoValueAnnotatedClass;
+import org.assertj.assertions.generator.data.BeanWithOneException;
 import org.assertj.assertions.generator.data.BlockBuster;
 import org.assertj.assertions.generator.data.BooleanPredicates;
+import org.assertj.assertions.generator.data.Crate;
 import org.assertj.assertions.generator.data.Dollar$;
 import org.assertj.assertions.generator.data.FieldPropertyClash;
 import org.assertj.assertions.generator.data.InterferencePrimitives;
 import org.assertj.assertions.generator.data.Keywords;
+import org.assertj.assertions.generator.data.MapPropertyClash;
 import org.assertj.assertions.generator.data.Movie;
 import org.assertj.assertions.generator.data.Name;
 import org.assertj.assertions.generator.data.ParameterClashWithVariables;
@@ -31,9 +34,14 @@ import org.assertj.assertions.generator.data.Team;
 import org.assertj.assertions.generator.data.WithPrivateFields;
 import org.assertj.assertions.generator.data.WithPrivateFieldsParent;
 import org.assertj.assertions.generator.data.art.ArtWork;
+import org.assertj.assertions.generator.data.fieldbyfield.BeanWithOneExceptionHolder;
+import org.assertj.assertions.generator.data.fieldbyfield.LazyValue;
+import org.assertj.assertions.generator.data.fieldbyfield.Node;
+import org.assertj.assertions.generator.data.lotr.FellowshipOfTheRing;
 import org.assertj.assertions.generator.data.nba.Player;
 import org.assertj.assertions.generator.data.nba.PlayerAgent;
 import org.assertj.assertions.generator.description.ClassDescription;
+import org.assertj.assertions.generator.description.CompactClassDescription;
 import org.assertj.assertions.generator.description.converter.AnnotationConfiguration;
 import org.assertj.assertions.generator.description.converter.ClassToClassDescriptionConverter;
 import org.junit.jupiter.api.BeforeEach;
@@ -46,9 +54,11 @@ import org.slf4j.LoggerFactory;
 
 import java.io.File;
 import java.io.IOException;
+import java.lang.reflect.Method;
 import java.nio.file.Path;
 import java.nio.file.Paths;
 import java.sql.SQLException;
+import java.util.ArrayList;
 import java.util.Collections;
 import java.util.HashSet;
 import java.util.List;
@@ -313,6 +323,230 @@ public class AssertionGeneratorTest implements BeanWithExceptionsTest, NestedCla
     verifyFlatAssertionGenerationFor(ParameterClashWithVariables.class);
   }
 
+  @Test
+  void should_generate_field_by_field_comparison_delegating_to_nested_generated_types() throws IOException {
+    // GIVEN
+    assertionGenerator.setGenerateFieldByFieldComparisonFor(setOfTypeTokens(Player.class, Name.class));
+    // WHEN
+    assertionGenerator.generateCustomAssertionFor(converter.convertToClassDescription(Player.class));
+    assertionGenerator.generateCustomAssertionFor(converter.convertToClassDescription(Name.class));
+    // THEN
+    generationHandler.compileGeneratedFilesFor(Player.class, Name.class);
+    assertThat(contentOf(generationHandler.fileGeneratedFor(Player.class)))
+        .contains("public PlayerAssert isEqualFieldByFieldTo(Player expected)")
+        .contains("org.assertj.assertions.generator.data.NameAssert.collectFieldByFieldDifferences(actual.name(), expected.name(), fieldByFieldPath(path, \"name\"), differences, visited);")
+        .contains("float actualSize = actual.getSize();")
+        .contains("if (Double.compare(actualSize, expectedSize) != 0) {")
+        .doesNotContain("FieldSupport");
+  }
+
+  @Test
+  void should_compare_cyclic_object_graphs_field_by_field() throws Exception {
+    // GIVEN
+    assertionGenerator.setGenerateFieldByFieldComparisonFor(setOfTypeTokens(Node.class));
+    File nodeAssert = assertionGenerator.generateCustomAssertionFor(converter.convertToClassDescription(Node.class));
+    ClassLoader classLoader = generationHandler.compileAndLoadGeneratedFiles(asList(nodeAssert));
+    Node actual = cycleOf(new Node("a"), new Node("b"));
+    Node expected = cycleOf(new Node("a"), new Node("c"));
+    // WHEN
+    List<String> differences = fieldByFieldDifferences(classLoader, Node.class, actual, expected);
+    // THEN
+    assertThat(differences).singleElement().asString()
+                           .contains("next.name")
+                           .contains("expected <\"c\"> but was <\"b\">");
+    Node equalCycle = cycleOf(new Node("a"), new Node("b"));
+    assertThat(fieldByFieldDifferences(classLoader, Node.class, actual, equalCycle)).isEmpty();
+  }
+
+  @Test
+  void should_read_each_compared_property_once() throws Exception {
+    // GIVEN
+    assertionGenerator.setGenerateFieldByFieldComparisonFor(setOfTypeTokens(LazyValue.class));
+    File lazyValueAssert = assertionGenerator.generateCustomAssertionFor(converter.convertToClassDescription(LazyValue.class));
+    ClassLoader classLoader = generationHandler.compileAndLoadGeneratedFiles(asList(lazyValueAssert));
+    LazyValue actual = new LazyValue("a");
+    LazyValue expected = new LazyValue("b");
+    // WHEN
+    List<String> differences = fieldByFieldDifferences(classLoader, LazyValue.class, actual, expected);
+    // THEN
+    assertThat(differences).singleElement().asString().contains("expected <\"b\"> but was <\"a\">");
+    assertThat(actual.valueReads()).isEqualTo(1);
+    assertThat(expected.valueReads()).isEqualTo(1);
+  }
+
+  @Test
+  void should_declare_the_exceptions_of_the_nested_field_by_field_comparators() throws Exception {
+    // GIVEN
+    CompactClassDescription holder = CompactClassDescription.of(converter.convertToClassDescription(BeanWithOneExceptionHolder.class));
+    CompactClassDescription bean = CompactClassDescription.of(converter.convertToClassDescription(BeanWithOneException.class));
+    assertionGenerator.setGenerateFieldByFieldComparisonForDescriptions(asList(holder, bean));
+    File holderAssert = assertionGenerator.generateCustomAssertionFor(holder);
+    File beanAssert = assertionGenerator.generateCustomAssertionFor(bean);
+    // WHEN
+    ClassLoader classLoader = generationHandler.compileAndLoadGeneratedFiles(asList(holderAssert, beanAssert));
+    // THEN
+    assertThat(comparatorOf(classLoader, BeanWithOneExceptionHolder.class).getExceptionTypes())
+        .containsExactly(IOException.class);
+    BeanWithOneExceptionHolder actual = new BeanWithOneExceptionHolder(new BeanWithOneException());
+    BeanWithOneExceptionHolder expected = new BeanWithOneExceptionHolder(new BeanWithOneException());
+    assertThat(fieldByFieldDifferences(classLoader, BeanWithOneExceptionHolder.class, actual, expected)).isEmpty();
+  }
+
+  @Test
+  void should_declare_the_exceptions_of_the_nested_field_by_field_comparators_of_the_given_types() throws Exception {
+    // GIVEN
+    assertionGenerator.setGenerateFieldByFieldComparisonFor(setOfTypeTokens(BeanWithOneExceptionHolder.class,
+                                                                            BeanWithOneException.class));
+    // WHEN
+    File holderAssert = assertionGenerator.generateCustomAssertionFor(converter.convertToClassDescription(BeanWithOneExceptionHolder.class));
+    File beanAssert = assertionGenerator.generateCustomAssertionFor(converter.convertToClassDescription(BeanWithOneException.class));
+    // THEN
+    ClassLoader classLoader = generationHandler.compileAndLoadGeneratedFiles(asList(holderAssert, beanAssert));
+    assertThat(comparatorOf(classLoader, BeanWithOneExceptionHolder.class).getExceptionTypes())
+        .containsExactly(IOException.class);
+  }
+
+  private static Node cycleOf(Node first, Node second) {
+    first.setNext(second);
+    second.setNext(first);
+    return first;
+  }
+
+  private static <T> List<String> fieldByFieldDifferences(ClassLoader classLoader, Class<T> type, T actual,
+                                                          T expected) throws Exception {
+    List<String> differences = new ArrayList<>();
+    comparatorOf(classLoader, type).invoke(null, actual, expected, "", differences);
+    return differences;
+  }
+
+  private static Method comparatorOf(ClassLoader classLoader, Class<?> type) throws Exception {
+    Class<?> assertClass = classLoader.loadClass(type.getName() + "Assert");
+    return assertClass.getMethod("collectFieldByFieldDifferences", type, type, String.class, List.class);
+  }
+
+  @Test
+  void should_not_generate_field_by_field_comparison_by_default() throws IOException {
+    assertionGenerator.generateCustomAssertionFor(converter.convertToClassDescription(Name.class));
+    assertThat(contentOf(generationHandler.fileGeneratedFor(Name.class))).doesNotContain("isEqualFieldByFieldTo");
+  }
+
+  @Test
+  void should_generate_keyed_lookup_assertions_for_map_property() throws IOException {
+    // WHEN
+    assertionGenerator.generateCustomAssertionFor(converter.convertToClassDescription(FellowshipOfTheRing.class));
+    assertionGenerator.generateCustomAssertionFor(converter.convertToClassDescription(MapPropertyClash.class));
+    // THEN
+    generationHandler.compileGeneratedFilesFor(FellowshipOfTheRing.class, MapPropertyClash.class);
+    assertThat(contentOf(generationHandler.fileGeneratedFor(FellowshipOfTheRing.class)))
+        .contains("public FellowshipOfTheRingAssert hasFellowsByRace(java.util.Map fellowsByRace)")
+        .contains("public FellowshipOfTheRingAssert hasFellowsByRaceEntry(Race key, java.util.List value)")
+        .contains("public FellowshipOfTheRingAssert hasFellowsByRaceKey(Race key)")
+        .contains("public FellowshipOfTheRingAssert doesNotHaveFellowsByRaceKey(Race key)")
+        .contains("Object lookedUpValue = actualFellowsByRace.get(key);");
+    assertThat(contentOf(generationHandler.fileGeneratedFor(MapPropertyClash.class)))
+        .contains("public MapPropertyClashAssert hasValue(java.util.Map value)")
+        .contains("Object lookedUpValue = actualValue.get(key);")
+        .contains("Object lookedUpValue = actualMappedValue.get(key);");
+  }
+
+  @Test
+  void should_generate_single_pass_list_assertions() throws IOException {
+    // WHEN
+    File playerListAssert = assertionGenerator.generateListAssertionFor(converter.convertToClassDescription(Player.class));
+    File movieListAssert = assertionGenerator.generateListAssertionFor(converter.convertToClassDescription(Movie.class));
+    File crateListAssert = assertionGenerator.generateListAssertionFor(converter.convertToClassDescription(Crate.class));
+    File predicatesListAssert = assertionGenerator.generateListAssertionFor(converter.convertToClassDescription(BooleanPredicates.class));
+    // THEN
+    generationHandler.compileGeneratedFiles(asList(playerListAssert, movieListAssert, crateListAssert,
+                                                   predicatesListAssert));
+    assertThat(playerListAssert).hasName("PlayerListAssert.java");
+    assertThat(contentOf(playerListAssert))
+        .contains("public class PlayerListAssert extends AbstractObjectAssert<PlayerListAssert, Iterable<? extends Player>>")
+        .contains("public PlayerListAssert allHaveTeam(String team)")
+        .contains("public PlayerListAssert anyHaveTeam(String team)")
+        .contains("public PlayerListAssert noneHaveTeam(String team)")
+        .contains("public PlayerListAssert haveTeamCount(String team, int expectedCount)")
+        .contains("if (element != null && element.getPointsPerGame() == pointsPerGame) count++;")
+        .contains("public PlayerListAssert allAreRookie()")
+        .contains("public PlayerListAssert anyIsRookie()")
+        .contains("public PlayerListAssert haveRookieCount(int expectedCount)")
+        .contains("public PlayerListAssert allWereRookie()")
+        .contains("public PlayerListAssert noneWasRookie()")
+        .contains("public PlayerListAssert haveBeenRookieCount(int expectedCount)")
+        .doesNotContain("new PlayerAssert");
+    assertThat(contentOf(movieListAssert)).contains("public MovieListAssert allHaveTitle(String title)")
+                                          .contains("Objects.deepEquals(element.producer, producer)")
+                                          .contains("Double.compare(element.rating, rating) == 0")
+                                          .contains("Boolean.TRUE.equals(element.xrated)");
+    // the elements type variables are erased
+    assertThat(contentOf(crateListAssert)).contains("public CrateListAssert allHaveContent(Object content)")
+                                          .contains("public CrateListAssert allHaveStack(Object stack)")
+                                          .contains("public CrateListAssert haveEmptyCount(int expectedCount)")
+                                          .contains("public CrateListAssert allDoNotHaveLid()")
+                                          .contains("public CrateListAssert haveNoLidCount(int expectedCount)");
+    // hasGood and isGood don't count with the same method
+    assertThat(contentOf(predicatesListAssert)).contains("public BooleanPredicatesListAssert haveGoodCount(int expectedCount)")
+                                               .contains("public BooleanPredicatesListAssert haveIsGoodCount(int expectedCount)");
+  }
+
+  @Test
+  void should_generate_snapshot_reading_each_property_once() throws IOException {
+    // GIVEN
+    assertionGenerator.setGenerateSnapshots(true);
+    // WHEN
+    assertionGenerator.generateCustomAssertionFor(converter.convertToClassDescription(Player.class));
+    // THEN
+    generationHandler.compileGeneratedFilesFor(Player.class);
+    assertThat(contentOf(generationHandler.fileGeneratedFor(Player.class)))
+        .contains("public Snapshot snapshot() {")
+        .contains("public final class Snapshot {")
+        .contains("private final boolean isRookie;")
+        .contains("private final boolean wasRookie;")
+        .contains("public String getTeam() {")
+        .contains("actual.getTeam(), actual.getTeamMates(), ")
+        .contains("actual.previousTeams);")
+        .contains("Objects.deepEquals(this.getPreviousTeamNames, that.getPreviousTeamNames)");
+  }
+
+  @Test
+  void should_generate_snapshot_in_concrete_hierarchical_assertion_class_only() throws IOException {
+    // GIVEN
+    assertionGenerator.setGenerateSnapshots(true);
+    // WHEN
+    File[] assertionFiles = assertionGenerator.generateHierarchicalCustomAssertionFor(converter.convertToClassDescription(Player.class),
+                                                                                      EMPTY_HIERARCHY);
+    // THEN
+    generationHandler.compileGeneratedFiles(asList(assertionFiles));
+    assertThat(contentOf(assertionFiles[0])).doesNotContain("snapshot()");
+    assertThat(contentOf(assertionFiles[1])).contains("public Snapshot snapshot() {");
+  }
+
+  @Test
+  void should_not_generate_snapshot_by_default() throws IOException {
+    assertionGenerator.generateCustomAssertionFor(converter.convertToClassDescription(Name.class));
+    assertThat(contentOf(generationHandler.fileGeneratedFor(Name.class))).doesNotContain("snapshot()");
+  }
+
+  @Test
+  @SuppressWarnings("deprecation")
+  void should_generate_the_same_assertions_with_the_deprecated_hooks() {
+    // GIVEN
+    ClassDescription classDescription = converter.convertToClassDescription(Player.class);
+    CompactClassDescription compactClassDescription = CompactClassDescription.of(classDescription);
+    StringBuilder deprecatedHooksContent = new StringBuilder();
+    StringBuilder compactHooksContent = new StringBuilder();
+    // WHEN
+    assertionGenerator.generateAssertionsForGetters(deprecatedHooksContent, classDescription.getGettersDescriptions(),
+                                                    classDescription);
+    assertionGenerator.generateAssertionsForFields(deprecatedHooksContent, classDescription.getFieldsDescriptions(),
+                                                   classDescription);
+    assertionGenerator.generateAssertionsForGettersOf(compactHooksContent, compactClassDescription);
+    assertionGenerator.generateAssertionsForFieldsOf(compactHooksContent, compactClassDescription);
+    // THEN
+    assertThat(deprecatedHooksContent.toString()).contains("hasPreviousTeams(")
+                                                 .isEqualTo(compactHooksContent.toString());
+  }
+
   @Test
   void should_evaluate_package_as_valid() {
     String[] validPackages = { "a", "a.b.c", "my.assertions" };
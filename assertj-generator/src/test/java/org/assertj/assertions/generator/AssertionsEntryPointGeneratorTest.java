@@ -32,7 +32,10 @@ import org.junit.jupiter.api.io.TempDir;
 import java.io.File;
 import java.io.IOException;
 import java.nio.file.Path;
+import java.util.EnumSet;
 import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
 import java.util.Set;
 
 import static com.google.common.collect.Sets.newLinkedHashSet;
@@ -237,6 +240,74 @@ class AssertionsEntryPointGeneratorTest {
                                         .hasName("MyAssertions.java");
   }
 
+  @Test
+  void should_generate_list_assertions_entry_points_when_enabled() throws Exception {
+    // GIVEN
+    Set<ClassDescription> classDescriptionSet = getClassDescriptionsOf(Player.class, Movie.PublicCategory.class);
+    generator.setGenerateListAssertions(true);
+    // WHEN
+    String standardContent = generator.generateAssertionsEntryPointClassContentFor(classDescriptionSet, STANDARD, null);
+    String bddContent = generator.generateAssertionsEntryPointClassContentFor(classDescriptionSet, BDD, null);
+    String softContent = generator.generateAssertionsEntryPointClassContentFor(classDescriptionSet, SOFT, null);
+    // THEN
+    assertThat(standardContent).contains("public static org.assertj.assertions.generator.data.nba.PlayerListAssert assertThatPlayerList(Iterable<? extends org.assertj.assertions.generator.data.nba.Player> actual) {")
+                               .contains("public static org.assertj.assertions.generator.data.MoviePublicCategoryListAssert assertThatMoviePublicCategoryList(Iterable<? extends org.assertj.assertions.generator.data.Movie.PublicCategory> actual) {");
+    assertThat(bddContent).contains("public static org.assertj.assertions.generator.data.nba.PlayerListAssert thenPlayerList(Iterable<? extends org.assertj.assertions.generator.data.nba.Player> actual) {");
+    assertThat(softContent).contains("return proxy(org.assertj.assertions.generator.data.nba.PlayerListAssert.class, Iterable.class, actual);");
+  }
+
+  @Test
+  void should_not_generate_list_assertions_entry_points_by_default() throws Exception {
+    // GIVEN
+    Set<ClassDescription> classDescriptionSet = getClassDescriptionsOf(Player.class);
+    // WHEN
+    String content = generator.generateAssertionsEntryPointClassContentFor(classDescriptionSet, STANDARD, null);
+    // THEN
+    assertThat(content).doesNotContain("ListAssert");
+  }
+
+  @Test
+  void should_generate_assertions_registry_class_file() throws Exception {
+    // GIVEN
+    Set<ClassDescription> classDescriptionSet = getClassDescriptionsOf(Player.class, Movie.PublicCategory.class);
+    // WHEN
+    File assertionsRegistryFile = generator.generateAssertionsRegistryClassFor(classDescriptionSet, null);
+    // THEN
+    assertThat(assertionsRegistryFile).hasName("AssertionsRegistry.java")
+                                      .hasParent(tempDir.resolve("org/assertj/assertions/generator/data").toFile());
+    assertThat(contentOf(assertionsRegistryFile))
+        .contains("package org.assertj.assertions.generator.data;")
+        .contains("ClassValue<java.util.Optional<Registration>> CLOSEST_REGISTRATIONS")
+        .contains("    register(org.assertj.assertions.generator.data.nba.Player.class, org.assertj.assertions.generator.data.nba.PlayerAssert.class, actual -> new org.assertj.assertions.generator.data.nba.PlayerAssert((org.assertj.assertions.generator.data.nba.Player) actual));")
+        .contains("    register(org.assertj.assertions.generator.data.Movie.PublicCategory.class, org.assertj.assertions.generator.data.MoviePublicCategoryAssert.class, actual -> new org.assertj.assertions.generator.data.MoviePublicCategoryAssert((org.assertj.assertions.generator.data.Movie.PublicCategory) actual));")
+        .doesNotContain("${");
+  }
+
+  @Test
+  void should_generate_assert_that_any_entry_points_when_enabled() throws Exception {
+    // GIVEN
+    Set<ClassDescription> classDescriptionSet = getClassDescriptionsOf(Player.class);
+    generator.setGenerateAssertThatAny(true);
+    // WHEN
+    String standardContent = generator.generateAssertionsEntryPointClassContentFor(classDescriptionSet, STANDARD, "my.assertions");
+    String bddContent = generator.generateAssertionsEntryPointClassContentFor(classDescriptionSet, BDD, "my.assertions");
+    String softContent = generator.generateAssertionsEntryPointClassContentFor(classDescriptionSet, SOFT, "my.assertions");
+    // THEN
+    assertThat(standardContent).contains("public static org.assertj.core.api.AbstractObjectAssert<?, ?> assertThatAny(Object actual) {")
+                               .contains("return my.assertions.AssertionsRegistry.createAssert(actual);");
+    assertThat(bddContent).contains("public static org.assertj.core.api.AbstractObjectAssert<?, ?> thenAny(Object actual) {");
+    assertThat(softContent).contains("my.assertions.AssertionsRegistry.Registration registration = my.assertions.AssertionsRegistry.registrationOf(actual);");
+  }
+
+  @Test
+  void should_not_generate_assert_that_any_entry_points_by_default() throws Exception {
+    // WHEN
+    String content = generator.generateAssertionsEntryPointClassContentFor(getClassDescriptionsOf(Player.class),
+                                                                           STANDARD, null);
+    // THEN
+    assertThat(content).doesNotContain("assertThatAny");
+  }
+
   @Test
   void should_return_null_assertion_entry_point_file_if_no_classes_description_are_given() throws Exception {
     // GIVEN no ClassDescription
@@ -302,6 +373,114 @@ class AssertionsEntryPointGeneratorTest {
     assertThat(assertionsEntryPointContent).doesNotContain("PackagePrivate");
   }
 
+  @Test
+  void should_split_standard_assertions_entry_points_in_delegate_classes_per_package() throws Exception {
+    // GIVEN
+    Set<ClassDescription> classDescriptionSet = getClassDescriptionsOf(Ring.class, Race.class, Player.class, Team.class);
+    generator.setSplitEntryPointsByPackage(true);
+    // WHEN
+    List<File> entryPointFiles = generator.generateAssertionsEntryPointClassesFor(classDescriptionSet, STANDARD, "org");
+    // THEN
+    assertThat(entryPointFiles).extracting(File::getName)
+                               .containsExactly("Assertions_org_assertj_assertions_generator_data_lotr.java",
+                                                "Assertions_org_assertj_assertions_generator_data_nba.java",
+                                                "Assertions_org_assertj_assertions_generator_data_nba_team.java",
+                                                "Assertions.java");
+    assertThat(entryPointFiles.get(0)).content()
+                                      .contains("public class Assertions_org_assertj_assertions_generator_data_lotr {")
+                                      .contains("assertThat(org.assertj.assertions.generator.data.lotr.Ring actual)")
+                                      .doesNotContain("nba");
+    assertThat(entryPointFiles.get(1)).content()
+                                      .contains("public class Assertions_org_assertj_assertions_generator_data_nba {")
+                                      .contains("protected Assertions_org_assertj_assertions_generator_data_nba() {")
+                                      .contains("assertThat(org.assertj.assertions.generator.data.nba.Player actual)");
+    assertThat(entryPointFiles.get(3)).content()
+                                      .contains("public class Assertions {")
+                                      .contains("public static org.assertj.assertions.generator.data.nba.PlayerAssert assertThat(org.assertj.assertions.generator.data.nba.Player actual) {"
+                                                + System.lineSeparator()
+                                                + "    return Assertions_org_assertj_assertions_generator_data_nba.assertThat(actual);")
+                                      .contains("return Assertions_org_assertj_assertions_generator_data_lotr.assertThat(actual);")
+                                      .doesNotContain("new org.assertj.assertions.generator.data.nba.PlayerAssert(actual)");
+  }
+
+  @Test
+  void should_not_change_the_other_delegate_classes_when_a_package_is_added() throws Exception {
+    // GIVEN
+    generator.setSplitEntryPointsByPackage(true);
+    List<File> entryPointFiles = generator.generateAssertionsEntryPointClassesFor(getClassDescriptionsOf(Ring.class,
+                                                                                                         Team.class),
+                                                                                  STANDARD, "org");
+    String teamDelegateContent = contentOf(entryPointFiles.get(1));
+    // WHEN
+    entryPointFiles = generator.generateAssertionsEntryPointClassesFor(getClassDescriptionsOf(Ring.class, Player.class,
+                                                                                              Team.class),
+                                                                       STANDARD, "org");
+    // THEN
+    assertThat(entryPointFiles).extracting(File::getName)
+                               .containsExactly("Assertions_org_assertj_assertions_generator_data_lotr.java",
+                                                "Assertions_org_assertj_assertions_generator_data_nba.java",
+                                                "Assertions_org_assertj_assertions_generator_data_nba_team.java",
+                                                "Assertions.java");
+    assertThat(entryPointFiles.get(2)).hasContent(teamDelegateContent);
+  }
+
+  @Test
+  void should_split_soft_assertions_entry_points_in_delegate_classes_of_given_size() throws Exception {
+    // GIVEN
+    Set<ClassDescription> classDescriptionSet = getClassDescriptionsOf(Ring.class, Race.class, Player.class);
+    generator.setMaxEntryPointClassesPerDelegate(2);
+    // WHEN
+    List<File> entryPointFiles = generator.generateAssertionsEntryPointClassesFor(classDescriptionSet,
+                                                                                  AUTO_CLOSEABLE_SOFT, "org");
+    // THEN
+    assertThat(entryPointFiles).extracting(File::getName)
+                               .containsExactly("AutoCloseableSoftAssertions_1.java", "AutoCloseableSoftAssertions_2.java",
+                                                "AutoCloseableSoftAssertions.java");
+    assertThat(entryPointFiles.get(0)).content()
+                                      .contains("public class AutoCloseableSoftAssertions_1 extends org.assertj.core.api.SoftAssertions implements AutoCloseable {")
+                                      .contains("org.assertj.assertions.generator.data.lotr.Race actual")
+                                      .contains("org.assertj.assertions.generator.data.lotr.Ring actual");
+    assertThat(entryPointFiles.get(1)).content()
+                                      .contains("public class AutoCloseableSoftAssertions_2 extends org.assertj.core.api.SoftAssertions implements AutoCloseable {")
+                                      .contains("org.assertj.assertions.generator.data.nba.Player actual");
+    assertThat(entryPointFiles.get(2)).content()
+                                      .contains("public class AutoCloseableSoftAssertions extends org.assertj.core.api.SoftAssertions implements AutoCloseable {")
+                                      .contains("private final AutoCloseableSoftAssertions_1 autoCloseableSoftAssertions_1 = new AutoCloseableSoftAssertions_1();")
+                                      .contains("autoCloseableSoftAssertions_2.setDelegate(this);")
+                                      .contains("return autoCloseableSoftAssertions_2.assertThat(actual);");
+  }
+
+  @Test
+  void should_not_split_assertions_entry_points_by_default() throws Exception {
+    // GIVEN
+    Set<ClassDescription> classDescriptionSet = getClassDescriptionsOf(Ring.class, Player.class);
+    // WHEN
+    List<File> entryPointFiles = generator.generateAssertionsEntryPointClassesFor(classDescriptionSet, STANDARD, "org");
+    // THEN
+    assertThat(entryPointFiles).extracting(File::getName).containsExactly("Assertions.java");
+  }
+
+  @Test
+  void should_generate_all_assertions_entry_point_types_in_one_pass() throws Exception {
+    // GIVEN
+    Set<ClassDescription> classDescriptionSet = getClassDescriptionsOf(Ring.class, Race.class, Player.class,
+                                                                       Movie.PublicCategory.class);
+    Set<AssertionsEntryPointType> entryPointTypes = EnumSet.allOf(AssertionsEntryPointType.class);
+    // WHEN
+    Map<AssertionsEntryPointType, List<File>> entryPointFiles = generator.generateAssertionsEntryPointClassesFor(classDescriptionSet,
+                                                                                                                entryPointTypes,
+                                                                                                                "org");
+    // THEN
+    assertThat(entryPointFiles).containsOnlyKeys(entryPointTypes);
+    for (AssertionsEntryPointType entryPointType : entryPointTypes) {
+      assertThat(entryPointFiles.get(entryPointType)).hasSize(1);
+      assertThat(entryPointFiles.get(entryPointType).get(0)).hasName(entryPointType.getFileName())
+                                                            .hasContent(generator.generateAssertionsEntryPointClassContentFor(classDescriptionSet,
+                                                                                                                              entryPointType,
+                                                                                                                              "org"));
+    }
+  }
+
   private Set<ClassDescription> getClassDescriptionsOf(Class<?>... classes) {
     Set<ClassDescription> classDescriptionSet = new LinkedHashSet<>(classes.length);
     ClassToClassDescriptionConverter converter = new ClassToClassDescriptionConverter();
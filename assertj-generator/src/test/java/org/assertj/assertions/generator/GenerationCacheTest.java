@@ -0,0 +1,149 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * Copyright 2012-2025 the original author or authors.
+ */
+package org.assertj.assertions.generator;
+
+import static java.util.Arrays.asList;
+import static java.util.Collections.singleton;
+import static java.util.Collections.singletonList;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.contentOf;
+
+import java.io.File;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.FileTime;
+import java.util.List;
+import java.util.Set;
+
+import org.assertj.assertions.generator.data.Name;
+import org.assertj.assertions.generator.data.nba.Player;
+import org.assertj.assertions.generator.description.converter.AnnotationConfiguration;
+import org.assertj.assertions.generator.description.converter.ClassToClassDescriptionConverter;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import com.google.common.reflect.TypeToken;
+
+class GenerationCacheTest {
+
+  private static final String KEY = "0123456789abcdef";
+
+  @TempDir
+  Path tempDir;
+
+  @Test
+  void should_restore_cached_files_in_their_generation_order() throws Exception {
+    // GIVEN
+    GenerationCache cache = new GenerationCache(tempDir.resolve("cache"), 1024 * 1024);
+    File concreteAssert = write("generated/PlayerAssert.java", "concrete");
+    File abstractAssert = write("generated/AbstractPlayerAssert.java", "abstract");
+    cache.store(KEY, asList(concreteAssert, abstractAssert));
+    // WHEN
+    List<File> restoredFiles = cache.restore(KEY, tempDir.resolve("restored").toFile());
+    // THEN
+    assertThat(restoredFiles).extracting(File::getName).containsExactly("PlayerAssert.java", "AbstractPlayerAssert.java");
+    assertThat(contentOf(restoredFiles.get(1))).isEqualTo("abstract");
+    assertThat(cache.restore("fedcba9876543210", tempDir.resolve("restored").toFile())).isNull();
+    assertThat(cache.getHits()).isEqualTo(1);
+    assertThat(cache.getMisses()).isEqualTo(1);
+  }
+
+  @Test
+  void should_evict_least_recently_used_entries_when_cache_is_too_big() throws Exception {
+    // GIVEN
+    GenerationCache cache = new GenerationCache(tempDir.resolve("cache"), 20);
+    cache.store("aa" + KEY, singletonList(write("generated/A.java", "123456")));
+    Files.setLastModifiedTime(tempDir.resolve("cache/aa/aa" + KEY), FileTime.fromMillis(0));
+    cache.store("bb" + KEY, singletonList(write("generated/B.java", "123456")));
+    // WHEN
+    cache.evictLeastRecentlyUsedEntries();
+    // THEN
+    assertThat(cache.restore("aa" + KEY, tempDir.toFile())).isNull();
+    assertThat(cache.restore("bb" + KEY, tempDir.toFile())).hasSize(1);
+    assertThat(cache.getEvictions()).isEqualTo(1);
+  }
+
+  @Test
+  void should_delete_stale_temporary_directories_when_evicting() throws Exception {
+    // GIVEN
+    GenerationCache cache = new GenerationCache(tempDir.resolve("cache"), 1024 * 1024);
+    Path staleDirectory = Files.createDirectories(tempDir.resolve("cache/aa/.tmp-stale"));
+    Files.write(staleDirectory.resolve("A.java"), "123456".getBytes());
+    Files.setLastModifiedTime(staleDirectory, FileTime.fromMillis(0));
+    Path recentDirectory = Files.createDirectories(tempDir.resolve("cache/aa/.tmp-recent"));
+    // WHEN
+    cache.evictLeastRecentlyUsedEntries();
+    // THEN
+    assertThat(staleDirectory).doesNotExist();
+    assertThat(recentDirectory).exists();
+    assertThat(cache.getEvictions()).isZero();
+  }
+
+  @Test
+  void should_restore_cached_assertions_files_instead_of_generating_them_again() throws Exception {
+    // GIVEN
+    GenerationCache cache = new GenerationCache(tempDir.resolve("cache"), 1024 * 1024);
+    BaseAssertionGenerator generator = new BaseAssertionGenerator();
+    generator.setGenerationCache(cache);
+    generator.setGenerateListAssertions(true);
+    generator.setDirectoryWhereAssertionFilesAreGenerated(tempDir.resolve("generated").toFile());
+    TypeToken<Player> player = TypeToken.of(Player.class);
+    File[] generatedFiles;
+    try (GenerationSession session = new GenerationSession(getClass().getClassLoader())) {
+      generatedFiles = generator.generateCustomAssertionsFor(player, singleton(player), true, session);
+    }
+    String abstractAssertContent = contentOf(generatedFiles[0]);
+    generator.setDirectoryWhereAssertionFilesAreGenerated(tempDir.resolve("restored").toFile());
+    // WHEN
+    File[] restoredFiles;
+    try (GenerationSession session = new GenerationSession(getClass().getClassLoader())) {
+      restoredFiles = generator.generateCustomAssertionsFor(player, singleton(player), true, session);
+      // THEN
+      assertThat(session.getDescribedClassCount()).isZero();
+    }
+    assertThat(restoredFiles).extracting(File::getName)
+                             .containsExactly("AbstractPlayerAssert.java", "PlayerAssert.java", "PlayerListAssert.java");
+    assertThat(restoredFiles[0]).isNotEqualTo(generatedFiles[0]);
+    assertThat(contentOf(restoredFiles[0])).isEqualTo(abstractAssertContent);
+    assertThat(cache.getHits()).isEqualTo(1);
+    assertThat(cache.getMisses()).isEqualTo(1);
+  }
+
+  @Test
+  void should_compute_cache_key_from_class_structure_and_generator_options() throws Exception {
+    // GIVEN
+    BaseAssertionGenerator generator = new BaseAssertionGenerator();
+    TypeToken<Player> player = TypeToken.of(Player.class);
+    Set<TypeToken<?>> allClasses = singleton(player);
+    String playerKey = generator.cacheKeyFor(player, allClasses, false);
+    // WHEN
+    generator.setGenerateAssertionsForAllFields(true);
+    // THEN
+    assertThat(new BaseAssertionGenerator().cacheKeyFor(player, allClasses, false)).isEqualTo(playerKey);
+    assertThat(new BaseAssertionGenerator().cacheKeyFor(TypeToken.of(Name.class), allClasses, false)).isNotEqualTo(playerKey);
+    assertThat(new BaseAssertionGenerator().cacheKeyFor(player, allClasses, true)).isNotEqualTo(playerKey);
+    assertThat(generator.cacheKeyFor(player, allClasses, false)).isNotEqualTo(playerKey);
+    assertThat(new BaseAssertionGenerator() {}.cacheKeyFor(player, allClasses, false)).isNotEqualTo(playerKey);
+    AnnotationConfiguration annotationConfiguration = new AnnotationConfiguration(GenerateAssertion.class,
+                                                                                  Deprecated.class);
+    assertThat(new BaseAssertionGenerator().cacheKeyFor(player, allClasses, false,
+                                                        new ClassToClassDescriptionConverter(annotationConfiguration)))
+        .isNotEqualTo(playerKey);
+  }
+
+  private File write(String path, String content) throws Exception {
+    Path file = tempDir.resolve(path);
+    Files.createDirectories(file.getParent());
+    return Files.write(file, content.getBytes()).toFile();
+  }
+}
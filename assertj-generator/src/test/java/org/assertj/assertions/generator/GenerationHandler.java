@@ -19,9 +19,13 @@ import com.google.testing.compile.JavaFileObjects;
 import org.assertj.assertions.generator.description.converter.ClassToClassDescriptionConverter;
 
 import javax.tools.JavaFileObject;
+import javax.tools.ToolProvider;
 import java.io.File;
+import java.io.IOException;
 import java.net.MalformedURLException;
 import java.net.URL;
+import java.net.URLClassLoader;
+import java.nio.file.Files;
 import java.nio.file.Path;
 import java.util.ArrayList;
 import java.util.List;
@@ -82,6 +86,27 @@ public class GenerationHandler {
     }
   }
 
+  /**
+   * Compiles the given files and loads the compiled classes, to run the generated code.
+   *
+   * @return a class loader of the compiled classes whose parent loads the test classes.
+   */
+  ClassLoader compileAndLoadGeneratedFiles(Iterable<? extends File> files) throws IOException {
+    compileGeneratedFiles(files);
+    Path classesDirectory = Files.createDirectories(root.resolve("classes"));
+    List<String> arguments = new ArrayList<>();
+    arguments.add("-d");
+    arguments.add(classesDirectory.toString());
+    arguments.addAll(compiler.options());
+    for (File file : files) {
+      arguments.add(file.getPath());
+    }
+    if (ToolProvider.getSystemJavaCompiler().run(null, null, null, arguments.toArray(new String[0])) != 0) {
+      throw new AssertionError("Error with compilation of " + files);
+    }
+    return new URLClassLoader(new URL[] { classesDirectory.toUri().toURL() }, getClass().getClassLoader());
+  }
+
   private List<JavaFileObject> toJavaFileObjects(Iterable<? extends File> files) {
     List<JavaFileObject> javaFileObjects = new ArrayList<>();
     for (File file : files) {
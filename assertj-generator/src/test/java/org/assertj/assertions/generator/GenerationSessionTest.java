@@ -0,0 +1,88 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * Copyright 2012-2025 the original author or authors.
+ */
+package org.assertj.assertions.generator;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatIllegalStateException;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStream;
+import java.lang.ref.WeakReference;
+import java.net.URL;
+import java.net.URLClassLoader;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+import org.assertj.assertions.generator.data.lotr.Race;
+import org.assertj.assertions.generator.description.CompactClassDescription;
+import org.assertj.assertions.generator.description.converter.ClassToClassDescriptionConverter;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import com.google.common.reflect.TypeToken;
+
+class GenerationSessionTest {
+
+  private static final String RACE_CLASS_FILE = Race.class.getName().replace('.', '/') + ".class";
+
+  @TempDir
+  private Path tempDir;
+
+  @Test
+  void should_describe_classes_once_per_session() throws Exception {
+    // GIVEN
+    try (GenerationSession session = new GenerationSession(getClass().getClassLoader())) {
+      // WHEN
+      CompactClassDescription raceDescription = session.describe(TypeToken.of(Race.class));
+      // THEN
+      assertThat(session.describe(TypeToken.of(Race.class))).isSameAs(raceDescription);
+      assertThat(session.getDescribedClassCount()).isEqualTo(1);
+      session.close();
+      assertThat(session.getDescribedClassCount()).isZero();
+      assertThatIllegalStateException().isThrownBy(session::getClassLoader);
+      assertThatIllegalStateException().isThrownBy(() -> session.describe(TypeToken.of(Race.class)));
+    }
+  }
+
+  @Test
+  void should_not_retain_the_class_loader_after_the_session() throws Exception {
+    // GIVEN
+    WeakReference<ClassLoader> classLoader = generateAssertionsInSession();
+    // WHEN
+    for (int i = 0; i < 50 && classLoader.get() != null; i++) {
+      System.gc();
+      Thread.sleep(20);
+    }
+    // THEN
+    assertThat(classLoader.get()).isNull();
+  }
+
+  private WeakReference<ClassLoader> generateAssertionsInSession() throws IOException, ClassNotFoundException {
+    Path classFile = tempDir.resolve("classes").resolve(RACE_CLASS_FILE);
+    Files.createDirectories(classFile.getParent());
+    try (InputStream raceClass = Race.class.getResourceAsStream("Race.class")) {
+      Files.write(classFile, raceClass.readAllBytes());
+    }
+    URLClassLoader classLoader = new URLClassLoader(new URL[] { tempDir.resolve("classes").toUri().toURL() }, null);
+    try (GenerationSession session = new GenerationSession(classLoader, new ClassToClassDescriptionConverter(), true)) {
+      Class<?> race = session.getClassLoader().loadClass(Race.class.getName());
+      assertThat(race).isNotSameAs(Race.class);
+      BaseAssertionGenerator generator = new BaseAssertionGenerator();
+      generator.setDirectoryWhereAssertionFilesAreGenerated(tempDir.resolve("generated").toFile());
+      File assertionFile = generator.generateCustomAssertionFor(session.describe(TypeToken.of(race)));
+      assertThat(assertionFile).exists();
+    }
+    return new WeakReference<>(classLoader);
+  }
+}
@@ -0,0 +1,205 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * Copyright 2012-2025 the original author or authors.
+ */
+package org.assertj.assertions.generator.cli;
+
+import org.apache.commons.cli.CommandLine;
+import org.apache.commons.cli.ParseException;
+import org.apache.commons.lang3.ArrayUtils;
+import org.assertj.assertions.generator.BaseAssertionGenerator;
+import org.assertj.assertions.generator.data.Name;
+import org.assertj.assertions.generator.data.Team;
+import org.assertj.assertions.generator.data.nba.Player;
+import org.assertj.assertions.generator.data.nba.team.Coach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.File;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+
+import static java.util.Arrays.asList;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatExceptionOfType;
+import static org.assertj.core.api.Assertions.contentOf;
+
+class GenerationCommandTest {
+
+  @TempDir
+  Path tempDir;
+
+  @Test
+  void should_generate_assertions_and_entry_points_with_several_threads_from_argument_file() throws Exception {
+    // GIVEN
+    Files.write(tempDir.resolve("classes.txt"), asList("# classes to generate assertions for",
+                                                       Player.class.getName() + " " + Name.class.getName()));
+    CommandLine line = GenerationCommand.parse(GenerationCommand.options(),
+                                               new String[] { "--output-dir", "generated", "--package", "my.assertions",
+                                                   "--entry-points", "standard,bdd", "--threads", "2", "@classes.txt" },
+                                               tempDir.toFile());
+    // WHEN
+    List<File> generatedFiles = GenerationCommand.of(line, tempDir.toFile())
+                                                 .execute(getClass().getClassLoader(), new BaseAssertionGenerator());
+    // THEN
+    Path generatedDir = tempDir.resolve("generated/my/assertions");
+    assertThat(generatedFiles).containsExactly(generatedDir.resolve("PlayerAssert.java").toFile(),
+                                               generatedDir.resolve("NameAssert.java").toFile(),
+                                               generatedDir.resolve("Assertions.java").toFile(),
+                                               generatedDir.resolve("BddAssertions.java").toFile());
+    assertThat(contentOf(generatedDir.resolve("Assertions.java").toFile())).contains("new my.assertions.PlayerAssert(actual)");
+  }
+
+  @Test
+  void should_only_generate_assertions_of_classes_compiled_after_their_assertions_with_incremental_option() throws Exception {
+    // GIVEN
+    CommandLine line = GenerationCommand.parse(GenerationCommand.options(),
+                                               new String[] { "--incremental", "--entry-points", "standard",
+                                                   Player.class.getName() },
+                                               tempDir.toFile());
+    GenerationCommand command = GenerationCommand.of(line, tempDir.toFile());
+    command.execute(getClass().getClassLoader(), new BaseAssertionGenerator());
+    // WHEN
+    List<File> generatedFiles = command.execute(getClass().getClassLoader(), new BaseAssertionGenerator());
+    // THEN
+    assertThat(generatedFiles).extracting(File::getName).containsExactly("Assertions.java");
+  }
+
+  @Test
+  void should_generate_list_assertions_referenced_by_the_entry_points_with_list_assertions_option() throws Exception {
+    // GIVEN
+    CommandLine line = GenerationCommand.parse(GenerationCommand.options(),
+                                               new String[] { "--list-assertions", "--entry-points", "standard",
+                                                   Player.class.getName() },
+                                               tempDir.toFile());
+    // WHEN
+    List<File> generatedFiles = GenerationCommand.of(line, tempDir.toFile())
+                                                 .execute(getClass().getClassLoader(), new BaseAssertionGenerator());
+    // THEN
+    assertThat(generatedFiles).extracting(File::getName).containsExactly("PlayerAssert.java", "PlayerListAssert.java",
+                                                                         "Assertions.java");
+    assertThat(contentOf(generatedFiles.get(1))).contains("public PlayerListAssert allAreRookie()");
+    assertThat(contentOf(generatedFiles.get(2))).contains("PlayerListAssert");
+  }
+
+  @Test
+  void should_generate_assert_that_any_entry_points_and_their_registry_with_assert_that_any_option() throws Exception {
+    // GIVEN
+    CommandLine line = GenerationCommand.parse(GenerationCommand.options(),
+                                               new String[] { "--assert-that-any", "--package", "my.assertions",
+                                                   "--entry-points", "standard", Player.class.getName() },
+                                               tempDir.toFile());
+    // WHEN
+    List<File> generatedFiles = GenerationCommand.of(line, tempDir.toFile())
+                                                 .execute(getClass().getClassLoader(), new BaseAssertionGenerator());
+    // THEN
+    Path generatedDir = tempDir.resolve("my/assertions");
+    assertThat(generatedFiles).containsExactly(generatedDir.resolve("PlayerAssert.java").toFile(),
+                                               generatedDir.resolve("Assertions.java").toFile(),
+                                               generatedDir.resolve("AssertionsRegistry.java").toFile());
+    assertThat(contentOf(generatedDir.resolve("Assertions.java").toFile())).contains("assertThatAny(Object actual)");
+    assertThat(contentOf(generatedDir.resolve("AssertionsRegistry.java").toFile())).contains("register("
+                                                                                             + Player.class.getName()
+                                                                                             + ".class");
+  }
+
+  @Test
+  void should_not_generate_assertions_of_reachable_classes_excluded_by_the_class_name_filter() throws Exception {
+    // GIVEN
+    CommandLine line = GenerationCommand.parse(GenerationCommand.options(),
+                                               new String[] { "--reachable", "--exclude", Name.class.getName(),
+                                                   Player.class.getName() },
+                                               tempDir.toFile());
+    // WHEN
+    List<File> generatedFiles = GenerationCommand.of(line, tempDir.toFile())
+                                                 .execute(getClass().getClassLoader(), new BaseAssertionGenerator());
+    // THEN
+    assertThat(generatedFiles).extracting(File::getName).containsExactly("PlayerAssert.java", "TeamAssert.java");
+  }
+
+  @Test
+  void should_write_generation_phases_report() throws Exception {
+    // GIVEN
+    CommandLine line = GenerationCommand.parse(GenerationCommand.options(),
+                                               new String[] { "--report", "report.json", "--entry-points", "standard",
+                                                   Player.class.getName(), Name.class.getName() },
+                                               tempDir.toFile());
+    // WHEN
+    GenerationCommand.of(line, tempDir.toFile()).execute(getClass().getClassLoader(), new BaseAssertionGenerator());
+    // THEN
+    assertThat(contentOf(tempDir.resolve("report.json").toFile())).contains("\"COLLECT_CLASSES\": { \"count\": 1,",
+                                                                           "\"CLASS_DESCRIPTION\": { \"count\": 2,",
+                                                                           "\"FILE_WRITE\": { \"count\": 3,",
+                                                                           "\"ASSERT_CLASS\": { \"count\": 2,",
+                                                                           "\"ASSERTIONS_ENTRY_POINT_CLASS\": { \"count\": 1,",
+                                                                           "{ \"subject\": \"" + Player.class.getName() + "\"",
+                                                                           "{ \"subject\": \"Assertions.java\"");
+  }
+
+  @Test
+  void should_generate_entry_points_of_all_shards_when_merging_shard_indexes() throws Exception {
+    // GIVEN
+    String[] classes = { Player.class.getName(), Name.class.getName(), Team.class.getName(), Coach.class.getName() };
+    List<File> shardsFiles = new ArrayList<>();
+    for (String shard : asList("0/2", "1/2")) {
+      String[] args = ArrayUtils.addAll(new String[] { "--shard", shard, "--shard-index", "shard" + shard.charAt(0) + ".txt",
+          "--entry-points", "standard" }, classes);
+      CommandLine line = GenerationCommand.parse(GenerationCommand.options(), args, tempDir.toFile());
+      shardsFiles.addAll(GenerationCommand.of(line, tempDir.toFile()).execute(getClass().getClassLoader(),
+                                                                              new BaseAssertionGenerator()));
+    }
+    CommandLine mergeLine = GenerationCommand.parse(GenerationCommand.options(),
+                                                    new String[] { "--merge-shards", "--entry-points", "standard",
+                                                        "@shard0.txt", "@shard1.txt" },
+                                                    tempDir.toFile());
+    // WHEN
+    List<File> mergedFiles = GenerationCommand.of(mergeLine, tempDir.toFile()).execute(getClass().getClassLoader(),
+                                                                                       new BaseAssertionGenerator());
+    // THEN
+    assertThat(shardsFiles).extracting(File::getName)
+                           .containsExactlyInAnyOrder("PlayerAssert.java", "NameAssert.java", "TeamAssert.java",
+                                                      "CoachAssert.java");
+    assertThat(mergedFiles).extracting(File::getName).containsExactly("Assertions.java");
+    assertThat(contentOf(mergedFiles.get(0))).contains("PlayerAssert(actual)", "NameAssert(actual)", "TeamAssert(actual)",
+                                                       "CoachAssert(actual)");
+  }
+
+  @Test
+  void should_delete_hierarchical_assertions_of_deleted_nested_class() throws Exception {
+    // GIVEN
+    CommandLine line = GenerationCommand.parse(GenerationCommand.options(),
+                                               new String[] { "-H", "org.assertj.assertions.generator.data" },
+                                               tempDir.toFile());
+    GenerationCommand command = GenerationCommand.of(line, tempDir.toFile());
+    Path generatedDir = Files.createDirectories(tempDir.resolve("org/assertj/assertions/generator/data"));
+    Files.write(generatedDir.resolve("OuterClassInnerPersonAssert.java"), asList("// generated"));
+    Files.write(generatedDir.resolve("AbstractOuterClassInnerPersonAssert.java"), asList("// generated"));
+    // WHEN
+    List<File> deletedFiles = command.deleteAssertionsOf("org.assertj.assertions.generator.data.OuterClass$InnerPerson");
+    // THEN
+    assertThat(command.covers("org.assertj.assertions.generator.data.OuterClass$InnerPerson")).isTrue();
+    assertThat(command.covers("org.assertj.assertions.generator.database.Table")).isFalse();
+    assertThat(deletedFiles).extracting(File::getName)
+                            .containsExactly("OuterClassInnerPersonAssert.java", "AbstractOuterClassInnerPersonAssert.java");
+    assertThat(generatedDir).isEmptyDirectory();
+  }
+
+  @Test
+  void should_reject_invalid_thread_count() throws Exception {
+    CommandLine line = GenerationCommand.parse(GenerationCommand.options(), new String[] { "--threads", "0" },
+                                               tempDir.toFile());
+    assertThatExceptionOfType(ParseException.class).isThrownBy(() -> GenerationCommand.of(line, tempDir.toFile()))
+                                                   .withMessageContaining("Invalid threads count '0'");
+  }
+
+}
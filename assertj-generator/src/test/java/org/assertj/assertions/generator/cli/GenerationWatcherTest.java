@@ -0,0 +1,136 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * Copyright 2012-2025 the original author or authors.
+ */
+package org.assertj.assertions.generator.cli;
+
+import org.apache.commons.cli.CommandLine;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.net.URL;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.function.BooleanSupplier;
+
+import javax.tools.ToolProvider;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.contentOf;
+
+class GenerationWatcherTest {
+
+  private static final long TIMEOUT_MILLIS = 10_000;
+
+  @TempDir
+  Path tempDir;
+
+  private Thread watcherThread;
+
+  @AfterEach
+  void stopWatcher() throws InterruptedException {
+    if (watcherThread == null) return;
+    watcherThread.interrupt();
+    watcherThread.join(TIMEOUT_MILLIS);
+  }
+
+  @Test
+  void should_regenerate_assertions_of_changed_class() throws Exception {
+    // GIVEN
+    compileParcel("public String getLabel() { return null; }");
+    Path parcelAssert = tempDir.resolve("generated/shipping/ParcelAssert.java");
+    startWatcher();
+    assertThat(parcelAssert).exists();
+    // WHEN
+    compileParcel("public int getWeight() { return 0; }");
+    // THEN
+    awaitUntil(() -> contentOf(parcelAssert.toFile()).contains("hasWeight(int weight)"));
+    assertThat(contentOf(parcelAssert.toFile())).doesNotContain("hasLabel");
+  }
+
+  @Test
+  void should_regenerate_entry_points_when_a_nested_class_of_a_watched_class_changes() throws Exception {
+    // GIVEN
+    compileParcel("public String getLabel() { return null; }");
+    Path entryPoint = tempDir.resolve("generated/shipping/Assertions.java");
+    startWatcher();
+    Files.delete(entryPoint);
+    // WHEN
+    Path nestedClassFile = tempDir.resolve("classes/shipping/Parcel$Tracking.class");
+    Files.write(nestedClassFile, Files.readAllBytes(nestedClassFile));
+    // THEN
+    awaitUntil(() -> Files.exists(entryPoint));
+  }
+
+  @Test
+  void should_keep_watching_after_a_failed_generation() throws Exception {
+    // GIVEN
+    compileParcel("public String getLabel() { return null; }");
+    Path parcelAssert = tempDir.resolve("generated/shipping/ParcelAssert.java");
+    startWatcher();
+    // the assertions file can't be written
+    Files.delete(parcelAssert);
+    Files.createDirectory(parcelAssert);
+    compileParcel("public int getWeight() { return 0; }");
+    Thread.sleep(GenerationWatcher.DEBOUNCE_MILLIS * 5);
+    awaitUntil(() -> watcherThread.getState() == Thread.State.WAITING);
+    Files.delete(parcelAssert);
+    // WHEN
+    compileParcel("public int getWeight() { return 0; }");
+    // THEN
+    awaitUntil(() -> Files.isRegularFile(parcelAssert) && contentOf(parcelAssert.toFile()).contains("hasWeight(int weight)"));
+    assertThat(watcherThread.isAlive()).isTrue();
+  }
+
+  private void startWatcher() throws Exception {
+    CommandLine line = GenerationCommand.parse(GenerationCommand.options(),
+                                               new String[] { "--output-dir", "generated", "--entry-points", "standard",
+                                                   "shipping.Parcel" },
+                                               tempDir.toFile());
+    GenerationWatcher watcher = new GenerationWatcher(GenerationCommand.of(line, tempDir.toFile()),
+                                                      getClass().getClassLoader(),
+                                                      new URL[] { tempDir.resolve("classes").toUri().toURL() });
+    watcherThread = new Thread(() -> {
+      try {
+        watcher.run();
+      } catch (IOException e) {
+        throw new IllegalStateException(e);
+      }
+    }, "generation-watcher");
+    watcherThread.start();
+    // changes are only seen once the first generation is done and the watcher waits for them
+    awaitUntil(() -> watcherThread.getState() == Thread.State.WAITING);
+  }
+
+  // the class only exists in the watched classpath directory, the test class loader can't see it
+  private void compileParcel(String getter) throws IOException {
+    Path source = tempDir.resolve("src/shipping/Parcel.java");
+    Files.createDirectories(source.getParent());
+    Files.write(source, ("package shipping; public class Parcel { " + getter
+                         + " public static class Tracking { public String getNumber() { return null; } } }")
+                                                                                                   .getBytes(StandardCharsets.UTF_8));
+    Path classes = Files.createDirectories(tempDir.resolve("classes"));
+    int status = ToolProvider.getSystemJavaCompiler().run(null, null, null, "-d", classes.toString(),
+                                                          source.toString());
+    assertThat(status).isZero();
+  }
+
+  private static void awaitUntil(BooleanSupplier condition) throws InterruptedException {
+    long deadline = System.currentTimeMillis() + TIMEOUT_MILLIS;
+    while (!condition.getAsBoolean()) {
+      assertThat(System.currentTimeMillis()).as("timeout waiting for the watcher").isLessThan(deadline);
+      Thread.sleep(50);
+    }
+  }
+}
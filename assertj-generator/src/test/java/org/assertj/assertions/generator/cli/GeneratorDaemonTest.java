@@ -0,0 +1,112 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * Copyright 2012-2025 the original author or authors.
+ */
+package org.assertj.assertions.generator.cli;
+
+import org.assertj.assertions.generator.data.nba.Player;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.ByteArrayOutputStream;
+import java.io.PrintStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.Arrays;
+import java.util.concurrent.CompletableFuture;
+
+import javax.tools.ToolProvider;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class GeneratorDaemonTest {
+
+  @TempDir
+  Path tempDir;
+
+  @Test
+  void should_generate_assertions_requested_by_client() throws Exception {
+    // GIVEN
+    Path socketFile = tempDir.resolve("generator.sock");
+    String classpath = Paths.get(Player.class.getProtectionDomain().getCodeSource().getLocation().toURI()).toString();
+    ByteArrayOutputStream output = new ByteArrayOutputStream();
+    try (GeneratorDaemon daemon = new GeneratorDaemon(socketFile)) {
+      CompletableFuture<Void> daemonRun = CompletableFuture.runAsync(() -> {
+        try {
+          daemon.run();
+        } catch (Exception e) {
+          throw new IllegalStateException(e);
+        }
+      });
+      // WHEN
+      int status = GeneratorDaemonClient.generate(socketFile, tempDir, classpath, Arrays.asList(Player.class.getName()),
+                                                  new PrintStream(output, true));
+      int invalidStatus = GeneratorDaemonClient.generate(socketFile, tempDir, classpath, Arrays.asList("--unknown"),
+                                                         new PrintStream(new ByteArrayOutputStream(), true));
+      // THEN
+      assertThat(status).isZero();
+      assertThat(invalidStatus).isEqualTo(1);
+      assertThat(tempDir.resolve("org/assertj/assertions/generator/data/nba/PlayerAssert.java")).exists();
+      assertThat(output.toString()).contains("PlayerAssert.java");
+      daemon.close();
+      daemonRun.get();
+    }
+    assertThat(socketFile).doesNotExist();
+  }
+
+  @Test
+  void should_see_request_classes_recompiled_between_two_requests() throws Exception {
+    // GIVEN
+    Path socketFile = tempDir.resolve("generator.sock");
+    Path classes = tempDir.resolve("classes");
+    Path assertFile = tempDir.resolve("shipping/ParcelAssert.java");
+    compileParcel("public String getLabel() { return null; }", classes);
+    try (GeneratorDaemon daemon = new GeneratorDaemon(socketFile)) {
+      CompletableFuture<Void> daemonRun = CompletableFuture.runAsync(() -> {
+        try {
+          daemon.run();
+        } catch (Exception e) {
+          throw new IllegalStateException(e);
+        }
+      });
+      int firstStatus = GeneratorDaemonClient.generate(socketFile, tempDir, classes.toString(),
+                                                       Arrays.asList("shipping.Parcel"),
+                                                       new PrintStream(new ByteArrayOutputStream(), true));
+      String firstAssertions = new String(Files.readAllBytes(assertFile), StandardCharsets.UTF_8);
+      // WHEN
+      compileParcel("public int getWeight() { return 0; }", classes);
+      int secondStatus = GeneratorDaemonClient.generate(socketFile, tempDir, classes.toString(),
+                                                        Arrays.asList("shipping.Parcel"),
+                                                        new PrintStream(new ByteArrayOutputStream(), true));
+      // THEN
+      assertThat(firstStatus).isZero();
+      assertThat(secondStatus).isZero();
+      assertThat(firstAssertions).contains("hasLabel(String label)").doesNotContain("hasWeight");
+      assertThat(assertFile).content().contains("hasWeight(int weight)").doesNotContain("hasLabel");
+      daemon.close();
+      daemonRun.get();
+    }
+  }
+
+  // the class only exists in the request classpath, the daemon class loader can't see it
+  private void compileParcel(String getter, Path classes) throws Exception {
+    Path source = tempDir.resolve("src/shipping/Parcel.java");
+    Files.createDirectories(source.getParent());
+    Files.write(source, ("package shipping; public class Parcel { " + getter + " }").getBytes(StandardCharsets.UTF_8));
+    Files.createDirectories(classes);
+    int status = ToolProvider.getSystemJavaCompiler().run(null, null, null, "-d", classes.toString(),
+                                                          source.toString());
+    assertThat(status).isZero();
+  }
+
+}
@@ -0,0 +1,112 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * Copyright 2012-2025 the original author or authors.
+ */
+package org.assertj.assertions.generator.cli;
+
+import org.assertj.assertions.generator.GenerateAssertion;
+import org.assertj.assertions.generator.data.lotr.Race;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStream;
+import java.net.URL;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.jar.JarEntry;
+import java.util.jar.JarOutputStream;
+
+import javax.sql.DataSource;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class IsolatedClassLoaderTest {
+
+  private static final String RACE_CLASS_FILE = Race.class.getName().replace('.', '/') + ".class";
+
+  @TempDir
+  private Path tempDir;
+
+  @Test
+  void should_load_classpath_classes_before_generator_ones() throws Exception {
+    // GIVEN
+    URL jar = jarOf("lotr.jar").toURI().toURL();
+    // WHEN
+    try (IsolatedClassLoader classLoader = new IsolatedClassLoader(new URL[] { jar }, getClass().getClassLoader())) {
+      Class<?> race = classLoader.loadClass(Race.class.getName());
+      // THEN
+      assertThat(race).isNotSameAs(Race.class);
+      assertThat(race.getClassLoader()).isSameAs(classLoader);
+      assertThat(race.getPackage().getName()).isEqualTo(Race.class.getPackage().getName());
+      assertThat(classLoader.loadClass(GenerateAssertion.class.getName())).isSameAs(GenerateAssertion.class);
+      assertThat(classLoader.loadClass(String.class.getName())).isSameAs(String.class);
+      assertThat(classLoader.getURLs()).containsExactly(jar);
+    }
+  }
+
+  @Test
+  void should_load_classes_of_the_jdk_packages_from_the_platform_class_loader_first() throws Exception {
+    // GIVEN
+    URL jar = jarOf("sql.jar", RACE_CLASS_FILE, "javax/sql/DataSource.class").toURI().toURL();
+    // WHEN
+    try (IsolatedClassLoader classLoader = new IsolatedClassLoader(new URL[] { jar }, getClass().getClassLoader())) {
+      Class<?> dataSource = classLoader.loadClass(DataSource.class.getName());
+      // THEN
+      assertThat(dataSource).isSameAs(DataSource.class);
+      assertThat(classLoader.loadClass(Race.class.getName()).getClassLoader()).isSameAs(classLoader);
+    }
+  }
+
+  @Test
+  void should_find_resources_in_classpath_order() throws Exception {
+    // GIVEN
+    URL jar = jarOf("lotr.jar").toURI().toURL();
+    Path directory = tempDir.resolve("classes");
+    Path classFile = directory.resolve(RACE_CLASS_FILE);
+    Files.createDirectories(classFile.getParent());
+    Files.write(classFile, raceClassBytes());
+    URL directoryUrl = directory.toUri().toURL();
+    // WHEN
+    try (IsolatedClassLoader directoryFirst = new IsolatedClassLoader(new URL[] { directoryUrl, jar }, null);
+         IsolatedClassLoader jarFirst = new IsolatedClassLoader(new URL[] { jar, directoryUrl }, null)) {
+      // THEN
+      assertThat(directoryFirst.getResource(RACE_CLASS_FILE)).hasProtocol("file");
+      assertThat(jarFirst.getResource(RACE_CLASS_FILE)).hasProtocol("jar");
+      assertThat(jarFirst.findResources(RACE_CLASS_FILE).hasMoreElements()).isTrue();
+      assertThat(jarFirst.getResource("org/assertj/assertions/generator/data/lotr/Missing.class")).isNull();
+    }
+  }
+
+  private File jarOf(String jarName) throws IOException {
+    return jarOf(jarName, RACE_CLASS_FILE);
+  }
+
+  // a jar whose entries all have the Race class bytes
+  private File jarOf(String jarName, String... classFiles) throws IOException {
+    File jar = tempDir.resolve(jarName).toFile();
+    try (JarOutputStream jarStream = new JarOutputStream(Files.newOutputStream(jar.toPath()))) {
+      for (String classFile : classFiles) {
+        jarStream.putNextEntry(new JarEntry(classFile));
+        jarStream.write(raceClassBytes());
+        jarStream.closeEntry();
+      }
+    }
+    return jar;
+  }
+
+  private static byte[] raceClassBytes() throws IOException {
+    try (InputStream raceClass = Race.class.getResourceAsStream("Race.class")) {
+      return raceClass.readAllBytes();
+    }
+  }
+}
@@ -0,0 +1,37 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * Copyright 2012-2025 the original author or authors.
+ */
+package org.assertj.assertions.generator.data;
+
+import java.util.List;
+
+/**
+ * A generic class whose public fields types refer to its type variable.
+ */
+public class Crate<T> {
+
+  public T content;
+  public List<T> contents;
+  public T[] stack;
+
+  public boolean isEmpty() {
+    return content == null;
+  }
+
+  public boolean wasOpened() {
+    return false;
+  }
+
+  public boolean doesNotHaveLid() {
+    return true;
+  }
+}
@@ -0,0 +1,34 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * Copyright 2012-2025 the original author or authors.
+ */
+package org.assertj.assertions.generator.data;
+
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * This is a class with map properties that clash with the parameters and variables of the map assertions.
+ */
+public class MapPropertyClash {
+
+  public Map<String, Integer> getValue() {
+    return new HashMap<>();
+  }
+
+  public Map<String, Integer> getKey() {
+    return new HashMap<>();
+  }
+
+  public Map<String, Integer> getMappedValue() {
+    return new HashMap<>();
+  }
+}
@@ -0,0 +1,31 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * Copyright 2012-2025 the original author or authors.
+ */
+package org.assertj.assertions.generator.data.fieldbyfield;
+
+import org.assertj.assertions.generator.data.BeanWithOneException;
+
+/**
+ * Holds a bean whose getters throw an exception, its own getter does not.
+ */
+public class BeanWithOneExceptionHolder {
+
+  private final BeanWithOneException bean;
+
+  public BeanWithOneExceptionHolder(BeanWithOneException bean) {
+    this.bean = bean;
+  }
+
+  public BeanWithOneException getBean() {
+    return bean;
+  }
+}
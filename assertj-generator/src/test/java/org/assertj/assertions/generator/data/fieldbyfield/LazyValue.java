@@ -0,0 +1,35 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * Copyright 2012-2025 the original author or authors.
+ */
+package org.assertj.assertions.generator.data.fieldbyfield;
+
+/**
+ * A value computed by its getter, which counts its calls.
+ */
+public class LazyValue {
+
+  private final String value;
+  private int valueReads;
+
+  public LazyValue(String value) {
+    this.value = value;
+  }
+
+  public String getValue() {
+    valueReads++;
+    return value;
+  }
+
+  public int valueReads() {
+    return valueReads;
+  }
+}
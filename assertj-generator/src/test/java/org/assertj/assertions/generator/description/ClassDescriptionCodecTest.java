@@ -0,0 +1,122 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * Copyright 2012-2025 the original author or authors.
+ */
+package org.assertj.assertions.generator.description;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatIllegalArgumentException;
+
+import java.nio.ByteBuffer;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+
+import org.assertj.assertions.generator.BaseAssertionGenerator;
+import org.assertj.assertions.generator.data.BeanWithOneException;
+import org.assertj.assertions.generator.data.BlockBuster;
+import org.assertj.assertions.generator.data.Movie;
+import org.assertj.assertions.generator.data.art.ArtWork;
+import org.assertj.assertions.generator.data.nba.Player;
+import org.assertj.assertions.generator.data.nba.team.Team;
+import org.assertj.assertions.generator.description.converter.ClassToClassDescriptionConverter;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import com.google.common.reflect.TypeToken;
+
+class ClassDescriptionCodecTest {
+
+  private static final ClassToClassDescriptionConverter converter = new ClassToClassDescriptionConverter();
+  private static final Set<TypeToken<?>> TYPES = new LinkedHashSet<>(List.of(TypeToken.of(Player.class),
+                                                                             TypeToken.of(Team.class),
+                                                                             TypeToken.of(ArtWork.class),
+                                                                             TypeToken.of(Movie.class),
+                                                                             TypeToken.of(BlockBuster.class),
+                                                                             TypeToken.of(BeanWithOneException.class)));
+
+  @TempDir
+  private Path tempDir;
+
+  @Test
+  void should_render_decoded_descriptions_as_the_reflective_ones() throws Exception {
+    // GIVEN
+    List<CompactClassDescription> classDescriptions = describe(TYPES);
+    BaseAssertionGenerator generator = new BaseAssertionGenerator();
+    generator.setGenerateSnapshots(true);
+    // WHEN
+    ByteBuffer encoding = ClassDescriptionCodec.encode(classDescriptions);
+    List<CompactClassDescription> decoded = ClassDescriptionCodec.decode(encoding);
+    // the comparators exceptions are resolved from the decoded descriptions, no class is described
+    generator.setGenerateFieldByFieldComparisonForDescriptions(decoded);
+    // THEN
+    assertThat(render(generator, decoded)).isEqualTo(render(generator, classDescriptions));
+  }
+
+  @Test
+  void should_write_and_read_descriptions_through_a_file() throws Exception {
+    // GIVEN
+    List<CompactClassDescription> classDescriptions = describe(TYPES);
+    Path file = tempDir.resolve("descriptions.bin");
+    // WHEN
+    ClassDescriptionCodec.write(classDescriptions, file);
+    List<CompactClassDescription> decoded = ClassDescriptionCodec.read(file);
+    // THEN
+    assertThat(decoded).extracting(CompactClassDescription::getTypeName)
+                       .containsExactly(classDescriptions.stream().map(CompactClassDescription::getTypeName)
+                                                         .toArray(String[]::new));
+    CompactClassDescription player = decoded.get(0);
+    assertThat(player.getType()).isNull();
+    assertThat(player.getDeclaredGettersDescriptions().get(0)).isSameAs(player.getGettersDescriptions().get(0));
+    assertThat(ClassDescriptionCodec.encode(decoded)).isEqualTo(ClassDescriptionCodec.encode(classDescriptions));
+  }
+
+  @Test
+  void should_fail_to_decode_an_unsupported_version() {
+    // GIVEN
+    ByteBuffer encoding = ClassDescriptionCodec.encode(describe(TYPES));
+    encoding.putShort(Integer.BYTES, (short) (ClassDescriptionCodec.VERSION + 1));
+    // WHEN/THEN
+    assertThatIllegalArgumentException().isThrownBy(() -> ClassDescriptionCodec.decode(encoding))
+                                        .withMessage("Unsupported class descriptions encoding version '2'");
+  }
+
+  @Test
+  void should_fail_to_decode_a_truncated_encoding() {
+    // GIVEN
+    ByteBuffer encoding = ClassDescriptionCodec.encode(describe(TYPES));
+    encoding.limit(encoding.limit() - 1);
+    // WHEN/THEN
+    assertThatIllegalArgumentException().isThrownBy(() -> ClassDescriptionCodec.decode(encoding))
+                                        .withMessage("Truncated class descriptions encoding");
+  }
+
+  private static List<CompactClassDescription> describe(Set<TypeToken<?>> types) {
+    List<CompactClassDescription> classDescriptions = new ArrayList<>();
+    for (TypeToken<?> type : types) {
+      classDescriptions.add(CompactClassDescription.of(converter.convertToClassDescription(type)));
+    }
+    return classDescriptions;
+  }
+
+  private static String render(BaseAssertionGenerator generator, List<CompactClassDescription> classDescriptions) {
+    StringBuilder content = new StringBuilder();
+    for (CompactClassDescription classDescription : classDescriptions) {
+      content.append(generator.generateCustomAssertionContentFor(classDescription));
+      String[] hierarchicalContent = generator.generateHierarchicalCustomAssertionContentFor(classDescription, TYPES);
+      content.append(String.join("", hierarchicalContent));
+      content.append(generator.generateListAssertionContentFor(classDescription));
+    }
+    return content.toString();
+  }
+}
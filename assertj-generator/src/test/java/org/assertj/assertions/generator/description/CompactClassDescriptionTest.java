@@ -0,0 +1,101 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * Copyright 2012-2025 the original author or authors.
+ */
+package org.assertj.assertions.generator.description;
+
+import static java.util.stream.Collectors.toList;
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.List;
+
+import org.assertj.assertions.generator.data.nba.Player;
+import org.assertj.assertions.generator.data.nba.team.Team;
+import org.assertj.assertions.generator.description.converter.ClassToClassDescriptionConverter;
+import org.junit.jupiter.api.Test;
+
+import com.google.common.reflect.TypeToken;
+
+class CompactClassDescriptionTest {
+
+  private static final ClassToClassDescriptionConverter converter = new ClassToClassDescriptionConverter();
+
+  @Test
+  void should_describe_the_class_as_the_class_description() {
+    // GIVEN
+    ClassDescription classDescription = converter.convertToClassDescription(TypeToken.of(Player.class));
+    // WHEN
+    CompactClassDescription compactDescription = CompactClassDescription.of(classDescription);
+    // THEN
+    assertThat(compactDescription.getType()).isEqualTo(classDescription.getType());
+    assertThat(compactDescription.getFullyQualifiedClassName()).isEqualTo(classDescription.getFullyQualifiedClassName());
+    assertThat(compactDescription.getAssertClassName()).isEqualTo("PlayerAssert");
+    assertThat(compactDescription.getAbstractAssertClassFilename()).isEqualTo("AbstractPlayerAssert.java");
+    assertThat(compactDescription.getFullyQualifiedParentAssertClassName())
+        .isEqualTo("org.assertj.core.api.AbstractObjectAssert");
+    assertThat(compactDescription.getGettersDescriptions()).extracting(CompactDataDescription::getMemberName)
+                                                           .containsExactlyElementsOf(memberNamesOf(classDescription));
+  }
+
+  @Test
+  void should_precompute_the_properties_names_and_flags() {
+    // GIVEN
+    ClassDescription classDescription = converter.convertToClassDescription(TypeToken.of(Player.class));
+    // WHEN
+    CompactClassDescription compactDescription = CompactClassDescription.of(classDescription);
+    // THEN
+    CompactDataDescription points = getter(compactDescription, "getPoints");
+    assertThat(points.getName()).isEqualTo("points");
+    assertThat(points.getTypeName()).isEqualTo("java.util.List");
+    assertThat(points.getElementTypeName()).isEqualTo("int[]");
+    assertThat(points.isIterableType()).isTrue();
+    assertThat(points.isPredicate()).isFalse();
+    assertThat(points.getPredicate()).isNull();
+    CompactDataDescription rookie = getter(compactDescription, "isRookie");
+    assertThat(rookie.isPredicate()).isTrue();
+    assertThat(rookie.isPrimitiveType()).isTrue();
+    assertThat(rookie.getNegativePredicate()).isEqualTo("isNotRookie");
+    assertThat(rookie.getPredicateForJavadoc()).isEqualTo("is rookie");
+    assertThat(rookie.hasNegativePredicateGetter()).isFalse();
+    CompactDataDescription previousTeams = compactDescription.getFieldsDescriptions().stream()
+                                                             .filter(field -> field.getName().equals("previousTeams"))
+                                                             .findFirst().get();
+    assertThat(previousTeams.isGetter()).isFalse();
+    assertThat(previousTeams.isPublic()).isTrue();
+    assertThat(previousTeams.getExceptions()).isEmpty();
+  }
+
+  @Test
+  void should_share_declared_properties_and_type_names() {
+    // GIVEN
+    ClassDescription player = converter.convertToClassDescription(TypeToken.of(Player.class));
+    ClassDescription team = converter.convertToClassDescription(TypeToken.of(Team.class));
+    // WHEN
+    CompactClassDescription compactPlayer = CompactClassDescription.of(player);
+    CompactClassDescription compactTeam = CompactClassDescription.of(team);
+    // THEN
+    assertThat(compactPlayer.getDeclaredGettersDescriptions().get(0))
+        .isSameAs(compactPlayer.getGettersDescriptions().get(0));
+    assertThat(getter(compactPlayer, "getTeam").getTypeName()).isSameAs(getter(compactTeam, "getName").getTypeName());
+  }
+
+  private static CompactDataDescription getter(CompactClassDescription classDescription, String memberName) {
+    return classDescription.getGettersDescriptions().stream()
+                           .filter(getter -> getter.getMemberName().equals(memberName))
+                           .findFirst().get();
+  }
+
+  private static List<String> memberNamesOf(ClassDescription classDescription) {
+    return classDescription.getGettersDescriptions().stream()
+                           .map(getter -> getter.getOriginalMember().getName())
+                           .collect(toList());
+  }
+}
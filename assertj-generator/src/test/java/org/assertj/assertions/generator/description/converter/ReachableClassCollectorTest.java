@@ -0,0 +1,55 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * Copyright 2012-2025 the original author or authors.
+ */
+package org.assertj.assertions.generator.description.converter;
+
+import com.google.common.reflect.TypeToken;
+import org.assertj.assertions.generator.data.Name;
+import org.assertj.assertions.generator.data.lotr.FellowshipOfTheRing;
+import org.assertj.assertions.generator.data.lotr.Race;
+import org.assertj.assertions.generator.data.lotr.TolkienCharacter;
+import org.assertj.assertions.generator.data.nba.Player;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.Set;
+
+import static java.util.Collections.emptyList;
+import static org.assertj.core.api.Assertions.assertThat;
+
+class ReachableClassCollectorTest {
+
+  private final ClassToClassDescriptionConverter converter = new ClassToClassDescriptionConverter();
+
+  @Test
+  void should_collect_classes_reachable_through_map_and_list_properties_types() {
+    // GIVEN
+    ReachableClassCollector collector = new ReachableClassCollector(converter, emptyList(), 1);
+    // WHEN
+    Set<TypeToken<?>> classes = collector.collect(List.of(TypeToken.of(FellowshipOfTheRing.class)));
+    // THEN
+    assertThat(classes).containsExactly(TypeToken.of(FellowshipOfTheRing.class), TypeToken.of(Race.class),
+                                        TypeToken.of(TolkienCharacter.class));
+  }
+
+  @Test
+  void should_stop_at_boundary_packages() {
+    // GIVEN
+    ReachableClassCollector collector = new ReachableClassCollector(converter,
+                                                                    List.of("org.assertj.assertions.generator.data.nba.team"),
+                                                                    4);
+    // WHEN
+    Set<TypeToken<?>> classes = collector.collect(List.of(TypeToken.of(Player.class)));
+    // THEN
+    assertThat(classes).containsExactly(TypeToken.of(Player.class), TypeToken.of(Name.class));
+  }
+}
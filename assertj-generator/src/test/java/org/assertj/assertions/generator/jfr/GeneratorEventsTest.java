@@ -0,0 +1,119 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * Copyright 2012-2025 the original author or authors.
+ */
+package org.assertj.assertions.generator.jfr;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static org.assertj.assertions.generator.util.ClassUtil.collectClasses;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.tuple;
+
+import java.io.IOException;
+import java.net.URL;
+import java.net.URLClassLoader;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Comparator;
+import java.util.List;
+import java.util.jar.JarEntry;
+import java.util.jar.JarOutputStream;
+
+import javax.tools.ToolProvider;
+
+import org.assertj.assertions.generator.BaseAssertionGenerator;
+import org.assertj.assertions.generator.data.nba.Player;
+import org.assertj.assertions.generator.description.converter.ClassToClassDescriptionConverter;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import jdk.jfr.Recording;
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordingFile;
+
+class GeneratorEventsTest {
+
+  @TempDir
+  Path tempDir;
+
+  @Test
+  void should_record_class_description_rendering_and_file_write_events() throws Exception {
+    // GIVEN
+    BaseAssertionGenerator generator = new BaseAssertionGenerator();
+    generator.setDirectoryWhereAssertionFilesAreGenerated(tempDir.toFile());
+    Path recordingFile = tempDir.resolve("generation.jfr");
+    // WHEN
+    try (Recording recording = new Recording()) {
+      recording.enable(ClassDescriptionEvent.class).withoutThreshold();
+      recording.enable(TemplateRenderingEvent.class).withoutThreshold();
+      recording.enable(FileWriteEvent.class).withoutThreshold();
+      recording.start();
+      generator.generateCustomAssertionFor(new ClassToClassDescriptionConverter().convertToClassDescription(Player.class));
+      recording.stop();
+      recording.dump(recordingFile);
+    }
+    // THEN
+    List<RecordedEvent> events = RecordingFile.readAllEvents(recordingFile);
+    events.sort(Comparator.comparing(RecordedEvent::getStartTime));
+    assertThat(events).extracting(event -> event.getEventType().getName())
+                      .containsExactly("org.assertj.generator.ClassDescription",
+                                       "org.assertj.generator.TemplateRendering",
+                                       "org.assertj.generator.FileWrite");
+    assertThat(events).allSatisfy(event -> assertThat(event.getString("className")).isEqualTo(Player.class.getName()));
+    assertThat(events.get(0).getInt("propertyCount")).isPositive();
+    assertThat(events.get(1).getString("templateType")).isEqualTo("ASSERT_CLASS");
+    assertThat(events.get(2).getLong("bytes")).isEqualTo(tempDir.resolve("org/assertj/assertions/generator/data/nba/PlayerAssert.java")
+                                                                .toFile().length());
+  }
+
+  @Test
+  void should_record_a_class_scan_event_per_classpath_jar() throws Exception {
+    // GIVEN
+    Path parcelJar = shippingJarOf("Parcel");
+    Path crateJar = shippingJarOf("Crate");
+    URL[] classpath = { parcelJar.toUri().toURL(), crateJar.toUri().toURL() };
+    Path recordingFile = tempDir.resolve("scan.jfr");
+    // WHEN
+    try (Recording recording = new Recording();
+         URLClassLoader classLoader = new URLClassLoader(classpath, ClassLoader.getPlatformClassLoader())) {
+      recording.enable(ClassScanEvent.class).withoutThreshold();
+      recording.start();
+      collectClasses(classLoader, "shipping");
+      recording.stop();
+      recording.dump(recordingFile);
+    }
+    // THEN
+    List<RecordedEvent> events = RecordingFile.readAllEvents(recordingFile);
+    assertThat(events).extracting(event -> event.getString("classpathRoot"), event -> event.getString("packageName"),
+                                  event -> event.getInt("classCount"))
+                      .containsExactlyInAnyOrder(tuple(parcelJar.toString(), "shipping", 1),
+                                                 tuple(crateJar.toString(), "shipping", 1));
+  }
+
+  // a jar without directory entries containing the shipping.<className> class
+  private Path shippingJarOf(String className) throws IOException {
+    Path source = tempDir.resolve("src/shipping/" + className + ".java");
+    Files.createDirectories(source.getParent());
+    String content = "package shipping; public class " + className + " { public String getLabel() { return null; } }";
+    Files.write(source, content.getBytes(UTF_8));
+    Path classes = tempDir.resolve(className + "-classes");
+    assertThat(ToolProvider.getSystemJavaCompiler().run(null, null, null, "-d", classes.toString(),
+                                                        source.toString())).isZero();
+    Path jar = tempDir.resolve(className + ".jar");
+    String classFile = "shipping/" + className + ".class";
+    try (JarOutputStream jarStream = new JarOutputStream(Files.newOutputStream(jar))) {
+      jarStream.putNextEntry(new JarEntry(classFile));
+      jarStream.write(Files.readAllBytes(classes.resolve(classFile)));
+      jarStream.closeEntry();
+    }
+    return jar;
+  }
+}
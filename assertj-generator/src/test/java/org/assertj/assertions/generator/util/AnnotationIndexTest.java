@@ -0,0 +1,80 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * Copyright 2012-2025 the original author or authors.
+ */
+package org.assertj.assertions.generator.util;
+
+import org.assertj.assertions.generator.GenerateAssertion;
+import org.assertj.assertions.generator.data.AnnotatedClass;
+import org.assertj.assertions.generator.data.AutoValue;
+import org.assertj.assertions.generator.data.AutoValueAnnotatedClass;
+import org.assertj.assertions.generator.data.nba.Player;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Set;
+import java.util.jar.JarEntry;
+import java.util.jar.JarOutputStream;
+
+import static java.util.Arrays.asList;
+import static java.util.Collections.singletonList;
+import static org.assertj.core.api.Assertions.assertThat;
+
+class AnnotationIndexTest {
+
+  @TempDir
+  private Path tempDir;
+
+  @Test
+  void should_find_classes_having_annotated_methods_or_annotated_classes_in_jar() throws Exception {
+    // GIVEN
+    File jar = jarOf(AnnotatedClass.class, AutoValueAnnotatedClass.class, Player.class);
+    AnnotationIndex annotationIndex = new AnnotationIndex(asList(GenerateAssertion.class.getName(),
+                                                                 AutoValue.class.getName()));
+    // WHEN
+    Set<String> annotatedClasses = annotationIndex.annotatedClassesOf(jar, "org.assertj.assertions.generator.data");
+    Set<String> annotatedNbaClasses = annotationIndex.annotatedClassesOf(jar, "org.assertj.assertions.generator.data.nba");
+    // THEN
+    assertThat(annotatedClasses).containsExactly(AnnotatedClass.class.getName(), AutoValueAnnotatedClass.class.getName());
+    assertThat(annotatedNbaClasses).isEmpty();
+  }
+
+  @Test
+  void should_not_find_classes_annotated_with_other_annotations() throws Exception {
+    // GIVEN
+    File jar = jarOf(AnnotatedClass.class, AutoValueAnnotatedClass.class);
+    AnnotationIndex annotationIndex = new AnnotationIndex(singletonList(AutoValue.class.getName()));
+    // WHEN
+    Set<String> annotatedClasses = annotationIndex.annotatedClassesOf(jar, "");
+    // THEN
+    assertThat(annotatedClasses).containsExactly(AutoValueAnnotatedClass.class.getName());
+  }
+
+  private File jarOf(Class<?>... classes) throws IOException {
+    File jar = tempDir.resolve("classes.jar").toFile();
+    try (JarOutputStream jarStream = new JarOutputStream(Files.newOutputStream(jar.toPath()))) {
+      for (Class<?> clazz : classes) {
+        String classFile = clazz.getName().replace('.', '/') + ".class";
+        jarStream.putNextEntry(new JarEntry(classFile));
+        try (InputStream classFileStream = clazz.getClassLoader().getResourceAsStream(classFile)) {
+          classFileStream.transferTo(jarStream);
+        }
+        jarStream.closeEntry();
+      }
+    }
+    return jar;
+  }
+}
@@ -0,0 +1,67 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * Copyright 2012-2025 the original author or authors.
+ */
+package org.assertj.assertions.generator.util;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static java.util.Collections.emptyList;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatIllegalArgumentException;
+
+class ClassNameFilterTest {
+
+  @Test
+  void should_select_classes_matching_include_globs_and_not_exclude_ones() {
+    // GIVEN
+    ClassNameFilter filter = new ClassNameFilter(List.of("com.nba.**"), List.of("**Impl", "com.nba.*.Test?"));
+    // THEN
+    assertThat(filter.accepts("com.nba.Player")).isTrue();
+    assertThat(filter.accepts("com.nba.team.Team")).isTrue();
+    assertThat(filter.accepts("com.nba.team.TestA")).isFalse();
+    assertThat(filter.accepts("com.nba.team.Testing")).isTrue();
+    assertThat(filter.accepts("com.nba.PlayerImpl")).isFalse();
+    assertThat(filter.accepts("com.lotr.Ring")).isFalse();
+    assertThat(filter.getExcludedClasses()).isEqualTo(3);
+  }
+
+  @Test
+  void should_select_classes_with_regex() {
+    // GIVEN
+    ClassNameFilter filter = new ClassNameFilter(emptyList(), List.of("regex:.*\\$.*"));
+    // THEN
+    assertThat(filter.accepts("com.nba.Player")).isTrue();
+    assertThat(filter.accepts("com.nba.Player$Agent")).isFalse();
+  }
+
+  @Test
+  void should_exclude_packages_excluded_with_all_their_sub_packages() {
+    // GIVEN
+    ClassNameFilter filter = new ClassNameFilter(emptyList(), List.of("com.*.generated.**", "regex:com\\.lotr\\..*"));
+    // THEN
+    assertThat(filter.excludesPackage("com.nba.generated")).isTrue();
+    assertThat(filter.excludesPackage("com.nba.generated.team")).isTrue();
+    assertThat(filter.excludesPackage("com.nba.generatedteam")).isFalse();
+    assertThat(filter.excludesPackage("com.nba")).isFalse();
+    // regular expressions don't exclude packages, their classes are filtered one by one
+    assertThat(filter.excludesPackage("com.lotr")).isFalse();
+    assertThat(filter.getSkippedPackages()).isEqualTo(2);
+  }
+
+  @Test
+  void should_fail_on_blank_pattern() {
+    assertThatIllegalArgumentException().isThrownBy(() -> new ClassNameFilter(List.of(" "), emptyList()))
+                                        .withMessageContaining("must not be blank");
+  }
+}
@@ -16,7 +16,11 @@ import com.google.common.base.Function;
 import com.google.common.collect.Lists;
 import com.google.common.reflect.TypeToken;
 import org.assertj.assertions.generator.AssertionGeneratorTest;
+import org.assertj.assertions.generator.GenerateAssertion;
 import org.assertj.assertions.generator.NestedClassesTest;
+import org.assertj.assertions.generator.data.AnnotatedClass;
+import org.assertj.assertions.generator.data.AutoValue;
+import org.assertj.assertions.generator.data.AutoValueAnnotatedClass;
 import org.assertj.assertions.generator.data.BeanWithOneException;
 import org.assertj.assertions.generator.data.BeanWithTwoExceptions;
 import org.assertj.assertions.generator.data.Dollar$;
@@ -41,19 +45,31 @@ import org.assertj.assertions.generator.description.Visibility;
 import org.assertj.core.api.BooleanAssert;
 import org.junit.jupiter.api.Disabled;
 import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
 import org.junit.jupiter.params.ParameterizedTest;
 import org.junit.jupiter.params.provider.FieldSource;
 
 import java.lang.reflect.Field;
 import java.lang.reflect.Method;
 import java.lang.reflect.ParameterizedType;
+import java.net.URL;
+import java.net.URLClassLoader;
+import java.nio.file.Files;
+import java.nio.file.Path;
 import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.List;
 import java.util.Set;
+import java.util.jar.JarEntry;
+import java.util.jar.JarOutputStream;
 
+import javax.tools.ToolProvider;
+
+import static com.google.common.collect.Sets.newHashSet;
+import static java.nio.charset.StandardCharsets.UTF_8;
 import static java.util.Arrays.asList;
+import static org.assertj.assertions.generator.util.ClassUtil.collectAnnotatedClasses;
 import static org.assertj.assertions.generator.util.ClassUtil.collectClasses;
 import static org.assertj.assertions.generator.util.ClassUtil.declaredGetterMethodsOf;
 import static org.assertj.assertions.generator.util.ClassUtil.getAllFieldsInHierarchy;
@@ -125,6 +141,116 @@ class ClassUtilTest implements NestedClassesTest {
     assertThat(classesInPackage).containsAll(Lists.transform(classes, TYPE_TOKEN_TRANSFORM));
   }
 
+  @Test
+  void should_only_get_annotated_classes_in_package_and_subpackages() {
+    // GIVEN
+    Set<Class<?>> annotations = newHashSet(GenerateAssertion.class, AutoValue.class);
+    // WHEN
+    Set<TypeToken<?>> annotatedClasses = collectAnnotatedClasses(getClass().getClassLoader(), annotations,
+                                                                 "org.assertj.assertions.generator.data",
+                                                                 Movie.class.getName());
+    // THEN
+    assertThat(annotatedClasses).containsOnly(TypeToken.of(AnnotatedClass.class),
+                                              TypeToken.of(AutoValueAnnotatedClass.class),
+                                              TypeToken.of(Movie.class));
+  }
+
+  @Test
+  void should_get_annotated_classes_of_the_default_package(@TempDir Path tempDir) throws Exception {
+    // GIVEN
+    Path source = Files.write(tempDir.resolve("Parcel.java"),
+                              ("@org.assertj.assertions.generator.GenerateAssertion"
+                               + " public class Parcel { public int getWeight() { return 1; } }").getBytes(UTF_8));
+    Path classes = Files.createDirectories(tempDir.resolve("classes"));
+    int status = ToolProvider.getSystemJavaCompiler().run(null, null, null, "-d", classes.toString(), "-cp",
+                                                          System.getProperty("java.class.path"), source.toString());
+    assertThat(status).isZero();
+    // the directory containing the classpath root is not scanned, its truncated class file would fail the scan
+    Files.write(tempDir.resolve("Broken.class"), new byte[] { (byte) 0xCA, (byte) 0xFE, (byte) 0xBA, (byte) 0xBE });
+    Set<Class<?>> annotations = newHashSet(GenerateAssertion.class);
+    // WHEN
+    Set<TypeToken<?>> annotatedClasses;
+    try (URLClassLoader classLoader = new URLClassLoader(new URL[] { classes.toUri().toURL() },
+                                                         ClassLoader.getPlatformClassLoader())) {
+      annotatedClasses = collectAnnotatedClasses(classLoader, annotations, "");
+    }
+    // THEN
+    assertThat(annotatedClasses).extracting(type -> type.getRawType().getName()).containsExactly("Parcel");
+  }
+
+  @Test
+  void should_get_annotated_classes_of_a_jar_without_directory_entries(@TempDir Path tempDir) throws Exception {
+    // GIVEN
+    Path source = Files.write(tempDir.resolve("Parcel.java"),
+                              ("package shipping; @org.assertj.assertions.generator.GenerateAssertion"
+                               + " public class Parcel { public int getWeight() { return 1; } }").getBytes(UTF_8));
+    Path classes = Files.createDirectories(tempDir.resolve("classes"));
+    int status = ToolProvider.getSystemJavaCompiler().run(null, null, null, "-d", classes.toString(), "-cp",
+                                                          System.getProperty("java.class.path"), source.toString());
+    assertThat(status).isZero();
+    // only the class entry is written, the jar has no shipping/ directory entry to be found as a resource
+    Path jar = tempDir.resolve("shipping.jar");
+    try (JarOutputStream jarOutput = new JarOutputStream(Files.newOutputStream(jar))) {
+      jarOutput.putNextEntry(new JarEntry("shipping/Parcel.class"));
+      jarOutput.write(Files.readAllBytes(classes.resolve("shipping/Parcel.class")));
+      jarOutput.closeEntry();
+    }
+    Set<Class<?>> annotations = newHashSet(GenerateAssertion.class);
+    // WHEN
+    Set<TypeToken<?>> annotatedClasses;
+    try (URLClassLoader classLoader = new URLClassLoader(new URL[] { jar.toUri().toURL() },
+                                                         ClassLoader.getPlatformClassLoader())) {
+      annotatedClasses = collectAnnotatedClasses(classLoader, annotations, "shipping");
+    }
+    // THEN
+    assertThat(annotatedClasses).extracting(type -> type.getRawType().getName()).containsExactly("shipping.Parcel");
+  }
+
+  @Test
+  void should_load_again_cached_classes_that_failed_to_load(@TempDir Path tempDir) throws Exception {
+    // GIVEN
+    Path baseSource = Files.write(tempDir.resolve("Box.java"), "package base; public class Box {}".getBytes(UTF_8));
+    Path parcelSource = Files.write(tempDir.resolve("Parcel.java"),
+                                    "package shipping; public class Parcel extends base.Box {}".getBytes(UTF_8));
+    Path baseClasses = Files.createDirectories(tempDir.resolve("base-classes"));
+    Path shippingClasses = Files.createDirectories(tempDir.resolve("shipping-classes"));
+    assertThat(ToolProvider.getSystemJavaCompiler().run(null, null, null, "-d", baseClasses.toString(),
+                                                        baseSource.toString())).isZero();
+    assertThat(ToolProvider.getSystemJavaCompiler().run(null, null, null, "-d", shippingClasses.toString(), "-cp",
+                                                        baseClasses.toString(), parcelSource.toString())).isZero();
+    ClasspathScanCache scanCache = ClasspathScanCache.load(tempDir.resolve("scan-cache.txt"));
+    // Parcel can't be loaded without its super class
+    try (URLClassLoader classLoader = new URLClassLoader(new URL[] { shippingClasses.toUri().toURL() },
+                                                         ClassLoader.getPlatformClassLoader())) {
+      assertThat(collectClasses(classLoader, scanCache, "shipping")).isEmpty();
+    }
+    // WHEN
+    Set<TypeToken<?>> classes;
+    try (URLClassLoader classLoader = new URLClassLoader(new URL[] { shippingClasses.toUri().toURL(),
+                                                                     baseClasses.toUri().toURL() },
+                                                         ClassLoader.getPlatformClassLoader())) {
+      classes = collectClasses(classLoader, scanCache, "shipping");
+    }
+    // THEN
+    assertThat(classes).extracting(type -> type.getRawType().getName()).containsExactly("shipping.Parcel");
+    assertThat(scanCache.getReusedRoots()).isEqualTo(1);
+  }
+
+  @Test
+  void should_only_collect_classes_selected_by_filter() {
+    // GIVEN
+    ClassNameFilter filter = new ClassNameFilter(asList("**.lotr.**", "**.nba.**"),
+                                                 asList("**Ring", "org.assertj.assertions.generator.data.nba.**"));
+    // WHEN
+    Set<TypeToken<?>> classes = collectClasses(getClass().getClassLoader(), filter, null,
+                                               "org.assertj.assertions.generator.data", Movie.class.getName());
+    // THEN
+    assertThat(classes).containsOnly(TypeToken.of(Race.class), TypeToken.of(TolkienCharacter.class),
+                                     TypeToken.of(Movie.class));
+    assertThat(filter.getSkippedPackages()).isPositive();
+    assertThat(filter.getExcludedClasses()).isPositive();
+  }
+
   @Test
   void should_get_private_classes_when_included() {
     ClassLoader classLoader = Thread.currentThread().getContextClassLoader();
@@ -0,0 +1,82 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * Copyright 2012-2025 the original author or authors.
+ */
+package org.assertj.assertions.generator.util;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.File;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.FileTime;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class ClasspathScanCacheTest {
+
+  @TempDir
+  private Path tempDir;
+
+  @Test
+  void should_reuse_classes_of_unchanged_roots_saved_by_previous_generation() throws Exception {
+    // GIVEN
+    File jar = Files.write(tempDir.resolve("nba.jar"), new byte[] { 1, 2, 3 }).toFile();
+    Path cacheFile = tempDir.resolve("scan-cache.txt");
+    ClasspathScanCache cache = ClasspathScanCache.load(cacheFile);
+    Map<String, Boolean> classes = new LinkedHashMap<>();
+    classes.put("com.nba.Player", true);
+    classes.put("com.nba.PlayerAgent", false);
+    cache.put(jar, "com.nba", ClasspathScanCache.fingerprintOf(jar), classes);
+    cache.save();
+    // WHEN
+    ClasspathScanCache loadedCache = ClasspathScanCache.load(cacheFile);
+    // THEN
+    assertThat(loadedCache.get(jar, "com.nba", ClasspathScanCache.fingerprintOf(jar))).containsExactlyEntriesOf(classes);
+    assertThat(loadedCache.get(jar, "com.lotr", ClasspathScanCache.fingerprintOf(jar))).isNull();
+    assertThat(loadedCache.getReusedRoots()).isEqualTo(1);
+    assertThat(loadedCache.getRescannedRoots()).isZero();
+  }
+
+  @Test
+  void should_rescan_roots_changed_since_they_were_cached() throws Exception {
+    // GIVEN
+    Path directory = Files.createDirectories(tempDir.resolve("classes/com/nba"));
+    Path classFile = Files.write(directory.resolve("Player.class"), new byte[] { 1, 2, 3 });
+    String fingerprint = ClasspathScanCache.fingerprintOf(directory.toFile());
+    ClasspathScanCache cache = ClasspathScanCache.load(tempDir.resolve("scan-cache.txt"));
+    cache.put(directory.toFile(), "com.nba", fingerprint, Map.of("com.nba.Player", true));
+    // WHEN
+    Files.setLastModifiedTime(classFile, FileTime.fromMillis(Files.getLastModifiedTime(classFile).toMillis() - 10_000));
+    String changedFingerprint = ClasspathScanCache.fingerprintOf(directory.toFile());
+    // THEN
+    assertThat(changedFingerprint).isNotEqualTo(fingerprint);
+    assertThat(cache.get(directory.toFile(), "com.nba", changedFingerprint)).isNull();
+    assertThat(cache.getReusedRoots()).isZero();
+    assertThat(cache.getRescannedRoots()).isEqualTo(1);
+  }
+
+  @Test
+  void should_ignore_cache_file_written_by_another_version() throws Exception {
+    // GIVEN
+    File jar = Files.write(tempDir.resolve("nba.jar"), new byte[] { 1, 2, 3 }).toFile();
+    Path cacheFile = Files.write(tempDir.resolve("scan-cache.txt"),
+                                 ("# assertj-generator classpath scan cache 0\nroot\t" + jar.getAbsolutePath()
+                                  + "\tcom.nba\t" + ClasspathScanCache.fingerprintOf(jar) + "\n+com.nba.Player\n").getBytes());
+    // WHEN
+    ClasspathScanCache cache = ClasspathScanCache.load(cacheFile);
+    // THEN
+    assertThat(cache.get(jar, "com.nba", ClasspathScanCache.fingerprintOf(jar))).isNull();
+  }
+}
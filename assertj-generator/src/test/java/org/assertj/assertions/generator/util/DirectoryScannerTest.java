@@ -0,0 +1,63 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * Copyright 2012-2025 the original author or authors.
+ */
+package org.assertj.assertions.generator.util;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class DirectoryScannerTest {
+
+  @TempDir
+  private Path tempDir;
+
+  @Test
+  void should_list_classes_of_directory_and_sub_directories() throws Exception {
+    // GIVEN
+    Path directory = tempDir.resolve("com/nba");
+    createFiles(directory, "Player.class", "Player$Agent.class", "README.txt", "team/Team.class", "team/Coach.class",
+                "league/League.class", "empty/");
+    // WHEN
+    List<String> classNames = new DirectoryScanner(2).classNamesOf(directory.toFile(), "com.nba");
+    // THEN
+    assertThat(classNames).containsExactly("com.nba.Player", "com.nba.Player$Agent", "com.nba.league.League",
+                                           "com.nba.team.Coach", "com.nba.team.Team");
+  }
+
+  @Test
+  void should_follow_directory_links_except_those_to_a_parent_directory() throws Exception {
+    // GIVEN
+    Path directory = tempDir.resolve("com/nba");
+    createFiles(directory, "Player.class", "team/Team.class");
+    Files.createSymbolicLink(directory.resolve("franchise"), directory.resolve("team"));
+    Files.createSymbolicLink(directory.resolve("team/league"), directory);
+    // WHEN
+    List<String> classNames = new DirectoryScanner(2).classNamesOf(directory.toFile(), "com.nba");
+    // THEN
+    assertThat(classNames).containsExactly("com.nba.Player", "com.nba.franchise.Team", "com.nba.team.Team");
+  }
+
+  private static void createFiles(Path directory, String... paths) throws IOException {
+    for (String path : paths) {
+      Path file = directory.resolve(path);
+      Files.createDirectories(path.endsWith("/") ? file : file.getParent());
+      if (!path.endsWith("/")) Files.createFile(file);
+    }
+  }
+}
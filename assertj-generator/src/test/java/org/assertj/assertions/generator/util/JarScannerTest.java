@@ -0,0 +1,89 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * Copyright 2012-2025 the original author or authors.
+ */
+package org.assertj.assertions.generator.util;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.File;
+import java.io.IOException;
+import java.net.URL;
+import java.net.URLClassLoader;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.Set;
+import java.util.jar.Attributes;
+import java.util.jar.JarEntry;
+import java.util.jar.JarOutputStream;
+import java.util.jar.Manifest;
+
+import static java.util.Arrays.asList;
+import static org.assertj.core.api.Assertions.assertThat;
+
+class JarScannerTest {
+
+  @TempDir
+  private Path tempDir;
+
+  @Test
+  void should_list_top_level_classes_of_package_in_jars() throws Exception {
+    // GIVEN
+    File jar = jarOf("nba.jar", null, "com/nba/Player.class", "com/nba/Player$Agent.class", "com/nba/package-info.class",
+                     "com/nba/team/Team.class", "com/nbaplus/Fan.class", "com/nba/README.txt");
+    File otherJar = jarOf("lotr.jar", null, "com/lotr/Ring.class", "com/nba/Coach.class");
+    // WHEN
+    Set<String> classNames = new JarScanner(2).topLevelClassNamesOf(asList(jar, otherJar), "com.nba");
+    // THEN
+    assertThat(classNames).containsExactly("com.nba.Coach", "com.nba.Player", "com.nba.team.Team");
+  }
+
+  @Test
+  void should_list_entries_names_starting_with_prefix() throws Exception {
+    // GIVEN
+    File jar = jarOf("nba.jar", null, "com/nba/Player.class", "com/lotr/Ring.class", "com/nba/team/Team.class");
+    // WHEN
+    List<String> entryNames = JarScanner.entryNamesOf(jar, "com/nba/");
+    // THEN
+    assertThat(entryNames).containsExactly("com/nba/Player.class", "com/nba/team/Team.class");
+  }
+
+  @Test
+  void should_find_classpath_jars_including_manifest_class_path() throws Exception {
+    // GIVEN
+    File referencedJar = jarOf("referenced.jar", null, "com/nba/Player.class");
+    File jar = jarOf("main.jar", "referenced.jar", "com/lotr/Ring.class");
+    // WHEN
+    Set<File> jars;
+    try (URLClassLoader classLoader = new URLClassLoader(new URL[] { jar.toURI().toURL() }, null)) {
+      jars = JarScanner.classpathJarsOf(classLoader);
+    }
+    // THEN
+    assertThat(jars).containsExactly(jar.getAbsoluteFile(), referencedJar.getAbsoluteFile());
+  }
+
+  private File jarOf(String jarName, String manifestClassPath, String... entries) throws IOException {
+    File jar = tempDir.resolve(jarName).toFile();
+    Manifest manifest = new Manifest();
+    manifest.getMainAttributes().put(Attributes.Name.MANIFEST_VERSION, "1.0");
+    if (manifestClassPath != null) manifest.getMainAttributes().put(Attributes.Name.CLASS_PATH, manifestClassPath);
+    try (JarOutputStream jarStream = new JarOutputStream(Files.newOutputStream(jar.toPath()), manifest)) {
+      for (String entry : entries) {
+        jarStream.putNextEntry(new JarEntry(entry));
+        jarStream.write(new byte[] { 1, 2, 3 });
+        jarStream.closeEntry();
+      }
+    }
+    return jar;
+  }
+}